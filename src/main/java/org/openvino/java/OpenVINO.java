@@ -1,6 +1,7 @@
 package org.openvino.java;
 
 import com.sun.jna.ptr.PointerByReference;
+import org.openvino.java.base.NativeCleaner;
 import org.openvino.java.base.OpenVINOCls;
 import org.openvino.java.core.VINO;
 import org.openvino.java.dao.ExceptionStatusListener;
@@ -24,7 +25,7 @@ public class OpenVINO extends OpenVINOCls {
 
     private static OpenVINO openVINO = new OpenVINO();
 
-    private static ExceptionStatusListener listener;
+    private static volatile ExceptionStatusListener listener;
 
     private static boolean initialized;
 
@@ -48,6 +49,18 @@ public class OpenVINO extends OpenVINOCls {
         return openVINO;
     }
 
+    /**
+     * @param path   Path of the library, or null for the default name of the current system.
+     * @param direct true to bind the per-inference calls with JNA direct mapping instead of the interface proxy.
+     * @return openVINO
+     */
+    public static OpenVINO load(String path, boolean direct) {
+        OpenVINO openVINO = new OpenVINO();
+        OpenVINO.core = VINO.load(path, direct);
+        OpenVINO.initialized = true;
+        return openVINO;
+    }
+
     /**
      * Load from local compressed package
      * This function will automatically extract to ~/{user}/.openVINO/{version}/
@@ -107,6 +120,16 @@ public class OpenVINO extends OpenVINOCls {
         return core;
     }
 
+    /**
+     * Record where every OpenVINO object is allocated, so objects released by the cleaner instead of close()
+     * are reported with their allocation site. Same as starting the JVM with -Dopenvino.leakTracking=true.
+     *
+     * @param enable true to record allocation sites.
+     */
+    public static void setLeakTracking(boolean enable) {
+        NativeCleaner.setLeakTracking(enable);
+    }
+
     @Override
     protected void dispose() {
 
@@ -176,6 +199,15 @@ public class OpenVINO extends OpenVINOCls {
         }
     }
 
+    /**
+     * Get the listener notified of every failed call.
+     *
+     * @return The listener, or null if none is registered.
+     */
+    public static ExceptionStatusListener getExceptionListener() {
+        return listener;
+    }
+
     /**
      *
      */
@@ -0,0 +1,179 @@
+package org.openvino.java.base;
+
+import org.openvino.java.OpenVINO;
+import org.openvino.java.dao.ExceptionStatusListener;
+
+import java.lang.ref.PhantomReference;
+import java.lang.ref.ReferenceQueue;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Safety net releasing the native handle of an OpenVINO object that became unreachable without being closed.
+ * This is the Java 8 equivalent of java.lang.ref.Cleaner: a daemon thread runs the release action of every
+ * registered object once it is phantom reachable. Actions must not reference the object they release.
+ * With leak tracking enabled, the allocation site of each object is recorded and reported when the
+ * cleaner has to release it. Reports go to the ExceptionStatusListener set on OpenVINO; without a listener
+ * they are printed to the standard error, and only with leak tracking enabled.
+ */
+public final class NativeCleaner {
+
+    private static final ReferenceQueue<Object> QUEUE = new ReferenceQueue<>();
+
+    /**
+     * Registered objects that are neither closed nor cleaned. Keeps the phantom references reachable.
+     */
+    private static final Set<Cleanable> LIVE = ConcurrentHashMap.newKeySet();
+
+    private static volatile boolean leakTracking = Boolean.getBoolean("openvino.leakTracking");
+
+    static {
+        Thread thread = new Thread(NativeCleaner::run, "openvino-cleaner");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private NativeCleaner() {
+    }
+
+    private static void run() {
+        while (true) {
+            Cleanable cleanable;
+            try {
+                cleanable = (Cleanable) QUEUE.remove();
+            } catch (InterruptedException ignored) {
+                // the cleaner thread lives as long as the JVM
+                continue;
+            }
+            try {
+                if (cleanable.clean() && cleanable.allocationSite != null && !cleanable.expected) {
+                    report("LEAK", cleanable.type, "was not closed and has been released by the cleaner", cleanable.allocationSite);
+                }
+            } catch (Throwable e) {
+                try {
+                    report("CLEANER_ERROR", cleanable.type, "release failed: " + e, e);
+                } catch (Throwable ignored) {
+                    // a failing listener must not stop the cleaner thread
+                }
+            }
+        }
+    }
+
+    /**
+     * Report a released leak or a failed release on the cleaner thread.
+     */
+    private static void report(String type, String source, String error, Throwable trace) {
+        ExceptionStatusListener listener = OpenVINO.getExceptionListener();
+        if (listener != null) {
+            listener.exception(type, source, error);
+        } else if (leakTracking) {
+            System.err.println("OpenVINO: " + source + " " + error);
+            trace.printStackTrace();
+        }
+    }
+
+    /**
+     * Register the release action of an object.
+     *
+     * @param owner  The object owning the native handle.
+     * @param type   Type name of the object, used in leak reports.
+     * @param action Releases the native handle. Must not reference the owner.
+     * @return The registration, to be discarded when the owner is closed explicitly.
+     */
+    public static Cleanable register(Object owner, String type, Runnable action) {
+        Cleanable cleanable = new Cleanable(owner, type, action,
+                leakTracking ? new Throwable(type + " allocated here") : null);
+        LIVE.add(cleanable);
+        return cleanable;
+    }
+
+    /**
+     * Enable or disable recording the allocation site of every object registered afterwards.
+     * Can also be enabled at startup with -Dopenvino.leakTracking=true.
+     *
+     * @param enable true to record allocation sites.
+     */
+    public static void setLeakTracking(boolean enable) {
+        leakTracking = enable;
+    }
+
+    public static boolean isLeakTracking() {
+        return leakTracking;
+    }
+
+    /**
+     * Get the allocation sites of the tracked objects that are still holding native memory.
+     * Objects left to the cleaner on purpose are not included.
+     *
+     * @return One stack trace per unreleased object.
+     */
+    public static List<Throwable> getUnreleased() {
+        List<Throwable> sites = new ArrayList<>();
+        for (Cleanable cleanable : LIVE) {
+            if (cleanable.allocationSite != null && !cleanable.expected) {
+                sites.add(cleanable.allocationSite);
+            }
+        }
+        return sites;
+    }
+
+    /**
+     * The registration of one object.
+     */
+    public static final class Cleanable extends PhantomReference<Object> {
+
+        private final String type;
+
+        private final Runnable action;
+
+        private final Throwable allocationSite;
+
+        private final AtomicBoolean done = new AtomicBoolean();
+
+        /**
+         * Set when the owner leaves the release to the cleaner on purpose, so it is not reported as a leak.
+         */
+        private volatile boolean expected;
+
+        private Cleanable(Object owner, String type, Runnable action, Throwable allocationSite) {
+            super(owner, QUEUE);
+            this.type = type;
+            this.action = action;
+            this.allocationSite = allocationSite;
+        }
+
+        /**
+         * Run the release action unless it already ran or the registration was discarded.
+         *
+         * @return true if the action ran.
+         */
+        boolean clean() {
+            if (!done.compareAndSet(false, true)) {
+                return false;
+            }
+            LIVE.remove(this);
+            action.run();
+            return true;
+        }
+
+        /**
+         * Leave the release to the cleaner: the action runs once the owner is unreachable, without a leak report.
+         */
+        void expect() {
+            expected = true;
+        }
+
+        /**
+         * Drop the registration without running the action, after the owner released the handle itself.
+         */
+        void discard() {
+            if (done.compareAndSet(false, true)) {
+                LIVE.remove(this);
+                clear();
+            }
+        }
+    }
+}
@@ -1,15 +1,24 @@
 package org.openvino.java.base;
 
+import com.sun.jna.Native;
 import com.sun.jna.Pointer;
 import com.sun.jna.ptr.PointerByReference;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
 import org.openvino.java.OpenVINO;
 import org.openvino.java.core.VINO;
 import org.openvino.java.dao.ExceptionStatusListener;
 import org.openvino.java.enums.ExceptionStatus;
+import org.openvino.java.exception.OvException;
+
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @Data
-public abstract class OpenVINOCls {
+public abstract class OpenVINOCls implements AutoCloseable {
 
     private PointerByReference vinoObj;
 
@@ -17,6 +26,39 @@ public abstract class OpenVINOCls {
 
     private String type;
 
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    /**
+     * Registration with the NativeCleaner, or null if the object owns no native handle.
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private volatile NativeCleaner.Cleanable cleanable;
+
+    /**
+     * Set when another object owns this one and releases it, so close from callers is a no-op.
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private volatile boolean owned;
+
+    /**
+     * The last handle returned by getValue, reused while vinoObj holds the same address.
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private volatile Pointer handle;
+
     public OpenVINOCls(String type) {
         vino = OpenVINO.getCore();
         initVINOObj();
@@ -33,48 +75,27 @@ public abstract class OpenVINOCls {
      * verify if an exception occurred when calling the function
      *
      * @param status the state returned by the function
-     * @throws RuntimeException If the status is not OK, a RuntimeException will be thrown
+     * @throws OvException If the status is not OK, the OvException subclass matching the status is thrown
      */
     protected void verifyExceptionStatus(int status) {
-        if (status == ExceptionStatus.OK.getCode()) {
-
-        } else if (status == ExceptionStatus.GENERAL_ERROR.getCode()) {
-            throw new RuntimeException(getType() + ":" + ExceptionStatus.GENERAL_ERROR.getMsg());
-        } else if (status == ExceptionStatus.NOT_IMPLEMENTED.getCode()) {
-            throw new RuntimeException(getType() + ":" + ExceptionStatus.NOT_IMPLEMENTED.getMsg());
-        } else if (status == ExceptionStatus.NETWORK_NOT_LOADED.getCode()) {
-            throw new RuntimeException(getType() + ":" + ExceptionStatus.NETWORK_NOT_LOADED.getMsg());
-        } else if (status == ExceptionStatus.PARAMETER_MISMATCH.getCode()) {
-            throw new RuntimeException(getType() + ":" + ExceptionStatus.PARAMETER_MISMATCH.getMsg());
-        } else if (status == ExceptionStatus.NOT_FOUND.getCode()) {
-            throw new RuntimeException(getType() + ":" + ExceptionStatus.NOT_FOUND.getMsg());
-        } else if (status == ExceptionStatus.OUT_OF_BOUNDS.getCode()) {
-            throw new RuntimeException(getType() + ":" + ExceptionStatus.OUT_OF_BOUNDS.getMsg());
-        } else if (status == ExceptionStatus.UNEXPECTED.getCode()) {
-            throw new RuntimeException(getType() + ":" + ExceptionStatus.UNEXPECTED.getMsg());
-        } else if (status == ExceptionStatus.REQUEST_BUSY.getCode()) {
-            throw new RuntimeException(getType() + ":" + ExceptionStatus.REQUEST_BUSY.getMsg());
-        } else if (status == ExceptionStatus.RESULT_NOT_READY.getCode()) {
-            throw new RuntimeException(getType() + ":" + ExceptionStatus.RESULT_NOT_READY.getMsg());
-        } else if (status == ExceptionStatus.NOT_ALLOCATED.getCode()) {
-            throw new RuntimeException(getType() + ":" + ExceptionStatus.NOT_ALLOCATED.getMsg());
-        } else if (status == ExceptionStatus.INFER_NOT_STARTED.getCode()) {
-            throw new RuntimeException(getType() + ":" + ExceptionStatus.INFER_NOT_STARTED.getMsg());
-        } else if (status == ExceptionStatus.NETWORK_NOT_READ.getCode()) {
-            throw new RuntimeException(getType() + ":" + ExceptionStatus.NETWORK_NOT_READ.getMsg());
-        } else if (status == ExceptionStatus.INFER_CANCELLED.getCode()) {
-            throw new RuntimeException(getType() + ":" + ExceptionStatus.INFER_CANCELLED.getMsg());
-        } else if (status == ExceptionStatus.INVALID_C_PARAM.getCode()) {
-            throw new RuntimeException(getType() + ":" + ExceptionStatus.INVALID_C_PARAM.getMsg());
-        } else if (status == ExceptionStatus.UNKNOWN_C_ERROR.getCode()) {
-            throw new RuntimeException(getType() + ":" + ExceptionStatus.UNKNOWN_C_ERROR.getMsg());
-        } else if (status == ExceptionStatus.NOT_IMPLEMENT_C_METHOD.getCode()) {
-            throw new RuntimeException(getType() + ":" + ExceptionStatus.NOT_IMPLEMENT_C_METHOD.getMsg());
-        } else if (status == ExceptionStatus.UNKNOW_EXCEPTION.getCode()) {
-            throw new RuntimeException(getType() + ":" + ExceptionStatus.UNKNOW_EXCEPTION.getMsg());
-        } else if (status == ExceptionStatus.PTR_NULL.getCode()) {
-            throw new RuntimeException(getType() + ":" + ExceptionStatus.PTR_NULL.getMsg());
+        if (status != 0) {
+            throw exception(status);
+        }
+    }
+
+    /**
+     * Decode a failed status, report it to the registered ExceptionStatusListener and build the exception to throw.
+     *
+     * @param status the state returned by the function
+     * @return The exception matching the status.
+     */
+    protected OvException exception(int status) {
+        ExceptionStatus exceptionStatus = ExceptionStatus.fromCode(status);
+        ExceptionStatusListener listener = OpenVINO.getExceptionListener();
+        if (listener != null) {
+            listener.exception(exceptionStatus.name(), getType(), exceptionStatus.getMsg());
         }
+        return OvException.of(exceptionStatus, getType());
     }
 
     void initVINOObj() {
@@ -88,18 +109,134 @@ public abstract class OpenVINOCls {
         return this.getVinoObj().getPointer();
     }
 
+    /**
+     * Get the native handle. The Pointer object is reused as long as the handle does not change,
+     * so calls on the hot path do not allocate.
+     *
+     * @return The handle, or null if there is none.
+     */
     public Pointer getValue() {
-        if (this.getVinoObj() == null) {
+        PointerByReference obj = this.getVinoObj();
+        if (obj == null) {
             return null;
         }
-        return this.getVinoObj().getValue();
+        Pointer memory = obj.getPointer();
+        long address = Native.POINTER_SIZE == 8 ? memory.getLong(0) : memory.getInt(0) & 0xFFFFFFFFL;
+        if (address == 0) {
+            return null;
+        }
+        Pointer cached = handle;
+        if (cached == null || Pointer.nativeValue(cached) != address) {
+            cached = new Pointer(address);
+            handle = cached;
+        }
+        return cached;
     }
 
     /**
-     * Release unmanaged resources
+     * Release unmanaged resources. Called at most once, through close.
      */
     protected abstract void dispose();
 
+    /**
+     * Release the native handle of this object. Safe to call several times and from several threads;
+     * only the first call releases. Objects that are never closed are released by the NativeCleaner
+     * after they become unreachable. Objects owned by another object, e.g. the cached ports of a model,
+     * ignore close; their owner releases them.
+     */
+    @Override
+    public void close() {
+        if (!owned) {
+            closeOwned();
+        }
+    }
+
+    /**
+     * Mark this object as owned by another object, which releases it with closeOwned. Close becomes a no-op.
+     */
+    protected final void markOwned() {
+        owned = true;
+    }
+
+    /**
+     * Whether this object is released by its owner instead of by close.
+     *
+     * @return true if the object is owned.
+     */
+    public boolean isOwned() {
+        return owned;
+    }
+
+    /**
+     * Release the native handle like close, also if the object is owned. For the owner only.
+     */
+    protected final void closeOwned() {
+        if (closed.compareAndSet(false, true)) {
+            NativeCleaner.Cleanable registration = cleanable;
+            if (registration != null) {
+                registration.discard();
+            }
+            dispose();
+        }
+    }
+
+    /**
+     * Release an owned object once it is unreachable instead of through its owner, e.g. when the owner drops an
+     * object that callers may still use. Close stays a no-op.
+     */
+    protected final void releaseWhenUnreachable() {
+        NativeCleaner.Cleanable registration = cleanable;
+        if (registration != null) {
+            registration.expect();
+        }
+    }
+
+    /**
+     * Whether close has been called.
+     *
+     * @return true if the object is closed.
+     */
+    public boolean isClosed() {
+        return closed.get();
+    }
+
+    /**
+     * Register the release of the handle currently held by vinoObj as the cleaner action of this object.
+     * Call once the native object has been created.
+     *
+     * @param release Frees the handle, e.g. VINO::ov_tensor_free.
+     */
+    protected final void registerCleaner(Release release) {
+        PointerByReference handle = getVinoObj();
+        VINO vino = getVino();
+        if (handle == null || vino == null) {
+            return;
+        }
+        registerCleaner(() -> {
+            Pointer pointer = handle.getValue();
+            if (pointer != null) {
+                release.release(vino, pointer);
+            }
+        });
+    }
+
+    /**
+     * Register the cleaner action of this object.
+     *
+     * @param action Releases the native resources. Must not reference this object.
+     */
+    protected final void registerCleaner(Runnable action) {
+        cleanable = NativeCleaner.register(this, getType(), action);
+    }
+
+    /**
+     * Frees a native handle.
+     */
+    @FunctionalInterface
+    protected interface Release {
+        void release(VINO vino, Pointer handle);
+    }
+
     public boolean isNull() {
         return this.getVinoObj() == null;
     }
@@ -0,0 +1,311 @@
+package org.openvino.java.core;
+
+import org.openvino.java.enums.PropertyKey;
+import org.openvino.java.utils.StringUtils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * A pool of InferRequests created from one CompiledModel that are started asynchronously and recycled automatically.
+ * Each job takes an idle request, lets the caller fill its inputs, starts it asynchronously, runs the queue callback
+ * with the job's user data once the results are available and then puts the request back into the pool.
+ * A job whose inference fails, or whose callback throws, does not stop the queue: the error is handed to the callback
+ * if it accepts errors, and the first error is rethrown by waitAll.
+ */
+public class AsyncInferQueue implements AutoCloseable {
+
+    private final CompiledModel compiledModel;
+
+    private final List<InferRequest> requests;
+
+    /**
+     * Ids of the requests that are not running. Guarded by lock.
+     */
+    private final ArrayDeque<Integer> idleIds;
+
+    private final Object lock = new Object();
+
+    private volatile Callback callback;
+
+    /**
+     * Number of jobs started and not yet recycled. Guarded by lock, and counted in the same step that takes the id.
+     */
+    private int running;
+
+    /**
+     * The first error since the last waitAll. Guarded by lock.
+     */
+    private Throwable error;
+
+    /**
+     * Constructs a queue sized by the compiled model's OPTIMAL_NUMBER_OF_INFER_REQUESTS property.
+     *
+     * @param compiledModel The compiled model to create the requests from.
+     */
+    public AsyncInferQueue(CompiledModel compiledModel) {
+        this(compiledModel, 0);
+    }
+
+    /**
+     * Constructs a queue with the given number of requests.
+     *
+     * @param compiledModel The compiled model to create the requests from.
+     * @param jobs          Number of requests in the pool. 0 means OPTIMAL_NUMBER_OF_INFER_REQUESTS.
+     */
+    public AsyncInferQueue(CompiledModel compiledModel, int jobs) {
+        if (compiledModel == null) {
+            throw new NullPointerException("compiled model is null");
+        }
+        if (jobs < 0) {
+            throw new IllegalArgumentException("jobs must not be negative");
+        }
+        if (jobs == 0) {
+            jobs = optimalNumberOfRequests(compiledModel);
+        }
+        this.compiledModel = compiledModel;
+        List<InferRequest> list = new ArrayList<>(jobs);
+        idleIds = new ArrayDeque<>(jobs);
+        for (int i = 0; i < jobs; i++) {
+            list.add(compiledModel.createInferRequest());
+            idleIds.add(i);
+        }
+        requests = Collections.unmodifiableList(list);
+    }
+
+    private static int optimalNumberOfRequests(CompiledModel compiledModel) {
+        String value = compiledModel.getProperty(PropertyKey.OPTIMAL_NUMBER_OF_INFER_REQUESTS);
+        if (StringUtils.isNullOrEmpty(value)) {
+            return 1;
+        }
+        try {
+            return Math.max(1, Integer.parseInt(value.trim()));
+        } catch (NumberFormatException e) {
+            return 1;
+        }
+    }
+
+    /**
+     * Sets the callback run after each job finishes successfully, on an openvino-infer-completion thread.
+     * The request is returned to the pool after the callback returns, so its output tensors may be read inside it.
+     * Failed jobs skip the callback; their error is rethrown by waitAll.
+     *
+     * @param callback Receives the finished request and the user data passed to startAsync.
+     */
+    public void setCallback(BiConsumer<InferRequest, Object> callback) {
+        this.callback = callback == null ? null : (request, userData, error) -> {
+            if (error == null) {
+                callback.accept(request, userData);
+            }
+        };
+    }
+
+    /**
+     * Sets the callback run after each job finishes or fails, on an openvino-infer-completion thread.
+     * The request is returned to the pool after the callback returns, so its output tensors may be read inside it.
+     *
+     * @param callback Receives the request, the user data passed to startAsync and the error of a failed job.
+     */
+    public void setCallback(Callback callback) {
+        this.callback = callback;
+    }
+
+    /**
+     * Waits for an idle request, fills its inputs and starts it asynchronously.
+     *
+     * @param inputs Fills the input tensors of the idle request. May be null if the inputs were set beforehand.
+     * @param userData Data handed to the callback for this job.
+     * @return The id of the request running the job.
+     */
+    public int startAsync(Consumer<InferRequest> inputs, Object userData) {
+        int id = takeIdleRequestId(true);
+        InferRequest request = requests.get(id);
+        try {
+            if (inputs != null) {
+                inputs.accept(request);
+            }
+            request.inferAsync().whenComplete((r, e) -> {
+                Throwable failure = e;
+                try {
+                    Callback cb = callback;
+                    if (cb != null) {
+                        cb.onComplete(request, userData, failure);
+                    }
+                } catch (RuntimeException | Error t) {
+                    if (failure != null) {
+                        t.addSuppressed(failure);
+                    }
+                    failure = t;
+                } finally {
+                    recycle(id, failure);
+                }
+            });
+        } catch (RuntimeException e) {
+            recycle(id, null);
+            throw e;
+        }
+        return id;
+    }
+
+    /**
+     * Starts a job on an idle request whose inputs need no change.
+     *
+     * @param userData Data handed to the callback for this job.
+     * @return The id of the request running the job.
+     */
+    public int startAsync(Object userData) {
+        return startAsync(null, userData);
+    }
+
+    private void recycle(int id, Throwable failure) {
+        synchronized (lock) {
+            if (failure != null && error == null) {
+                error = failure;
+            }
+            idleIds.add(id);
+            running--;
+            lock.notifyAll();
+        }
+    }
+
+    /**
+     * Blocks until an idle request is available.
+     *
+     * @param job true to count a job started on the request, so waitAll waits for it.
+     * @return The id of an idle request, removed from the pool until the job started on it finishes.
+     */
+    private int takeIdleRequestId(boolean job) {
+        synchronized (lock) {
+            while (idleIds.isEmpty()) {
+                try {
+                    lock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException("AsyncInferQueue: interrupted while waiting for an idle request", e);
+                }
+            }
+            if (job) {
+                running++;
+            }
+            return idleIds.poll();
+        }
+    }
+
+    /**
+     * Warms up every request of the pool before traffic, see CompiledModel::warmUp.
+     * Waits until all requests are idle and keeps them from jobs while it runs. The input tensors are overwritten.
+     *
+     * @param iterations Number of inferences per request.
+     * @param generator  Synthesizes the inputs.
+     * @return The latency of each iteration and request.
+     */
+    public WarmUpReport warmUp(int iterations, InputGenerator generator) {
+        List<Integer> ids = new ArrayList<>(requests.size());
+        try {
+            for (int i = 0; i < requests.size(); i++) {
+                ids.add(takeIdleRequestId(false));
+            }
+            return compiledModel.warmUp(iterations, generator, requests);
+        } finally {
+            synchronized (lock) {
+                idleIds.addAll(ids);
+                lock.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Blocks until every started job has finished and its callback has returned.
+     *
+     * @throws RuntimeException The first error of a job since the last call, either the OvException of a failed
+     *                          inference or the exception thrown by the callback. Later errors are dropped.
+     */
+    public void waitAll() {
+        Throwable failure;
+        synchronized (lock) {
+            while (running > 0) {
+                try {
+                    lock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException("AsyncInferQueue: interrupted while waiting for jobs", e);
+                }
+            }
+            failure = error;
+            error = null;
+        }
+        if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        }
+        if (failure instanceof Error) {
+            throw (Error) failure;
+        }
+        if (failure != null) {
+            throw new RuntimeException("AsyncInferQueue: job failed", failure);
+        }
+    }
+
+    /**
+     * Whether at least one request is idle, so startAsync will not block.
+     *
+     * @return true if a request is idle.
+     */
+    public boolean isReady() {
+        synchronized (lock) {
+            return !idleIds.isEmpty();
+        }
+    }
+
+    /**
+     * Get the number of requests in the pool.
+     *
+     * @return The pool size.
+     */
+    public int size() {
+        return requests.size();
+    }
+
+    /**
+     * Get a request of the pool by id, e.g. to read its outputs in the callback of another job.
+     *
+     * @param id The request id.
+     * @return The request.
+     */
+    public InferRequest get(int id) {
+        return requests.get(id);
+    }
+
+    /**
+     * Waits for all jobs and releases the requests. The requests are released even if a job failed.
+     */
+    @Override
+    public void close() {
+        try {
+            waitAll();
+        } finally {
+            for (InferRequest request : requests) {
+                request.close();
+            }
+        }
+    }
+
+    /**
+     * Receives the outcome of a job.
+     */
+    @FunctionalInterface
+    public interface Callback {
+
+        /**
+         * Called once per job, after the inference finished or failed.
+         *
+         * @param request  The request that ran the job.
+         * @param userData The user data passed to startAsync.
+         * @param error    The error of a failed inference, null on success.
+         */
+        void onComplete(InferRequest request, Object userData, Throwable error);
+    }
+}
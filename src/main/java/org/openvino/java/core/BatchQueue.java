@@ -0,0 +1,155 @@
+package org.openvino.java.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The samples queued in a DynamicBatcher, grouped into batches of equal shape.
+ * Jobs are added by any thread; collect is called by the dispatcher thread only.
+ */
+final class BatchQueue {
+
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    private final int maxBatchSize;
+
+    private final long maxDelayNanos;
+
+    private final BlockingQueue<Job> queue = new LinkedBlockingQueue<>();
+
+    private volatile boolean closed;
+
+    /**
+     * A sample whose shape differs from the batch being collected, starting the next batch. Dispatcher thread only.
+     */
+    private Job carry;
+
+    /**
+     * @param maxBatchSize  Maximum number of samples in one batch.
+     * @param maxDelayNanos Maximum time the oldest sample waits for more samples.
+     */
+    BatchQueue(int maxBatchSize, long maxDelayNanos) {
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelayNanos = maxDelayNanos;
+    }
+
+    /**
+     * Queue a job.
+     *
+     * @return false if the queue is closed.
+     */
+    synchronized boolean add(Job job) {
+        if (closed) {
+            return false;
+        }
+        queue.add(job);
+        return true;
+    }
+
+    /**
+     * Stop accepting jobs. The queued ones are still collected.
+     *
+     * @return false if the queue was already closed.
+     */
+    synchronized boolean close() {
+        if (closed) {
+            return false;
+        }
+        closed = true;
+        return true;
+    }
+
+    /**
+     * Collect the next batch: the oldest job and the following jobs of the same shape, until maxBatchSize is reached,
+     * a job of another shape is met or the oldest job has waited maxDelay. Jobs whose future is done are skipped.
+     *
+     * @return The jobs of the batch, or null once the queue is closed and drained.
+     */
+    List<Job> collect() throws InterruptedException {
+        Job first = carry;
+        carry = null;
+        while (first == null || first.future.isDone()) {
+            if (closed && queue.isEmpty()) {
+                return null;
+            }
+            first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+        }
+        List<Job> batch = new ArrayList<>(maxBatchSize);
+        batch.add(first);
+        long deadline = first.enqueued + maxDelayNanos;
+        while (batch.size() < maxBatchSize) {
+            long remaining = deadline - System.nanoTime();
+            // past the deadline, still take what is already queued
+            Job job = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+            if (job == null) {
+                break;
+            }
+            if (job.future.isDone()) {
+                continue;
+            }
+            if (!first.batchesWith(job)) {
+                carry = job;
+                break;
+            }
+            batch.add(job);
+        }
+        return batch;
+    }
+
+    /**
+     * Fail the carried and the queued jobs. Dispatcher thread only.
+     */
+    void fail(Throwable cause) {
+        if (carry != null) {
+            carry.future.completeExceptionally(cause);
+            carry = null;
+        }
+        for (Job job; (job = queue.poll()) != null; ) {
+            job.future.completeExceptionally(cause);
+        }
+    }
+
+    int size() {
+        return queue.size();
+    }
+
+    /**
+     * A submitted sample.
+     */
+    static final class Job {
+
+        final Tensor[] inputs;
+
+        final long[][] dims;
+
+        final long enqueued = System.nanoTime();
+
+        final CompletableFuture<Tensor[]> future = new CompletableFuture<>();
+
+        /**
+         * @param inputs One tensor per model input.
+         * @param dims   The dims of each input.
+         */
+        Job(Tensor[] inputs, long[][] dims) {
+            this.inputs = inputs.clone();
+            this.dims = dims;
+        }
+
+        /**
+         * Whether the samples have equal shapes, so they fit into one batch.
+         */
+        boolean batchesWith(Job other) {
+            for (int i = 0; i < dims.length; i++) {
+                if (!Arrays.equals(dims[i], other.dims[i])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
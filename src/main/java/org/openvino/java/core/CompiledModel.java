@@ -4,9 +4,12 @@ import com.sun.jna.ptr.LongByReference;
 import com.sun.jna.ptr.PointerByReference;
 import org.openvino.java.base.OpenVINOCls;
 import org.openvino.java.enums.NodeType;
+import org.openvino.java.enums.PropertyKey;
 
-import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * This class represents a compiled model.
@@ -22,6 +25,28 @@ public class CompiledModel extends OpenVINOCls {
      */
     public CompiledModel(PointerByReference model) {
         super("CompiledModel", model);
+        registerCleaner(VINO::ov_compiled_model_free);
+    }
+
+    /**
+     * The ports of the compiled model, resolved on first use.
+     */
+    private volatile PortTable ports;
+
+    private volatile boolean warmedUp;
+
+    private PortTable ports() {
+        PortTable table = ports;
+        if (table == null) {
+            synchronized (this) {
+                table = ports;
+                if (table == null) {
+                    table = PortTable.build(getInputsSize(), getOutputsSize(), this::getInput, this::getOutput);
+                    ports = table;
+                }
+            }
+        }
+        return table;
     }
 
 
@@ -104,7 +129,18 @@ public class CompiledModel extends OpenVINOCls {
     public InferRequest createInferRequest() {
         PointerByReference reference = new PointerByReference();
         verifyExceptionStatus(getVino().ov_compiled_model_create_infer_request(getValue(), reference));
-        return new InferRequest(reference);
+        InferRequest request = new InferRequest(reference);
+        request.setPorts(ports(), hasStaticOutputs());
+        return request;
+    }
+
+    private boolean hasStaticOutputs() {
+        for (Output output : outputs()) {
+            if (!output.hasStaticShape()) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
@@ -137,8 +173,8 @@ public class CompiledModel extends OpenVINOCls {
      * @return Compiled model input.
      */
     public Input input() {
-        Node node = getInput();
-        return new Input(node, 0);
+        Input input = ports().singleInput();
+        return input != null ? input : new Input(getInput(), 0);
     }
 
     /**
@@ -149,8 +185,8 @@ public class CompiledModel extends OpenVINOCls {
      * @return Compiled model input.
      */
     public Input input(long index) {
-        Node node = getInput(index);
-        return new Input(node, index);
+        Input input = ports().input(index);
+        return input != null ? input : new Input(getInput(index), index);
     }
 
     /**
@@ -161,8 +197,8 @@ public class CompiledModel extends OpenVINOCls {
      * @return Compiled model input.
      */
     public Input input(String tensorName) {
-        Node node = getInput(tensorName);
-        return new Input(node, 0);
+        Input input = ports().input(tensorName);
+        return input != null ? input : new Input(getInput(tensorName), 0);
     }
 
     /**
@@ -173,8 +209,8 @@ public class CompiledModel extends OpenVINOCls {
      * @return Compiled model output.
      */
     public Output output() {
-        Node node = getOutput();
-        return new Output(node, 0);
+        Output output = ports().singleOutput();
+        return output != null ? output : new Output(getOutput(), 0);
     }
 
     /**
@@ -185,8 +221,8 @@ public class CompiledModel extends OpenVINOCls {
      * @return Compiled model output.
      */
     public Output output(long index) {
-        Node node = getOutput(index);
-        return new Output(node, 0);
+        Output output = ports().output(index);
+        return output != null ? output : new Output(getOutput(index), index);
     }
 
     /**
@@ -197,8 +233,8 @@ public class CompiledModel extends OpenVINOCls {
      * @return Compiled model output.
      */
     public Output output(String tensorName) {
-        Node node = getOutput(tensorName);
-        return new Output(node, 0);
+        Output output = ports().output(tensorName);
+        return output != null ? output : new Output(getOutput(tensorName), 0);
     }
 
     /**
@@ -206,15 +242,10 @@ public class CompiledModel extends OpenVINOCls {
      * Inputs are represented as a vector of outputs of the ov::op::v0::Parameter operations.
      * They contain information about input tensors such as tensor shape, names, and element type.
      *
-     * @return List of model inputs.
+     * @return List of model inputs. The list and its ports are resolved once and shared by all callers.
      */
     public List<Input> inputs() {
-        long inputSize = getInputsSize();
-        List<Input> inputs = new ArrayList<>();
-        for (long index = 0; index < inputSize; index++) {
-            inputs.add(input(index));
-        }
-        return inputs;
+        return ports().inputs();
     }
 
     /**
@@ -222,15 +253,10 @@ public class CompiledModel extends OpenVINOCls {
      * Outputs are represented as a vector of output from the ov::op::v0::Result operations.
      * Outputs contain information about output tensors such as tensor shape, names, and element type.
      *
-     * @return List of model outputs.
+     * @return List of model outputs. The list and its ports are resolved once and shared by all callers.
      */
     public List<Output> outputs() {
-        long outputsSize = getOutputsSize();
-        List<Output> outputs = new ArrayList<>();
-        for (long index = 0; index < outputsSize; index++) {
-            outputs.add(output(index));
-        }
-        return outputs;
+        return ports().outputs();
     }
 
     /**
@@ -285,6 +311,93 @@ public class CompiledModel extends OpenVINOCls {
         return value.getValue().getString(0);
     }
 
+    /**
+     * Gets a property of the current compiled model by its typed key.
+     *
+     * @param key Property key.
+     * @return Property value.
+     */
+    public String getProperty(PropertyKey key) {
+        return getProperty(key.getKey());
+    }
+
+    /**
+     * Prime the compiled model before traffic: kernel selection and memory allocation happen on the first inferences,
+     * which are several times slower than steady state. Runs on a temporary request.
+     *
+     * @param iterations Number of inferences.
+     * @param generator  Synthesizes the inputs, e.g. InputGenerator.zeros().
+     * @return The latency of each iteration.
+     */
+    public WarmUpReport warmUp(int iterations, InputGenerator generator) {
+        try (InferRequest request = createInferRequest()) {
+            return warmUp(iterations, generator, Collections.singletonList(request));
+        }
+    }
+
+    /**
+     * Prime the compiled model and a pool of its requests. Each iteration runs all requests concurrently,
+     * so every stream is warmed up. The input tensors of the requests are reshaped and overwritten.
+     *
+     * @param iterations Number of inferences per request.
+     * @param generator  Synthesizes the inputs, e.g. InputGenerator.zeros().
+     * @param requests   Idle requests created from this compiled model.
+     * @return The latency of each iteration and request.
+     */
+    public WarmUpReport warmUp(int iterations, InputGenerator generator, List<InferRequest> requests) {
+        if (generator == null || requests == null) {
+            throw new NullPointerException("generator or requests is null");
+        }
+        if (iterations < 0) {
+            throw new IllegalArgumentException("iterations must not be negative");
+        }
+        List<Input> inputs = inputs();
+        for (InferRequest request : requests) {
+            for (int i = 0; i < inputs.size(); i++) {
+                Input input = inputs.get(i);
+                Shape shape = generator.shape(input);
+                Tensor tensor = request.getInputTensor(i);
+                if (!shape.equals(tensor.getShape())) {
+                    tensor.setShape(shape);
+                }
+                generator.fill(input, tensor);
+            }
+        }
+        long[][] latencies = new long[iterations][requests.size()];
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[requests.size()];
+        for (int it = 0; it < iterations; it++) {
+            long[] row = latencies[it];
+            for (int r = 0; r < futures.length; r++) {
+                int index = r;
+                long start = System.nanoTime();
+                futures[r] = requests.get(r).inferAsync().thenRun(() -> row[index] = System.nanoTime() - start);
+            }
+            try {
+                CompletableFuture.allOf(futures).join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw e;
+            }
+        }
+        // only a warm up that ran inferences, all of them successful, counts
+        if (iterations > 0 && !requests.isEmpty()) {
+            warmedUp = true;
+        }
+        return new WarmUpReport(latencies);
+    }
+
+    /**
+     * Whether a warm up finished, e.g. for a readiness probe.
+     *
+     * @return true once a warmUp with at least one iteration and one request has returned; a failed inference
+     * makes warmUp throw instead.
+     */
+    public boolean isWarmedUp() {
+        return warmedUp;
+    }
+
     /**
      * Returns pointer to device-specific shared context on a remote accelerator device that was used to create this CompiledModel.
      *
@@ -301,8 +414,12 @@ public class CompiledModel extends OpenVINOCls {
      */
     @Override
     protected void dispose() {
+        if (ports != null) {
+            ports.dispose();
+            ports = null;
+        }
         if (!isNull()) {
-            getVino().ov_core_free(getValue());
+            getVino().ov_compiled_model_free(getValue());
             setVinoObj(null);
         }
     }
@@ -0,0 +1,424 @@
+package org.openvino.java.core;
+
+import org.openvino.java.OpenVINO;
+import org.openvino.java.domain.OvVersion;
+import org.openvino.java.utils.StringUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A disk cache of exported compiled models in front of Core::compiledModel.
+ * Entries are keyed by a hash of the model files, the device name, the compile properties and the OpenVINO version,
+ * so a changed model, device configuration or runtime never hits a stale blob. The hash of a file is remembered while
+ * its size, modification time and file key are unchanged, so a hit does not read the weights again.
+ * On a hit the blob is imported; on a miss the model is compiled, exported atomically and recorded.
+ * The cache is bounded by size and evicts the least recently used blobs.
+ * Unlike the plugin's CACHE_DIR, the directory content can be validated, evicted and shipped in images.
+ */
+public class CompiledModelCache {
+
+    private static final String BLOB_SUFFIX = ".blob";
+
+    private static final String META_SUFFIX = ".meta";
+
+    private final ModelLoader loader;
+
+    private final Path cacheDir;
+
+    private final long maxBytes;
+
+    private final String version;
+
+    /**
+     * Locks striped by key, so concurrent misses of one key compile once.
+     */
+    private final Object[] keyLocks = new Object[64];
+
+    /**
+     * Content hashes of the model files by absolute path.
+     */
+    private final ConcurrentHashMap<Path, FileDigest> fileDigests = new ConcurrentHashMap<>();
+
+    private final Object evictionLock = new Object();
+
+    private final AtomicLong hits = new AtomicLong();
+
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * Constructs a cache in the given directory.
+     *
+     * @param openVINO The loaded runtime, used to key the entries by OpenVINO version.
+     * @param core     The core compiling and importing the models.
+     * @param cacheDir Directory of the cache, created if missing.
+     * @param maxBytes Maximum total size of the cached blobs.
+     */
+    public CompiledModelCache(OpenVINO openVINO, Core core, Path cacheDir, long maxBytes) {
+        this(core == null ? null : ModelLoader.of(core), version(openVINO), cacheDir, maxBytes);
+    }
+
+    /**
+     * Constructs a cache in the given directory.
+     *
+     * @param loader   Compiles and imports the models.
+     * @param version  The OpenVINO version keying the entries.
+     * @param cacheDir Directory of the cache, created if missing.
+     * @param maxBytes Maximum total size of the cached blobs.
+     */
+    CompiledModelCache(ModelLoader loader, String version, Path cacheDir, long maxBytes) {
+        if (loader == null || version == null || cacheDir == null) {
+            throw new NullPointerException("openVINO, core or cache dir is null");
+        }
+        if (maxBytes <= 0) {
+            throw new IllegalArgumentException("maxBytes must be positive");
+        }
+        this.loader = loader;
+        this.cacheDir = cacheDir;
+        this.maxBytes = maxBytes;
+        this.version = version;
+        for (int i = 0; i < keyLocks.length; i++) {
+            keyLocks[i] = new Object();
+        }
+        try {
+            Files.createDirectories(cacheDir);
+        } catch (IOException e) {
+            throw new RuntimeException("CompiledModelCache:cannot create " + cacheDir, e);
+        }
+    }
+
+    private static String version(OpenVINO openVINO) {
+        if (openVINO == null) {
+            return null;
+        }
+        OvVersion ovVersion = openVINO.getVersion();
+        return ovVersion.buildNumber + " " + ovVersion.description;
+    }
+
+    /**
+     * Returns the cached compiled model of a model file, compiling and caching it on a miss.
+     *
+     * @param modelPath  Path to a model.
+     * @param deviceName Name of a device to load a model to.
+     * @return A compiled model.
+     */
+    public CompiledModel compiledModel(String modelPath, String deviceName) {
+        return compiledModel(modelPath, deviceName, null);
+    }
+
+    /**
+     * Returns the cached compiled model of a model file, compiling and caching it on a miss.
+     *
+     * @param modelPath  Path to a model.
+     * @param deviceName Name of a device to load a model to.
+     * @param properties Compile properties, part of the cache key. May be null.
+     * @return A compiled model.
+     */
+    public CompiledModel compiledModel(String modelPath, String deviceName, Properties properties) {
+        if (StringUtils.isNullOrEmpty(modelPath) || StringUtils.isNullOrEmpty(deviceName)) {
+            throw new NullPointerException("model path or device name is null");
+        }
+        String key = key(modelPath, deviceName, properties);
+        synchronized (keyLocks[(key.hashCode() & 0x7fffffff) % keyLocks.length]) {
+            CompiledModel cached = load(key, deviceName);
+            if (cached != null) {
+                hits.incrementAndGet();
+                return cached;
+            }
+            misses.incrementAndGet();
+            CompiledModel compiledModel = loader.compiledModel(modelPath, deviceName, properties);
+            store(key, compiledModel, modelPath, deviceName);
+            evict(key);
+            return compiledModel;
+        }
+    }
+
+    /**
+     * Import a valid entry and mark it as recently used.
+     *
+     * @return The imported model, or null if the entry is missing or invalid.
+     */
+    private CompiledModel load(String key, String deviceName) {
+        Path blob = cacheDir.resolve(key + BLOB_SUFFIX);
+        Path meta = cacheDir.resolve(key + META_SUFFIX);
+        if (!Files.isRegularFile(blob) || !Files.isRegularFile(meta)) {
+            return null;
+        }
+        try {
+            java.util.Properties entry = new java.util.Properties();
+            try (InputStream in = Files.newInputStream(meta)) {
+                entry.load(in);
+            }
+            if (!version.equals(entry.getProperty("version"))
+                    || !String.valueOf(Files.size(blob)).equals(entry.getProperty("size"))) {
+                remove(key);
+                return null;
+            }
+            Files.setLastModifiedTime(blob, FileTime.fromMillis(System.currentTimeMillis()));
+            return loader.importModel(blob, deviceName);
+        } catch (IOException | RuntimeException e) {
+            // a truncated or incompatible blob is dropped and recompiled
+            remove(key);
+            return null;
+        }
+    }
+
+    /**
+     * Export the compiled model and record the entry. Both files are written to temporary names and moved into place,
+     * the blob first, so a reader never sees a partial entry.
+     */
+    private void store(String key, CompiledModel compiledModel, String modelPath, String deviceName) {
+        String tmpSuffix = "." + UUID.randomUUID() + ".tmp";
+        Path blobTmp = cacheDir.resolve(key + BLOB_SUFFIX + tmpSuffix);
+        Path metaTmp = cacheDir.resolve(key + META_SUFFIX + tmpSuffix);
+        try {
+            compiledModel.exportModel(blobTmp.toString());
+            java.util.Properties entry = new java.util.Properties();
+            entry.setProperty("model", modelPath);
+            entry.setProperty("device", deviceName);
+            entry.setProperty("version", version);
+            entry.setProperty("size", String.valueOf(Files.size(blobTmp)));
+            try (OutputStream out = Files.newOutputStream(metaTmp)) {
+                entry.store(out, null);
+            }
+            move(blobTmp, cacheDir.resolve(key + BLOB_SUFFIX));
+            move(metaTmp, cacheDir.resolve(key + META_SUFFIX));
+        } catch (IOException | RuntimeException e) {
+            // caching is best effort, the compiled model is still usable
+            deleteQuietly(blobTmp);
+            deleteQuietly(metaTmp);
+        }
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Delete the least recently used entries until the blobs fit into maxBytes. The entry just written is kept.
+     */
+    private void evict(String keep) {
+        synchronized (evictionLock) {
+            List<Path> blobs = new ArrayList<>();
+            long total = 0;
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(cacheDir, "*" + BLOB_SUFFIX)) {
+                for (Path blob : stream) {
+                    blobs.add(blob);
+                    total += Files.size(blob);
+                }
+            } catch (IOException e) {
+                return;
+            }
+            if (total <= maxBytes) {
+                return;
+            }
+            blobs.sort((a, b) -> lastModified(a).compareTo(lastModified(b)));
+            for (Path blob : blobs) {
+                if (total <= maxBytes) {
+                    break;
+                }
+                String name = blob.getFileName().toString();
+                String key = name.substring(0, name.length() - BLOB_SUFFIX.length());
+                if (key.equals(keep)) {
+                    continue;
+                }
+                long size = sizeOf(blob);
+                remove(key);
+                total -= size;
+            }
+        }
+    }
+
+    private void remove(String key) {
+        deleteQuietly(cacheDir.resolve(key + META_SUFFIX));
+        deleteQuietly(cacheDir.resolve(key + BLOB_SUFFIX));
+    }
+
+    /**
+     * Delete every entry of the cache.
+     */
+    public void clear() {
+        synchronized (evictionLock) {
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(cacheDir, "*" + BLOB_SUFFIX)) {
+                for (Path blob : stream) {
+                    String name = blob.getFileName().toString();
+                    remove(name.substring(0, name.length() - BLOB_SUFFIX.length()));
+                }
+            } catch (IOException e) {
+                throw new RuntimeException("CompiledModelCache:cannot list " + cacheDir, e);
+            }
+        }
+    }
+
+    /**
+     * Compute the cache key from the model files, the device, the properties and the OpenVINO version.
+     */
+    private String key(String modelPath, String deviceName, Properties properties) {
+        MessageDigest digest = sha256();
+        Path model = Paths.get(modelPath);
+        digest.update(fileDigest(model));
+        String fileName = model.getFileName().toString();
+        if (fileName.toLowerCase().endsWith(".xml")) {
+            Path weights = model.resolveSibling(fileName.substring(0, fileName.length() - 4) + ".bin");
+            if (Files.isRegularFile(weights)) {
+                digest.update(fileDigest(weights));
+            }
+        }
+        StringBuilder config = new StringBuilder();
+        config.append("device=").append(deviceName).append('\n');
+        config.append("version=").append(version).append('\n');
+        if (properties != null) {
+            for (Map.Entry<String, String> entry : new TreeMap<>(properties.asMap()).entrySet()) {
+                config.append(entry.getKey()).append('=').append(entry.getValue()).append('\n');
+            }
+        }
+        digest.update(config.toString().getBytes(StandardCharsets.UTF_8));
+        StringBuilder hex = new StringBuilder();
+        for (byte b : digest.digest()) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString();
+    }
+
+    /**
+     * Get the content hash of a file, reading the file only if it changed since the last call.
+     */
+    private byte[] fileDigest(Path file) {
+        Path path = file.toAbsolutePath();
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (IOException e) {
+            throw new RuntimeException("CompiledModelCache:cannot read " + file, e);
+        }
+        FileDigest cached = fileDigests.get(path);
+        if (cached != null && cached.matches(attributes)) {
+            return cached.hash;
+        }
+        MessageDigest digest = sha256();
+        update(digest, path);
+        FileDigest computed = new FileDigest(attributes, digest.digest());
+        fileDigests.put(path, computed);
+        return computed.hash;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static void update(MessageDigest digest, Path file) {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 20);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            while (channel.read(buffer) != -1) {
+                ((Buffer) buffer).flip();
+                digest.update(buffer);
+                ((Buffer) buffer).clear();
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("CompiledModelCache:cannot read " + file, e);
+        }
+    }
+
+    private static FileTime lastModified(Path path) {
+        try {
+            return Files.getLastModifiedTime(path);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    private static long sizeOf(Path path) {
+        try {
+            return Files.size(path);
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {
+        }
+    }
+
+    /**
+     * Get the number of lookups served from the cache.
+     *
+     * @return The hit count.
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * Get the number of lookups that compiled the model.
+     *
+     * @return The miss count.
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public Path getCacheDir() {
+        return cacheDir;
+    }
+
+    /**
+     * The content hash of a file and the attributes it was computed for.
+     */
+    private static final class FileDigest {
+
+        private final long size;
+
+        private final FileTime lastModified;
+
+        private final Object fileKey;
+
+        private final byte[] hash;
+
+        private FileDigest(BasicFileAttributes attributes, byte[] hash) {
+            this.size = attributes.size();
+            this.lastModified = attributes.lastModifiedTime();
+            this.fileKey = attributes.fileKey();
+            this.hash = hash;
+        }
+
+        private boolean matches(BasicFileAttributes attributes) {
+            return size == attributes.size() && lastModified.equals(attributes.lastModifiedTime())
+                    && Objects.equals(fileKey, attributes.fileKey());
+        }
+    }
+}
@@ -1,12 +1,25 @@
 package org.openvino.java.core;
 
+import com.sun.jna.Memory;
+import com.sun.jna.Native;
+import com.sun.jna.Pointer;
 import com.sun.jna.ptr.PointerByReference;
 import org.openvino.java.base.OpenVINOCls;
 import org.openvino.java.domain.OvAvailableDevices;
+import org.openvino.java.enums.PropertyKey;
 import org.openvino.java.utils.StringUtils;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 /**
  * This class represents an OpenVINO runtime Core entity.
@@ -37,6 +50,7 @@ public class Core extends OpenVINOCls {
         } else {
             verifyExceptionStatus(getVino().ov_core_create_with_config(xmlConfigFile, this.getVinoObj()));
         }
+        registerCleaner(VINO::ov_core_free);
     }
 
     /**
@@ -84,6 +98,19 @@ public class Core extends OpenVINOCls {
      * @return
      */
     public CompiledModel compileModel(Model model, String deviceName) {
+        return compileModel(model, deviceName, null);
+    }
+
+    /**
+     * Creates a compiled model from a source model object with device properties, e.g. the performance hint
+     * or the number of streams.
+     *
+     * @param model      Model object acquired from Core::read_model.
+     * @param deviceName Name of a device to load a model to.
+     * @param properties Properties applied to this compilation only. May be null.
+     * @return A compiled model.
+     */
+    public CompiledModel compileModel(Model model, String deviceName, Properties properties) {
         if (model == null) {
             throw new RuntimeException("model is null");
         }
@@ -91,7 +118,8 @@ public class Core extends OpenVINOCls {
             throw new RuntimeException("deviceName is null");
         }
         PointerByReference compileModel = new PointerByReference();
-        verifyExceptionStatus(getVino().ov_core_compile_model(getValue(), model.getValue(), deviceName, 0, compileModel));
+        Object[] args = properties == null ? new Object[0] : properties.toArgs();
+        verifyExceptionStatus(getVino().ov_core_compile_model(getValue(), model.getValue(), deviceName, args.length, compileModel, args));
         return new CompiledModel(compileModel);
     }
 
@@ -157,11 +185,24 @@ public class Core extends OpenVINOCls {
      * @return A compiled model.
      */
     public CompiledModel compiledModel(String modelPath, String deviceName) {
+        return compiledModel(modelPath, deviceName, null);
+    }
+
+    /**
+     * Reads a model and creates a compiled model from the IR/ONNX/PDPD file with device properties.
+     *
+     * @param modelPath  Path to a model.
+     * @param deviceName Name of a device to load a model to.
+     * @param properties Properties applied to this compilation only. May be null.
+     * @return A compiled model.
+     */
+    public CompiledModel compiledModel(String modelPath, String deviceName, Properties properties) {
         if (StringUtils.isNullOrEmpty(modelPath) || StringUtils.isNullOrEmpty(deviceName)) {
             throw new NullPointerException("model path or device name is null");
         }
         PointerByReference compiledModel = new PointerByReference();
-        verifyExceptionStatus(getVino().ov_core_compile_model_from_file(getValue(), modelPath, deviceName, 0, compiledModel));
+        Object[] args = properties == null ? new Object[0] : properties.toArgs();
+        verifyExceptionStatus(getVino().ov_core_compile_model_from_file(getValue(), modelPath, deviceName, args.length, compiledModel, args));
         return new CompiledModel(compiledModel);
     }
 
@@ -177,6 +218,103 @@ public class Core extends OpenVINOCls {
         return compiledModel(modelPath, "AUTO");
     }
 
+    /**
+     * Imports a compiled model from a blob written by CompiledModel::exportModel.
+     * The blob must have been exported by the same OpenVINO version for the same device.
+     *
+     * @param blob       The exported model, from its position to its limit. Direct buffers are passed without copying.
+     * @param deviceName Name of a device to import the compiled model for.
+     * @return A compiled model.
+     */
+    public CompiledModel importModel(ByteBuffer blob, String deviceName) {
+        if (blob == null || StringUtils.isNullOrEmpty(deviceName)) {
+            throw new NullPointerException("model blob or device name is null");
+        }
+        long size = blob.remaining();
+        if (size == 0) {
+            throw new IllegalArgumentException("model blob is empty");
+        }
+        PointerByReference compiledModel = new PointerByReference();
+        if (blob.isDirect()) {
+            try {
+                Pointer content = Native.getDirectBufferPointer(blob).share(blob.position());
+                verifyExceptionStatus(getVino().ov_core_import_model(getValue(), content, size, deviceName, compiledModel));
+            } finally {
+                // the pointer does not keep the buffer reachable; a collected mapped buffer is unmapped
+                keepReachable(blob);
+            }
+        } else {
+            Memory content = new Memory(size);
+            try {
+                content.getByteBuffer(0, size).put(blob.duplicate());
+                verifyExceptionStatus(getVino().ov_core_import_model(getValue(), content, size, deviceName, compiledModel));
+            } finally {
+                content.close();
+            }
+        }
+        return new CompiledModel(compiledModel);
+    }
+
+    /**
+     * Imports a compiled model from an exported blob file. The file is memory-mapped instead of being read onto the heap.
+     *
+     * @param blobPath   Path of the file written by CompiledModel::exportModel.
+     * @param deviceName Name of a device to import the compiled model for.
+     * @return A compiled model.
+     */
+    public CompiledModel importModel(Path blobPath, String deviceName) {
+        if (blobPath == null) {
+            throw new NullPointerException("model blob path is null");
+        }
+        try (FileChannel channel = FileChannel.open(blobPath, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new UnsupportedOperationException("model blob larger than 2GB cannot be mapped: " + blobPath);
+            }
+            ByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            try {
+                return importModel(mapped, deviceName);
+            } finally {
+                keepReachable(mapped);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Core:cannot read model blob " + blobPath, e);
+        }
+    }
+
+    /**
+     * Keep an object strongly reachable up to this call, like Reference.reachabilityFence of Java 9.
+     */
+    private static void keepReachable(Object object) {
+        synchronized (object) {
+            // the monitor is the fence
+        }
+    }
+
+    /**
+     * Imports a compiled model from a stream holding an exported blob. The stream is read to its end but not closed.
+     *
+     * @param blob       Stream with the exported model.
+     * @param deviceName Name of a device to import the compiled model for.
+     * @return A compiled model.
+     */
+    public CompiledModel importModel(InputStream blob, String deviceName) {
+        if (blob == null) {
+            throw new NullPointerException("model blob is null");
+        }
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        byte[] buffer = new byte[64 * 1024];
+        try {
+            int read;
+            while ((read = blob.read(buffer)) != -1) {
+                content.write(buffer, 0, read);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Core:cannot read model blob", e);
+        }
+        return importModel(ByteBuffer.wrap(content.toByteArray()), deviceName);
+    }
+
     /**
      * Returns devices available for inference.
      * Core objects go over all registered plugins and ask about available devices.
@@ -194,6 +332,90 @@ public class Core extends OpenVINOCls {
         return Arrays.asList(ds);
     }
 
+    /**
+     * Sets properties for a device. The properties apply to every model compiled for the device afterwards.
+     *
+     * @param deviceName Name of a device, or an empty string to set the properties for all devices and the core itself,
+     *                   e.g. CACHE_DIR.
+     * @param properties The properties to set.
+     */
+    public void setProperty(String deviceName, Properties properties) {
+        if (deviceName == null || properties == null) {
+            throw new NullPointerException("device name or properties is null");
+        }
+        for (Map.Entry<String, String> property : properties.asMap().entrySet()) {
+            verifyExceptionStatus(getVino().ov_core_set_property(getValue(), deviceName, property.getKey(), property.getValue()));
+        }
+    }
+
+    /**
+     * Sets properties for all devices and the core itself.
+     *
+     * @param properties The properties to set.
+     */
+    public void setProperty(Properties properties) {
+        setProperty("", properties);
+    }
+
+    /**
+     * Sets one property for a device.
+     *
+     * @param deviceName Name of a device.
+     * @param key        Property key.
+     * @param value      Property value.
+     */
+    public void setProperty(String deviceName, PropertyKey key, String value) {
+        setProperty(deviceName, new Properties().set(key, value));
+    }
+
+    /**
+     * Gets a property related to device behaviour.
+     *
+     * @param deviceName Name of a device.
+     * @param key        Property key, can be found in openvino/runtime/properties.hpp.
+     * @return Property value.
+     */
+    public String getProperty(String deviceName, String key) {
+        if (deviceName == null || StringUtils.isNullOrEmpty(key)) {
+            throw new NullPointerException("device name or property key is null");
+        }
+        PointerByReference value = new PointerByReference();
+        verifyExceptionStatus(getVino().ov_core_get_property(getValue(), deviceName, key, value));
+        try {
+            return value.getValue().getString(0);
+        } finally {
+            getVino().ov_free(value.getValue());
+        }
+    }
+
+    /**
+     * Gets a property related to device behaviour by its typed key.
+     *
+     * @param deviceName Name of a device.
+     * @param key        Property key.
+     * @return Property value.
+     */
+    public String getProperty(String deviceName, PropertyKey key) {
+        return getProperty(deviceName, key.getKey());
+    }
+
+    /**
+     * Gets the keys of all properties the device supports.
+     *
+     * @param deviceName Name of a device.
+     * @return The supported property keys.
+     */
+    public List<String> getSupportedProperties(String deviceName) {
+        String value = getProperty(deviceName, PropertyKey.SUPPORTED_PROPERTIES);
+        List<String> keys = new ArrayList<>();
+        for (String key : value.trim().split("\\s+")) {
+            if (!key.isEmpty()) {
+                keys.add(key);
+            }
+        }
+        return keys;
+    }
+
     @Override
     protected void dispose() {
         if (getPointer() == null) {
@@ -207,6 +429,6 @@ public class Core extends OpenVINOCls {
      * Release the memory allocated by ov_core_t.
      */
     public void free() {
-        dispose();
+        close();
     }
 }
@@ -0,0 +1,316 @@
+package org.openvino.java.core;
+
+import com.sun.jna.Native;
+import com.sun.jna.NativeLibrary;
+import com.sun.jna.Pointer;
+import com.sun.jna.ptr.IntByReference;
+import com.sun.jna.ptr.LongByReference;
+import com.sun.jna.ptr.PointerByReference;
+import org.openvino.java.domain.OvShape;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * VINO binding using JNA direct mapping for the calls made on every inference: tensor data and metadata,
+ * infer request execution and tensor access, and port queries. Direct-mapped calls are bound with Native.register
+ * and skip the reflective proxy dispatch of interface mapping.
+ * The remaining functions, including the varargs and callback ones that direct mapping does not support,
+ * are forwarded to the interface-mapped library.
+ * Selected by VINO.load(path, true) or -Dopenvino.jna.direct=true.
+ */
+public final class DirectVINO extends ForwardingVINO {
+
+    /**
+     * The library the direct methods are bound to. Native.register binds a class only once per class loader.
+     */
+    private static String registeredPath;
+
+    /**
+     * Bound of the encoded name cache; names past it are encoded on every call.
+     */
+    private static final int MAX_NAMES = 1024;
+
+    /**
+     * Offset of ov_shape_t::dims, after the int64_t rank.
+     */
+    private static final long SHAPE_DIMS_OFFSET = 8;
+
+    /**
+     * Load the library at the given path with both the direct and the interface mapping.
+     *
+     * @param path Path or name of the OpenVINO C library.
+     */
+    DirectVINO(String path) {
+        super(Native.load(path, VINO.class));
+        register(path);
+    }
+
+    private static synchronized void register(String path) {
+        if (registeredPath == null) {
+            Native.register(Direct.class, NativeLibrary.getInstance(path));
+            registeredPath = path;
+        } else if (!registeredPath.equals(path)) {
+            throw new UnsupportedOperationException("DirectVINO:direct mapping is already bound to " + registeredPath);
+        }
+    }
+
+    /**
+     * Direct-mapped functions. Only primitive, Pointer and byte[] arguments are used, which JNA passes without
+     * conversion: out-parameters are the native memory of the caller's by-reference, structures are read by hand
+     * and names are passed pre-encoded.
+     */
+    private static final class Direct {
+
+        static native int ov_port_get_any_name(Pointer port, Pointer tensorName);
+
+        static native int ov_port_get_element_type(Pointer port, Pointer tensorType);
+
+        static native int ov_infer_request_get_input_tensor(Pointer infer_request, Pointer tensor);
+
+        static native int ov_tensor_get_shape(Pointer tensor, Pointer shape);
+
+        static native int ov_tensor_get_size(Pointer tensor, Pointer elementsSize);
+
+        static native int ov_output_const_port_free(Pointer port);
+
+        static native int ov_output_port_free(Pointer port);
+
+        static native int ov_infer_request_infer(Pointer inferRequest);
+
+        static native int ov_infer_request_get_output_tensor(Pointer inferRequest, Pointer tensor);
+
+        static native int ov_tensor_data(Pointer tensor, Pointer data);
+
+        static native int ov_infer_request_get_tensor(Pointer model, byte[] name, Pointer tensor);
+
+        static native int ov_infer_request_set_tensor(Pointer inferRequest, byte[] tensorName, Pointer tensor);
+
+        static native int ov_infer_request_set_tensor_by_port(Pointer inferRequest, Pointer port, Pointer tensor);
+
+        static native int ov_infer_request_set_tensor_by_const_port(Pointer inferRequest, Pointer port, Pointer tensor);
+
+        static native int ov_infer_request_set_input_tensor_by_index(Pointer inferRequest, long index, Pointer tensor);
+
+        static native int ov_infer_request_set_input_tensor(Pointer inferRequest, Pointer tensor);
+
+        static native int ov_infer_request_set_output_tensor_by_index(Pointer inferRequest, long index, Pointer tensor);
+
+        static native int ov_infer_request_set_output_tensor(Pointer inferRequest, Pointer tensor);
+
+        static native int ov_infer_request_get_tensor_by_const_port(Pointer inferRequest, Pointer port, Pointer tensor);
+
+        static native int ov_infer_request_get_tensor_by_port(Pointer inferRequest, Pointer port, Pointer tensor);
+
+        static native int ov_infer_request_get_input_tensor_by_index(Pointer inferRequest, long index, Pointer tensor);
+
+        static native int ov_infer_request_get_output_tensor_by_index(Pointer inferRequest, long index, Pointer tensor);
+
+        static native int ov_infer_request_cancel(Pointer inferRequest);
+
+        static native int ov_infer_request_start_async(Pointer inferRequest);
+
+        static native int ov_infer_request_wait(Pointer inferRequest);
+
+        static native int ov_infer_request_wait_for(Pointer inferRequest, long timeout);
+
+        static native int ov_port_get_shape(Pointer node, Pointer shape);
+
+        static native int ov_shape_free(Pointer shape);
+
+        static native int ov_tensor_get_element_type(Pointer tensor, Pointer type);
+
+        static native int ov_tensor_get_byte_size(Pointer tensor, Pointer size);
+
+        static native void ov_tensor_free(Pointer tensor);
+    }
+
+    /**
+     * Encoded tensor names, so a name is converted once instead of on every call.
+     */
+    private final ConcurrentHashMap<String, byte[]> names = new ConcurrentHashMap<>();
+
+    /**
+     * Get the NUL terminated encoding of a name.
+     */
+    private byte[] encode(String name) {
+        if (name == null) {
+            return null;
+        }
+        byte[] encoded = names.get(name);
+        if (encoded == null) {
+            encoded = Native.toByteArray(name);
+            if (names.size() < MAX_NAMES) {
+                names.putIfAbsent(name, encoded);
+            }
+        }
+        return encoded;
+    }
+
+    /**
+     * Read the fields of an ov_shape_t written by a direct call, without Structure reflection.
+     */
+    private static void readShape(OvShape shape) {
+        Pointer memory = shape.getPointer();
+        shape.rank = memory.getLong(0);
+        shape.dims = memory.getPointer(SHAPE_DIMS_OFFSET);
+    }
+
+    @Override
+    public int ov_port_get_any_name(Pointer port, PointerByReference tensorName) {
+        return Direct.ov_port_get_any_name(port, tensorName.getPointer());
+    }
+
+    @Override
+    public int ov_port_get_element_type(Pointer port, IntByReference tensorType) {
+        return Direct.ov_port_get_element_type(port, tensorType.getPointer());
+    }
+
+    @Override
+    public int ov_infer_request_get_input_tensor(Pointer infer_request, PointerByReference tensor) {
+        return Direct.ov_infer_request_get_input_tensor(infer_request, tensor.getPointer());
+    }
+
+    @Override
+    public int ov_tensor_get_shape(Pointer tensor, OvShape shape) {
+        int status = Direct.ov_tensor_get_shape(tensor, shape.getPointer());
+        readShape(shape);
+        return status;
+    }
+
+    @Override
+    public int ov_tensor_get_size(Pointer tensor, LongByReference elementsSize) {
+        return Direct.ov_tensor_get_size(tensor, elementsSize.getPointer());
+    }
+
+    @Override
+    public int ov_output_const_port_free(Pointer port) {
+        return Direct.ov_output_const_port_free(port);
+    }
+
+    @Override
+    public int ov_output_port_free(Pointer port) {
+        return Direct.ov_output_port_free(port);
+    }
+
+    @Override
+    public int ov_infer_request_infer(Pointer inferRequest) {
+        return Direct.ov_infer_request_infer(inferRequest);
+    }
+
+    @Override
+    public int ov_infer_request_get_output_tensor(Pointer inferRequest, PointerByReference tensor) {
+        return Direct.ov_infer_request_get_output_tensor(inferRequest, tensor.getPointer());
+    }
+
+    @Override
+    public int ov_tensor_data(Pointer tensor, PointerByReference data) {
+        return Direct.ov_tensor_data(tensor, data.getPointer());
+    }
+
+    @Override
+    public int ov_infer_request_get_tensor(Pointer model, String name, PointerByReference tensor) {
+        return Direct.ov_infer_request_get_tensor(model, encode(name), tensor.getPointer());
+    }
+
+    @Override
+    public int ov_infer_request_set_tensor(Pointer inferRequest, String tensorName, Pointer tensor) {
+        return Direct.ov_infer_request_set_tensor(inferRequest, encode(tensorName), tensor);
+    }
+
+    @Override
+    public int ov_infer_request_set_tensor_by_port(Pointer inferRequest, Pointer port, Pointer tensor) {
+        return Direct.ov_infer_request_set_tensor_by_port(inferRequest, port, tensor);
+    }
+
+    @Override
+    public int ov_infer_request_set_tensor_by_const_port(Pointer inferRequest, Pointer port, Pointer tensor) {
+        return Direct.ov_infer_request_set_tensor_by_const_port(inferRequest, port, tensor);
+    }
+
+    @Override
+    public int ov_infer_request_set_input_tensor_by_index(Pointer inferRequest, long index, Pointer tensor) {
+        return Direct.ov_infer_request_set_input_tensor_by_index(inferRequest, index, tensor);
+    }
+
+    @Override
+    public int ov_infer_request_set_input_tensor(Pointer inferRequest, Pointer tensor) {
+        return Direct.ov_infer_request_set_input_tensor(inferRequest, tensor);
+    }
+
+    @Override
+    public int ov_infer_request_set_output_tensor_by_index(Pointer inferRequest, long index, Pointer tensor) {
+        return Direct.ov_infer_request_set_output_tensor_by_index(inferRequest, index, tensor);
+    }
+
+    @Override
+    public int ov_infer_request_set_output_tensor(Pointer inferRequest, Pointer tensor) {
+        return Direct.ov_infer_request_set_output_tensor(inferRequest, tensor);
+    }
+
+    @Override
+    public int ov_infer_request_get_tensor_by_const_port(Pointer inferRequest, Pointer port, PointerByReference tensor) {
+        return Direct.ov_infer_request_get_tensor_by_const_port(inferRequest, port, tensor.getPointer());
+    }
+
+    @Override
+    public int ov_infer_request_get_tensor_by_port(Pointer inferRequest, Pointer port, PointerByReference tensor) {
+        return Direct.ov_infer_request_get_tensor_by_port(inferRequest, port, tensor.getPointer());
+    }
+
+    @Override
+    public int ov_infer_request_get_input_tensor_by_index(Pointer inferRequest, long index, PointerByReference tensor) {
+        return Direct.ov_infer_request_get_input_tensor_by_index(inferRequest, index, tensor.getPointer());
+    }
+
+    @Override
+    public int ov_infer_request_get_output_tensor_by_index(Pointer inferRequest, long index, PointerByReference tensor) {
+        return Direct.ov_infer_request_get_output_tensor_by_index(inferRequest, index, tensor.getPointer());
+    }
+
+    @Override
+    public int ov_infer_request_cancel(Pointer inferRequest) {
+        return Direct.ov_infer_request_cancel(inferRequest);
+    }
+
+    @Override
+    public int ov_infer_request_start_async(Pointer inferRequest) {
+        return Direct.ov_infer_request_start_async(inferRequest);
+    }
+
+    @Override
+    public int ov_infer_request_wait(Pointer inferRequest) {
+        return Direct.ov_infer_request_wait(inferRequest);
+    }
+
+    @Override
+    public int ov_infer_request_wait_for(Pointer inferRequest, long timeout) {
+        return Direct.ov_infer_request_wait_for(inferRequest, timeout);
+    }
+
+    @Override
+    public int ov_port_get_shape(Pointer node, OvShape shape) {
+        int status = Direct.ov_port_get_shape(node, shape.getPointer());
+        readShape(shape);
+        return status;
+    }
+
+    @Override
+    public int ov_shape_free(Pointer shape) {
+        return Direct.ov_shape_free(shape);
+    }
+
+    @Override
+    public int ov_tensor_get_element_type(Pointer tensor, IntByReference type) {
+        return Direct.ov_tensor_get_element_type(tensor, type.getPointer());
+    }
+
+    @Override
+    public int ov_tensor_get_byte_size(Pointer tensor, LongByReference size) {
+        return Direct.ov_tensor_get_byte_size(tensor, size.getPointer());
+    }
+
+    @Override
+    public void ov_tensor_free(Pointer tensor) {
+        Direct.ov_tensor_free(tensor);
+    }
+}
@@ -0,0 +1,401 @@
+package org.openvino.java.core;
+
+import org.openvino.java.core.BatchQueue.Job;
+import org.openvino.java.domain.Dimension;
+import org.openvino.java.enums.ElementType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micro-batching scheduler in front of a compiled model whose batch dimension is dynamic or bounded,
+ * see reshapeForBatching.
+ * Callers submit single samples of shape {1, ...} and get a future of their outputs. A dispatcher thread
+ * waits for an idle request, collects samples of equal shape until maxBatchSize is reached or the oldest one
+ * has waited maxDelay, packs them into the batched input tensors, runs one inference and copies each caller's
+ * slice of the outputs into new tensors owned by the caller.
+ * Input tensors are copied when their batch is packed, so they must not be changed or closed before the future completes.
+ */
+public class DynamicBatcher implements AutoCloseable {
+
+    private final ElementType[] inputTypes;
+
+    private final int outputCount;
+
+    private final List<InferRequest> requests;
+
+    private final BlockingQueue<InferRequest> idle;
+
+    private final BatchQueue queue;
+
+    private final Thread dispatcher;
+
+    /**
+     * Number of batches by size, index 0 unused.
+     */
+    private final long[] batchSizes;
+
+    private long batches;
+
+    private long samples;
+
+    private long totalQueueNanos;
+
+    private long maxQueueNanos;
+
+    /**
+     * Constructs a batcher running one request at a time.
+     *
+     * @param compiledModel The compiled model, with a dynamic or bounded batch dimension on every input.
+     * @param maxBatchSize  Maximum number of samples in one batch.
+     * @param maxDelay      Maximum time the oldest sample waits for more samples.
+     * @param unit          Unit of maxDelay.
+     */
+    public DynamicBatcher(CompiledModel compiledModel, int maxBatchSize, long maxDelay, TimeUnit unit) {
+        this(compiledModel, maxBatchSize, maxDelay, unit, 1);
+    }
+
+    /**
+     * Constructs a batcher.
+     *
+     * @param compiledModel The compiled model, with a dynamic or bounded batch dimension on every input.
+     * @param maxBatchSize  Maximum number of samples in one batch.
+     * @param maxDelay      Maximum time the oldest sample waits for more samples.
+     * @param unit          Unit of maxDelay.
+     * @param jobs          Number of requests, i.e. batches that may run at the same time.
+     */
+    public DynamicBatcher(CompiledModel compiledModel, int maxBatchSize, long maxDelay, TimeUnit unit, int jobs) {
+        if (compiledModel == null) {
+            throw new NullPointerException("compiled model is null");
+        }
+        if (maxBatchSize <= 0 || maxDelay < 0 || jobs <= 0) {
+            throw new IllegalArgumentException("maxBatchSize and jobs must be positive, maxDelay must not be negative");
+        }
+        this.queue = new BatchQueue(maxBatchSize, unit.toNanos(maxDelay));
+        this.batchSizes = new long[maxBatchSize + 1];
+        List<Input> inputs = compiledModel.inputs();
+        inputTypes = new ElementType[inputs.size()];
+        for (int i = 0; i < inputTypes.length; i++) {
+            inputTypes[i] = ElementType.values()[inputs.get(i).getElementType()];
+        }
+        outputCount = compiledModel.outputs().size();
+        List<InferRequest> list = new ArrayList<>(jobs);
+        idle = new LinkedBlockingQueue<>();
+        for (int i = 0; i < jobs; i++) {
+            InferRequest request = compiledModel.createInferRequest();
+            list.add(request);
+            idle.add(request);
+        }
+        requests = list;
+        dispatcher = new Thread(this::dispatch, "openvino-dynamic-batcher");
+        dispatcher.setDaemon(true);
+        dispatcher.start();
+    }
+
+    /**
+     * Reshape every input of a model so its first dimension is bounded by [1, maxBatchSize].
+     * Call before compiling the model for a batcher.
+     *
+     * @param model        The model.
+     * @param maxBatchSize The upper bound of the batch dimension.
+     */
+    public static void reshapeForBatching(Model model, long maxBatchSize) {
+        List<Input> inputs = model.inputs();
+        Map<Long, PartialShape> shapes = new LinkedHashMap<>();
+        for (int i = 0; i < inputs.size(); i++) {
+            PartialShape shape = inputs.get(i).getPartialShape();
+            if (shape.getRank().isDynamic() || shape.getRank().getMax() == 0) {
+                throw new UnsupportedOperationException("DynamicBatcher:input " + i + " has no batch dimension");
+            }
+            Dimension[] dimensions = shape.get_dimensions();
+            dimensions[0] = new Dimension(1, maxBatchSize);
+            shapes.put((long) i, new PartialShape(dimensions));
+        }
+        model.reshapeByLongMap(shapes);
+    }
+
+    /**
+     * Submit a sample of a single input model.
+     *
+     * @param input The input of shape {1, ...}.
+     * @return A future of the first output of shape {1, ...}, to be closed by the caller.
+     */
+    public CompletableFuture<Tensor> submit(Tensor input) {
+        return submitAll(input).thenApply(outputs -> {
+            for (int i = 1; i < outputs.length; i++) {
+                outputs[i].close();
+            }
+            return outputs[0];
+        });
+    }
+
+    /**
+     * Submit a sample.
+     *
+     * @param inputs One tensor of shape {1, ...} per model input, in input order.
+     * @return A future of all outputs of shape {1, ...}, in output order, to be closed by the caller.
+     */
+    public CompletableFuture<Tensor[]> submitAll(Tensor... inputs) {
+        if (inputs.length != inputTypes.length) {
+            throw new IllegalArgumentException("DynamicBatcher:expected " + inputTypes.length + " inputs, got " + inputs.length);
+        }
+        long[][] dims = new long[inputs.length][];
+        for (int i = 0; i < inputs.length; i++) {
+            dims[i] = inputs[i].getDims();
+            if (dims[i].length == 0 || dims[i][0] != 1) {
+                throw new IllegalArgumentException("DynamicBatcher:input " + i + " " + inputs[i].getShape() + " is not a single sample");
+            }
+            if (inputs[i].getElementType() != inputTypes[i]) {
+                throw new IllegalArgumentException("DynamicBatcher:input " + i + " is " + inputs[i].getElementType() + ", expected " + inputTypes[i]);
+            }
+        }
+        Job job = new Job(inputs, dims);
+        if (!queue.add(job)) {
+            throw new IllegalStateException("DynamicBatcher:closed");
+        }
+        return job.future;
+    }
+
+    private void dispatch() {
+        try {
+            while (true) {
+                InferRequest request = idle.take();
+                List<Job> batch;
+                try {
+                    batch = queue.collect();
+                } catch (InterruptedException e) {
+                    idle.add(request);
+                    throw e;
+                }
+                if (batch == null) {
+                    idle.add(request);
+                    break;
+                }
+                run(request, batch);
+            }
+        } catch (InterruptedException e) {
+            queue.close();
+            queue.fail(new RuntimeException("DynamicBatcher: interrupted"));
+        } finally {
+            releaseRequests();
+        }
+    }
+
+    /**
+     * Wait for the running batches to return their requests, then release the requests. The wait ignores interrupts,
+     * since a batch still running uses its request and completes its futures from the completion thread.
+     */
+    private void releaseRequests() {
+        boolean interrupted = false;
+        int returned = 0;
+        while (returned < requests.size()) {
+            try {
+                idle.take();
+                returned++;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        for (InferRequest request : requests) {
+            request.close();
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run(InferRequest request, List<Job> batch) {
+        record(batch, System.nanoTime());
+        try {
+            pack(request, batch);
+            request.inferAsync().whenComplete((r, e) -> {
+                Tensor[][] results = null;
+                Throwable failure = e;
+                if (failure == null) {
+                    try {
+                        results = scatter(request, batch.size());
+                    } catch (RuntimeException ex) {
+                        failure = ex;
+                    }
+                }
+                // return the request before completing the futures, so their continuations may close the batcher
+                idle.add(request);
+                if (failure != null) {
+                    fail(batch, failure);
+                } else {
+                    complete(batch, results);
+                }
+            });
+        } catch (RuntimeException e) {
+            idle.add(request);
+            fail(batch, e);
+        }
+    }
+
+    /**
+     * Resize the input tensors of the request to the batch and copy each sample into its slice.
+     */
+    private void pack(InferRequest request, List<Job> batch) {
+        int n = batch.size();
+        for (int k = 0; k < inputTypes.length; k++) {
+            long[] dims = batch.get(0).dims[k].clone();
+            dims[0] = n;
+            Shape shape = new Shape(dims);
+            Tensor tensor = request.getInputTensor(k);
+            if (!shape.equals(tensor.getShape())) {
+                tensor.setShape(shape);
+            }
+            for (int i = 0; i < n; i++) {
+                try (Tensor view = tensor.viewBatch(i)) {
+                    batch.get(i).inputs[k].copyTo(view);
+                }
+            }
+        }
+    }
+
+    /**
+     * Copy the output slice of each sample into new tensors. The output tensors stay owned by the request.
+     *
+     * @return The outputs of each sample.
+     */
+    private Tensor[][] scatter(InferRequest request, int n) {
+        Tensor[][] results = new Tensor[n][outputCount];
+        try {
+            for (int k = 0; k < outputCount; k++) {
+                Tensor output = request.getOutputTensor(k);
+                if (output.getRank() == 0 || output.getDim(0) != n) {
+                    throw new IllegalStateException("DynamicBatcher:output " + k + " " + output.getShape() + " is not batched by " + n);
+                }
+                for (int i = 0; i < n; i++) {
+                    try (Tensor view = output.viewBatch(i)) {
+                        Tensor copy = new Tensor(view.getElementType(), view.getShape());
+                        results[i][k] = copy;
+                        view.copyTo(copy);
+                    }
+                }
+            }
+        } catch (RuntimeException e) {
+            for (Tensor[] tensors : results) {
+                close(tensors);
+            }
+            throw e;
+        }
+        return results;
+    }
+
+    private static void complete(List<Job> batch, Tensor[][] results) {
+        for (int i = 0; i < results.length; i++) {
+            if (!batch.get(i).future.complete(results[i])) {
+                close(results[i]);
+            }
+        }
+    }
+
+    private static void close(Tensor[] tensors) {
+        for (Tensor tensor : tensors) {
+            if (tensor != null) {
+                tensor.close();
+            }
+        }
+    }
+
+    private static void fail(List<Job> batch, Throwable e) {
+        for (Job job : batch) {
+            job.future.completeExceptionally(e);
+        }
+    }
+
+    private synchronized void record(List<Job> batch, long now) {
+        batchSizes[batch.size()]++;
+        batches++;
+        for (Job job : batch) {
+            long delay = now - job.enqueued;
+            totalQueueNanos += delay;
+            maxQueueNanos = Math.max(maxQueueNanos, delay);
+        }
+        samples += batch.size();
+    }
+
+    /**
+     * Get the number of batches run per batch size.
+     *
+     * @return An array indexed by batch size; index 0 is unused.
+     */
+    public synchronized long[] getBatchSizeHistogram() {
+        return batchSizes.clone();
+    }
+
+    public synchronized long getBatchCount() {
+        return batches;
+    }
+
+    public synchronized double getAverageBatchSize() {
+        return batches == 0 ? 0 : (double) samples / batches;
+    }
+
+    /**
+     * Get the average time samples waited in the queue before their batch was packed.
+     *
+     * @param unit The unit of the result.
+     * @return The average queueing delay.
+     */
+    public synchronized long getAverageQueueDelay(TimeUnit unit) {
+        return samples == 0 ? 0 : unit.convert(totalQueueNanos / samples, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Get the longest time a sample waited in the queue before its batch was packed.
+     *
+     * @param unit The unit of the result.
+     * @return The maximum queueing delay.
+     */
+    public synchronized long getMaxQueueDelay(TimeUnit unit) {
+        return unit.convert(maxQueueNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Get the number of samples waiting for a batch.
+     *
+     * @return The queue length.
+     */
+    public int getQueueLength() {
+        return queue.size();
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "DynamicBatcher{batches=" + batches + ", samples=" + samples
+                + ", batchSizes=" + Arrays.toString(Arrays.copyOfRange(batchSizes, 1, batchSizes.length))
+                + ", avgQueueMicros=" + (samples == 0 ? 0 : totalQueueNanos / samples / 1000)
+                + ", maxQueueMicros=" + maxQueueNanos / 1000 + '}';
+    }
+
+    /**
+     * Stop accepting samples, run the queued ones, wait for the running batches and release the requests.
+     * May be called from a continuation of a sample's future. Continuations of futures that failed before their batch
+     * started run on the dispatcher thread, which cannot wait for itself: there close returns at once and the
+     * dispatcher releases the requests once the queue is drained.
+     */
+    @Override
+    public void close() {
+        if (!queue.close()) {
+            return;
+        }
+        if (Thread.currentThread() == dispatcher) {
+            return;
+        }
+        try {
+            dispatcher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("DynamicBatcher: interrupted while waiting for batches", e);
+        }
+    }
+}
@@ -0,0 +1,753 @@
+package org.openvino.java.core;
+
+import com.sun.jna.Pointer;
+import com.sun.jna.ptr.IntByReference;
+import com.sun.jna.ptr.LongByReference;
+import com.sun.jna.ptr.PointerByReference;
+import org.openvino.java.domain.*;
+
+/**
+ * A VINO forwarding every call to another binding.
+ * DirectVINO extends it and overrides only the functions it binds with direct mapping.
+ */
+abstract class ForwardingVINO implements VINO {
+
+    private final VINO delegate;
+
+    ForwardingVINO(VINO delegate) {
+        if (delegate == null) {
+            throw new NullPointerException("delegate is null");
+        }
+        this.delegate = delegate;
+    }
+
+    @Override
+    public int ov_get_openvino_version(OvVersion version) {
+        return delegate.ov_get_openvino_version(version);
+    }
+
+    @Override
+    public int ov_core_create_with_config(String xmlFile, int core) {
+        return delegate.ov_core_create_with_config(xmlFile, core);
+    }
+
+    @Override
+    public int ov_core_create_with_config(String xmlConfigFile, PointerByReference core) {
+        return delegate.ov_core_create_with_config(xmlConfigFile, core);
+    }
+
+    @Override
+    public int ov_core_create(PointerByReference core) {
+        return delegate.ov_core_create(core);
+    }
+
+    @Override
+    public int ov_core_read_model(Pointer core, String modelPath, String binPath, PointerByReference model) {
+        return delegate.ov_core_read_model(core, modelPath, binPath, model);
+    }
+
+    @Override
+    public int ov_core_compile_model(Pointer core, Pointer model, String deviceName, long propertyArgsSize, PointerByReference compiledModel) {
+        return delegate.ov_core_compile_model(core, model, deviceName, propertyArgsSize, compiledModel);
+    }
+
+    @Override
+    public int ov_core_compile_model(Pointer core, Pointer model, String deviceName, long propertyArgsSize, PointerByReference compiledModel, Object... properties) {
+        return delegate.ov_core_compile_model(core, model, deviceName, propertyArgsSize, compiledModel, properties);
+    }
+
+    @Override
+    public int ov_model_get_friendly_name(Pointer model, PointerByReference friendlyName) {
+        return delegate.ov_model_get_friendly_name(model, friendlyName);
+    }
+
+    @Override
+    public int ov_compiled_model_input(Pointer compiledModel, PointerByReference inputPort) {
+        return delegate.ov_compiled_model_input(compiledModel, inputPort);
+    }
+
+    @Override
+    public int ov_port_get_any_name(Pointer port, PointerByReference tensorName) {
+        return delegate.ov_port_get_any_name(port, tensorName);
+    }
+
+    @Override
+    public int ov_port_get_element_type(Pointer port, IntByReference tensorType) {
+        return delegate.ov_port_get_element_type(port, tensorType);
+    }
+
+    @Override
+    public int ov_const_port_get_shape(Pointer port, OvShape shape) {
+        return delegate.ov_const_port_get_shape(port, shape);
+    }
+
+    @Override
+    public int ov_compiled_model_output(Pointer compiledModel, PointerByReference outputPort) {
+        return delegate.ov_compiled_model_output(compiledModel, outputPort);
+    }
+
+    @Override
+    public int ov_compiled_model_create_infer_request(Pointer compiledModel, PointerByReference inferRequest) {
+        return delegate.ov_compiled_model_create_infer_request(compiledModel, inferRequest);
+    }
+
+    @Override
+    public int ov_infer_request_get_input_tensor(Pointer infer_request, PointerByReference tensor) {
+        return delegate.ov_infer_request_get_input_tensor(infer_request, tensor);
+    }
+
+    @Override
+    public int ov_tensor_get_shape(Pointer tensor, OvShape shape) {
+        return delegate.ov_tensor_get_shape(tensor, shape);
+    }
+
+    @Override
+    public int ov_tensor_get_size(Pointer tensor, LongByReference elementsSize) {
+        return delegate.ov_tensor_get_size(tensor, elementsSize);
+    }
+
+    @Override
+    public int ov_model_const_input_by_index(Pointer model, long index, PointerByReference inputPort) {
+        return delegate.ov_model_const_input_by_index(model, index, inputPort);
+    }
+
+    @Override
+    public int ov_model_const_output_by_index(Pointer model, long index, PointerByReference outputPort) {
+        return delegate.ov_model_const_output_by_index(model, index, outputPort);
+    }
+
+    @Override
+    public int ov_output_const_port_free(Pointer port) {
+        return delegate.ov_output_const_port_free(port);
+    }
+
+    @Override
+    public int ov_output_port_free(Pointer port) {
+        return delegate.ov_output_port_free(port);
+    }
+
+    @Override
+    public int ov_infer_request_infer(Pointer inferRequest) {
+        return delegate.ov_infer_request_infer(inferRequest);
+    }
+
+    @Override
+    public int ov_infer_request_get_output_tensor(Pointer inferRequest, PointerByReference tensor) {
+        return delegate.ov_infer_request_get_output_tensor(inferRequest, tensor);
+    }
+
+    @Override
+    public int ov_tensor_data(Pointer tensor, PointerByReference data) {
+        return delegate.ov_tensor_data(tensor, data);
+    }
+
+    @Override
+    public int ov_infer_request_get_tensor(Pointer model, String name, PointerByReference tensor) {
+        return delegate.ov_infer_request_get_tensor(model, name, tensor);
+    }
+
+    @Override
+    public void ov_core_free(Pointer core) {
+        delegate.ov_core_free(core);
+    }
+
+    @Override
+    public int ov_core_get_available_devices(Pointer core, OvAvailableDevices devices) {
+        return delegate.ov_core_get_available_devices(core, devices);
+    }
+
+    @Override
+    public void ov_available_devices_free(Pointer devices) {
+        delegate.ov_available_devices_free(devices);
+    }
+
+    @Override
+    public int ov_core_get_versions_by_device_name(Pointer core, String deviceName, OvCoreVersionList version) {
+        return delegate.ov_core_get_versions_by_device_name(core, deviceName, version);
+    }
+
+    @Override
+    public int ov_core_read_model_from_memory(Pointer core, String modelPath, Pointer weights, PointerByReference model) {
+        return delegate.ov_core_read_model_from_memory(core, modelPath, weights, model);
+    }
+
+    @Override
+    public int ov_core_compile_model_from_file(Pointer core, String modelPath, String deviceName, long propertyArgsSize, PointerByReference compiledModel) {
+        return delegate.ov_core_compile_model_from_file(core, modelPath, deviceName, propertyArgsSize, compiledModel);
+    }
+
+    @Override
+    public int ov_core_compile_model_from_file(Pointer core, String modelPath, String deviceName, long propertyArgsSize, PointerByReference compiledModel, Object... properties) {
+        return delegate.ov_core_compile_model_from_file(core, modelPath, deviceName, propertyArgsSize, compiledModel, properties);
+    }
+
+    @Override
+    public int ov_core_import_model(Pointer core, Pointer content, long contentSize, String deviceName, PointerByReference compiledModel) {
+        return delegate.ov_core_import_model(core, content, contentSize, deviceName, compiledModel);
+    }
+
+    @Override
+    public void ov_core_versions_free(OvAvailableDevices devices) {
+        delegate.ov_core_versions_free(devices);
+    }
+
+    @Override
+    public int ov_core_set_property(Pointer core, String deviceName, Object... properties) {
+        return delegate.ov_core_set_property(core, deviceName, properties);
+    }
+
+    @Override
+    public int ov_core_get_property(Pointer core, String deviceName, String propertyKey, PointerByReference propertyValue) {
+        return delegate.ov_core_get_property(core, deviceName, propertyKey, propertyValue);
+    }
+
+    @Override
+    public void ov_free(Pointer content) {
+        delegate.ov_free(content);
+    }
+
+    @Override
+    public int ov_compiled_model_input_by_name(Pointer compiledModel, String name, PointerByReference inputPort) {
+        return delegate.ov_compiled_model_input_by_name(compiledModel, name, inputPort);
+    }
+
+    @Override
+    public int ov_compiled_model_input_by_index(Pointer compiledModel, long index, PointerByReference inputPort) {
+        return delegate.ov_compiled_model_input_by_index(compiledModel, index, inputPort);
+    }
+
+    @Override
+    public int ov_compiled_model_output_by_name(Pointer compiledModel, String name, PointerByReference outputPort) {
+        return delegate.ov_compiled_model_output_by_name(compiledModel, name, outputPort);
+    }
+
+    @Override
+    public int ov_compiled_model_output_by_index(Pointer compiledModel, long index, PointerByReference outputPort) {
+        return delegate.ov_compiled_model_output_by_index(compiledModel, index, outputPort);
+    }
+
+    @Override
+    public int ov_compiled_model_inputs_size(Pointer compiledModel, LongByReference size) {
+        return delegate.ov_compiled_model_inputs_size(compiledModel, size);
+    }
+
+    @Override
+    public int ov_compiled_model_outputs_size(Pointer compiledModel, LongByReference size) {
+        return delegate.ov_compiled_model_outputs_size(compiledModel, size);
+    }
+
+    @Override
+    public int ov_compiled_model_get_runtime_model(Pointer compiledModel, PointerByReference model) {
+        return delegate.ov_compiled_model_get_runtime_model(compiledModel, model);
+    }
+
+    @Override
+    public int ov_compiled_model_export_model(Pointer compiledModel, String modelPath) {
+        return delegate.ov_compiled_model_export_model(compiledModel, modelPath);
+    }
+
+    @Override
+    public int ov_compiled_model_set_property(Pointer compiledModel, String key, String value) {
+        return delegate.ov_compiled_model_set_property(compiledModel, key, value);
+    }
+
+    @Override
+    public int ov_compiled_model_get_property(Pointer compiledModel, String key, PointerByReference value) {
+        return delegate.ov_compiled_model_get_property(compiledModel, key, value);
+    }
+
+    @Override
+    public int ov_compiled_model_get_context(Pointer compiledModel, PointerByReference context) {
+        return delegate.ov_compiled_model_get_context(compiledModel, context);
+    }
+
+    @Override
+    public void ov_infer_request_free(Pointer inferRequest) {
+        delegate.ov_infer_request_free(inferRequest);
+    }
+
+    @Override
+    public void ov_compiled_model_free(Pointer compiledModel) {
+        delegate.ov_compiled_model_free(compiledModel);
+    }
+
+    @Override
+    public int ov_infer_request_set_tensor(Pointer inferRequest, String tensorName, Pointer tensor) {
+        return delegate.ov_infer_request_set_tensor(inferRequest, tensorName, tensor);
+    }
+
+    @Override
+    public int ov_infer_request_set_tensor_by_port(Pointer inferRequest, Pointer port, Pointer tensor) {
+        return delegate.ov_infer_request_set_tensor_by_port(inferRequest, port, tensor);
+    }
+
+    @Override
+    public int ov_infer_request_set_tensor_by_const_port(Pointer inferRequest, Pointer port, Pointer tensor) {
+        return delegate.ov_infer_request_set_tensor_by_const_port(inferRequest, port, tensor);
+    }
+
+    @Override
+    public int ov_infer_request_set_input_tensor_by_index(Pointer inferRequest, long index, Pointer tensor) {
+        return delegate.ov_infer_request_set_input_tensor_by_index(inferRequest, index, tensor);
+    }
+
+    @Override
+    public int ov_infer_request_set_input_tensor(Pointer inferRequest, Pointer tensor) {
+        return delegate.ov_infer_request_set_input_tensor(inferRequest, tensor);
+    }
+
+    @Override
+    public int ov_infer_request_set_output_tensor_by_index(Pointer inferRequest, long index, Pointer tensor) {
+        return delegate.ov_infer_request_set_output_tensor_by_index(inferRequest, index, tensor);
+    }
+
+    @Override
+    public int ov_infer_request_set_output_tensor(Pointer inferRequest, Pointer tensor) {
+        return delegate.ov_infer_request_set_output_tensor(inferRequest, tensor);
+    }
+
+    @Override
+    public int ov_infer_request_get_tensor_by_const_port(Pointer inferRequest, Pointer port, PointerByReference tensor) {
+        return delegate.ov_infer_request_get_tensor_by_const_port(inferRequest, port, tensor);
+    }
+
+    @Override
+    public int ov_infer_request_get_tensor_by_port(Pointer inferRequest, Pointer port, PointerByReference tensor) {
+        return delegate.ov_infer_request_get_tensor_by_port(inferRequest, port, tensor);
+    }
+
+    @Override
+    public int ov_infer_request_get_input_tensor_by_index(Pointer inferRequest, long index, PointerByReference tensor) {
+        return delegate.ov_infer_request_get_input_tensor_by_index(inferRequest, index, tensor);
+    }
+
+    @Override
+    public int ov_infer_request_get_output_tensor_by_index(Pointer inferRequest, long index, PointerByReference tensor) {
+        return delegate.ov_infer_request_get_output_tensor_by_index(inferRequest, index, tensor);
+    }
+
+    @Override
+    public int ov_infer_request_cancel(Pointer inferRequest) {
+        return delegate.ov_infer_request_cancel(inferRequest);
+    }
+
+    @Override
+    public int ov_infer_request_start_async(Pointer inferRequest) {
+        return delegate.ov_infer_request_start_async(inferRequest);
+    }
+
+    @Override
+    public int ov_infer_request_wait(Pointer inferRequest) {
+        return delegate.ov_infer_request_wait(inferRequest);
+    }
+
+    @Override
+    public int ov_infer_request_wait_for(Pointer inferRequest, long timeout) {
+        return delegate.ov_infer_request_wait_for(inferRequest, timeout);
+    }
+
+    @Override
+    public int ov_infer_request_set_callback(Pointer inferRequest, OvCallback callback) {
+        return delegate.ov_infer_request_set_callback(inferRequest, callback);
+    }
+
+    @Override
+    public int ov_infer_request_get_profiling_info(Pointer inferRequest, OvProfilingInfoList list) {
+        return delegate.ov_infer_request_get_profiling_info(inferRequest, list);
+    }
+
+    @Override
+    public int ov_profiling_info_list_free(OvProfilingInfoList list) {
+        return delegate.ov_profiling_info_list_free(list);
+    }
+
+    @Override
+    public int ov_model_input(Pointer model, PointerByReference node) {
+        return delegate.ov_model_input(model, node);
+    }
+
+    @Override
+    public int ov_model_input_by_name(Pointer model, String tensorName, PointerByReference node) {
+        return delegate.ov_model_input_by_name(model, tensorName, node);
+    }
+
+    @Override
+    public int ov_model_input_by_index(Pointer model, long index, PointerByReference node) {
+        return delegate.ov_model_input_by_index(model, index, node);
+    }
+
+    @Override
+    public int ov_model_output(Pointer model, PointerByReference node) {
+        return delegate.ov_model_output(model, node);
+    }
+
+    @Override
+    public int ov_model_output_by_name(Pointer model, String tensorName, PointerByReference node) {
+        return delegate.ov_model_output_by_name(model, tensorName, node);
+    }
+
+    @Override
+    public int ov_model_output_by_index(Pointer model, long index, PointerByReference node) {
+        return delegate.ov_model_output_by_index(model, index, node);
+    }
+
+    @Override
+    public int ov_model_const_input(Pointer model, PointerByReference node) {
+        return delegate.ov_model_const_input(model, node);
+    }
+
+    @Override
+    public int ov_model_const_input_by_name(Pointer model, String tensorName, PointerByReference node) {
+        return delegate.ov_model_const_input_by_name(model, tensorName, node);
+    }
+
+    @Override
+    public int ov_model_const_output(Pointer model, PointerByReference node) {
+        return delegate.ov_model_const_output(model, node);
+    }
+
+    @Override
+    public int ov_model_const_output_by_name(Pointer model, String tensorName, PointerByReference node) {
+        return delegate.ov_model_const_output_by_name(model, tensorName, node);
+    }
+
+    @Override
+    public void ov_model_free(Pointer model) {
+        delegate.ov_model_free(model);
+    }
+
+    @Override
+    public int ov_model_inputs_size(Pointer model, LongByReference size) {
+        return delegate.ov_model_inputs_size(model, size);
+    }
+
+    @Override
+    public int ov_model_outputs_size(Pointer model, LongByReference size) {
+        return delegate.ov_model_outputs_size(model, size);
+    }
+
+    @Override
+    public boolean ov_model_is_dynamic(Pointer model) {
+        return delegate.ov_model_is_dynamic(model);
+    }
+
+    @Override
+    public boolean ov_dimension_is_dynamic(OvDimension.ByValue dimension) {
+        return delegate.ov_dimension_is_dynamic(dimension);
+    }
+
+    @Override
+    public int ov_partial_shape_create(long rank, OvDimension dimension, OvPartialShape shape) {
+        return delegate.ov_partial_shape_create(rank, dimension, shape);
+    }
+
+    @Override
+    public int ov_partial_shape_create_dynamic(OvRank.ByValue rank, OvDimension dims, OvPartialShape shape) {
+        return delegate.ov_partial_shape_create_dynamic(rank, dims, shape);
+    }
+
+    @Override
+    public int ov_partial_shape_create_static(long rank, LongByReference dims, OvPartialShape shape) {
+        return delegate.ov_partial_shape_create_static(rank, dims, shape);
+    }
+
+    @Override
+    public void ov_partial_shape_free(OvPartialShape shape) {
+        delegate.ov_partial_shape_free(shape);
+    }
+
+    @Override
+    public int ov_partial_shape_to_shape(OvPartialShape.ByValue partialShape, OvShape shape) {
+        return delegate.ov_partial_shape_to_shape(partialShape, shape);
+    }
+
+    @Override
+    public int ov_shape_to_partial_shape(OvShape.ByValue shape, OvPartialShape partialShape) {
+        return delegate.ov_shape_to_partial_shape(shape, partialShape);
+    }
+
+    @Override
+    public boolean ov_partial_shape_is_dynamic(OvPartialShape.ByValue shape) {
+        return delegate.ov_partial_shape_is_dynamic(shape);
+    }
+
+    @Override
+    public String ov_partial_shape_to_string(OvPartialShape.ByValue shape) {
+        return delegate.ov_partial_shape_to_string(shape);
+    }
+
+    @Override
+    public int ov_model_reshape(Pointer model, String[] tensorNames, OvPartialShape shape, long size) {
+        return delegate.ov_model_reshape(model, tensorNames, shape, size);
+    }
+
+    @Override
+    public int ov_model_reshape_input_by_name(Pointer model, String tensorName, OvPartialShape.ByValue shape) {
+        return delegate.ov_model_reshape_input_by_name(model, tensorName, shape);
+    }
+
+    @Override
+    public int ov_model_reshape_single_input(Pointer model, OvPartialShape.ByValue shape) {
+        return delegate.ov_model_reshape_single_input(model, shape);
+    }
+
+    @Override
+    public int ov_model_reshape_by_port_indexes(Pointer model, long[] portIndexes, OvPartialShape shape, long size) {
+        return delegate.ov_model_reshape_by_port_indexes(model, portIndexes, shape, size);
+    }
+
+    @Override
+    public int ov_model_reshape_by_ports(Pointer model, Pointer outputPorts, OvPartialShape shape, long size) {
+        return delegate.ov_model_reshape_by_ports(model, outputPorts, shape, size);
+    }
+
+    @Override
+    public int ov_port_get_partial_shape(Pointer node, OvPartialShape partialShape) {
+        return delegate.ov_port_get_partial_shape(node, partialShape);
+    }
+
+    @Override
+    public int ov_port_get_shape(Pointer node, OvShape shape) {
+        return delegate.ov_port_get_shape(node, shape);
+    }
+
+    @Override
+    public int ov_layout_create(String layoutDesc, PointerByReference layout) {
+        return delegate.ov_layout_create(layoutDesc, layout);
+    }
+
+    @Override
+    public void ov_layout_free(Pointer layout) {
+        delegate.ov_layout_free(layout);
+    }
+
+    @Override
+    public int ov_shape_create(long rank, long[] dims, OvShape shape) {
+        return delegate.ov_shape_create(rank, dims, shape);
+    }
+
+    @Override
+    public int ov_shape_free(Pointer shape) {
+        return delegate.ov_shape_free(shape);
+    }
+
+    @Override
+    public String ov_layout_to_string(Pointer layout) {
+        return delegate.ov_layout_to_string(layout);
+    }
+
+    @Override
+    public int ov_tensor_create_from_host_ptr(int type, OvShape.ByValue shape, Pointer hostPort, PointerByReference tensor) {
+        return delegate.ov_tensor_create_from_host_ptr(type, shape, hostPort, tensor);
+    }
+
+    @Override
+    public int ov_tensor_create(int type, OvShape.ByValue shape, PointerByReference tensor) {
+        return delegate.ov_tensor_create(type, shape, tensor);
+    }
+
+    @Override
+    public int ov_tensor_set_shape(Pointer tensor, OvShape.ByValue shape) {
+        return delegate.ov_tensor_set_shape(tensor, shape);
+    }
+
+    @Override
+    public int ov_tensor_get_element_type(Pointer tensor, IntByReference type) {
+        return delegate.ov_tensor_get_element_type(tensor, type);
+    }
+
+    @Override
+    public int ov_tensor_get_byte_size(Pointer tensor, LongByReference size) {
+        return delegate.ov_tensor_get_byte_size(tensor, size);
+    }
+
+    @Override
+    public void ov_tensor_free(Pointer tensor) {
+        delegate.ov_tensor_free(tensor);
+    }
+
+    @Override
+    public int ov_preprocess_prepostprocessor_create(Pointer model, PointerByReference preprocess) {
+        return delegate.ov_preprocess_prepostprocessor_create(model, preprocess);
+    }
+
+    @Override
+    public void ov_preprocess_prepostprocessor_free(Pointer preprocess) {
+        delegate.ov_preprocess_prepostprocessor_free(preprocess);
+    }
+
+    @Override
+    public int v_preprocess_prepostprocessor_get_input_info(Pointer preprocess, PointerByReference preprocessInputInfo) {
+        return delegate.v_preprocess_prepostprocessor_get_input_info(preprocess, preprocessInputInfo);
+    }
+
+    @Override
+    public int ov_preprocess_prepostprocessor_get_input_info_by_name(Pointer preprocess, String tensorName, PointerByReference preprocessInputInfo) {
+        return delegate.ov_preprocess_prepostprocessor_get_input_info_by_name(preprocess, tensorName, preprocessInputInfo);
+    }
+
+    @Override
+    public void ov_preprocess_input_info_free(Pointer preprocess_input_info) {
+        delegate.ov_preprocess_input_info_free(preprocess_input_info);
+    }
+
+    @Override
+    public int ov_preprocess_prepostprocessor_get_input_info_by_index(Pointer preprocess, long tensorIndex, PointerByReference preprocessInputInfo) {
+        return delegate.ov_preprocess_prepostprocessor_get_input_info_by_index(preprocess, tensorIndex, preprocessInputInfo);
+    }
+
+    @Override
+    public int ov_preprocess_prepostprocessor_get_input_info(Pointer preprocess, PointerByReference preprocessInputInfo) {
+        return delegate.ov_preprocess_prepostprocessor_get_input_info(preprocess, preprocessInputInfo);
+    }
+
+    @Override
+    public void ov_preprocess_input_tensor_info_free(Pointer preprocessInputTensorInfo) {
+        delegate.ov_preprocess_input_tensor_info_free(preprocessInputTensorInfo);
+    }
+
+    @Override
+    public int ov_preprocess_input_info_get_preprocess_steps(Pointer preprocessInputInfo, PointerByReference preprocessInputSteps) {
+        return delegate.ov_preprocess_input_info_get_preprocess_steps(preprocessInputInfo, preprocessInputSteps);
+    }
+
+    @Override
+    public void ov_preprocess_preprocess_steps_free(Pointer preprocessInputProcessSteps) {
+        delegate.ov_preprocess_preprocess_steps_free(preprocessInputProcessSteps);
+    }
+
+    @Override
+    public int ov_preprocess_preprocess_steps_resize(Pointer preprocessInputProcessSteps, int resizeAlgorithm) {
+        return delegate.ov_preprocess_preprocess_steps_resize(preprocessInputProcessSteps, resizeAlgorithm);
+    }
+
+    @Override
+    public int ov_preprocess_preprocess_steps_scale(Pointer preprocessInputProcessSteps, float value) {
+        return delegate.ov_preprocess_preprocess_steps_scale(preprocessInputProcessSteps, value);
+    }
+
+    @Override
+    public int ov_preprocess_preprocess_steps_mean(Pointer preprocessInputProcessSteps, float value) {
+        return delegate.ov_preprocess_preprocess_steps_mean(preprocessInputProcessSteps, value);
+    }
+
+    @Override
+    public int ov_preprocess_preprocess_steps_crop(Pointer preprocessInputProcessSteps, Pointer begin, int beginSize, Pointer end, int endSize) {
+        return delegate.ov_preprocess_preprocess_steps_crop(preprocessInputProcessSteps, begin, beginSize, end, endSize);
+    }
+
+    @Override
+    public int ov_preprocess_preprocess_steps_convert_layout(Pointer preprocessInputProcessSteps, Pointer layout) {
+        return delegate.ov_preprocess_preprocess_steps_convert_layout(preprocessInputProcessSteps, layout);
+    }
+
+    @Override
+    public int ov_preprocess_preprocess_steps_reverse_channels(Pointer preprocessInputProcessSteps) {
+        return delegate.ov_preprocess_preprocess_steps_reverse_channels(preprocessInputProcessSteps);
+    }
+
+    @Override
+    public int ov_preprocess_input_tensor_info_set_element_type(Pointer preprocessInputTensorInfo, int elementType) {
+        return delegate.ov_preprocess_input_tensor_info_set_element_type(preprocessInputTensorInfo, elementType);
+    }
+
+    @Override
+    public int ov_preprocess_input_tensor_info_set_color_format(Pointer preprocessInputTensorInfo, int colorFormat) {
+        return delegate.ov_preprocess_input_tensor_info_set_color_format(preprocessInputTensorInfo, colorFormat);
+    }
+
+    @Override
+    public int ov_preprocess_input_tensor_info_set_color_format_with_subname(Pointer preprocessInputTensorInfo, int colorFormat, long subNamesSize) {
+        return delegate.ov_preprocess_input_tensor_info_set_color_format_with_subname(preprocessInputTensorInfo, colorFormat, subNamesSize);
+    }
+
+    @Override
+    public int ov_preprocess_input_tensor_info_set_spatial_static_shape(Pointer preprocessInputTensorInfo, long inputHeight, long inputWidth) {
+        return delegate.ov_preprocess_input_tensor_info_set_spatial_static_shape(preprocessInputTensorInfo, inputHeight, inputWidth);
+    }
+
+    @Override
+    public int ov_preprocess_input_tensor_info_set_memory_type(Pointer preprocessInputTensorInfo, String memType) {
+        return delegate.ov_preprocess_input_tensor_info_set_memory_type(preprocessInputTensorInfo, memType);
+    }
+
+    @Override
+    public int ov_preprocess_preprocess_steps_convert_element_type(Pointer preprocessInputProcessSteps, int elementType) {
+        return delegate.ov_preprocess_preprocess_steps_convert_element_type(preprocessInputProcessSteps, elementType);
+    }
+
+    @Override
+    public int ov_preprocess_preprocess_steps_convert_color(Pointer preprocessInputProcessSteps, int colorFormat) {
+        return delegate.ov_preprocess_preprocess_steps_convert_color(preprocessInputProcessSteps, colorFormat);
+    }
+
+    @Override
+    public int ov_preprocess_input_tensor_info_set_from(Pointer preprocessInputTensorInfo, Pointer tensor) {
+        return delegate.ov_preprocess_input_tensor_info_set_from(preprocessInputTensorInfo, tensor);
+    }
+
+    @Override
+    public int ov_preprocess_input_tensor_info_set_layout(Pointer preprocessInputTensorInfo, Pointer layout) {
+        return delegate.ov_preprocess_input_tensor_info_set_layout(preprocessInputTensorInfo, layout);
+    }
+
+    @Override
+    public int ov_preprocess_prepostprocessor_get_output_info(Pointer preprocess, PointerByReference preprocessOutputInfo) {
+        return delegate.ov_preprocess_prepostprocessor_get_output_info(preprocess, preprocessOutputInfo);
+    }
+
+    @Override
+    public int ov_preprocess_prepostprocessor_get_output_info_by_index(Pointer preprocess, long tensorIndex, PointerByReference preprocessOutputInfo) {
+        return delegate.ov_preprocess_prepostprocessor_get_output_info_by_index(preprocess, tensorIndex, preprocessOutputInfo);
+    }
+
+    @Override
+    public int ov_preprocess_prepostprocessor_get_output_info_by_name(Pointer preprocess, String tensorName, PointerByReference preprocessOutputInfo) {
+        return delegate.ov_preprocess_prepostprocessor_get_output_info_by_name(preprocess, tensorName, preprocessOutputInfo);
+    }
+
+    @Override
+    public void ov_preprocess_output_info_free(Pointer preprocessOutputInfo) {
+        delegate.ov_preprocess_output_info_free(preprocessOutputInfo);
+    }
+
+    @Override
+    public int ov_preprocess_output_info_get_tensor_info(Pointer preprocessOutputInfo, PointerByReference preprocessOutputTensorInfo) {
+        return delegate.ov_preprocess_output_info_get_tensor_info(preprocessOutputInfo, preprocessOutputTensorInfo);
+    }
+
+    @Override
+    public void ov_preprocess_output_tensor_info_free(Pointer preprocessOutputTensorInfo) {
+        delegate.ov_preprocess_output_tensor_info_free(preprocessOutputTensorInfo);
+    }
+
+    @Override
+    public int ov_preprocess_output_set_element_type(Pointer preprocessOutputTensorInfo, int elementType) {
+        return delegate.ov_preprocess_output_set_element_type(preprocessOutputTensorInfo, elementType);
+    }
+
+    @Override
+    public int ov_preprocess_input_info_get_model_info(Pointer preprocessInputInfo, PointerByReference preprocessInputModelInfo) {
+        return delegate.ov_preprocess_input_info_get_model_info(preprocessInputInfo, preprocessInputModelInfo);
+    }
+
+    @Override
+    public int ov_preprocess_input_model_info_free(Pointer preprocessInputModelInfo) {
+        return delegate.ov_preprocess_input_model_info_free(preprocessInputModelInfo);
+    }
+
+    @Override
+    public int ov_preprocess_input_model_info_set_layout(Pointer preprocessInputModelInfo, Pointer layout) {
+        return delegate.ov_preprocess_input_model_info_set_layout(preprocessInputModelInfo, layout);
+    }
+
+    @Override
+    public int ov_preprocess_prepostprocessor_build(Pointer preprocess, PointerByReference model) {
+        return delegate.ov_preprocess_prepostprocessor_build(preprocess, model);
+    }
+
+    @Override
+    public int ov_preprocess_input_info_get_tensor_info(Pointer preprocessInputInfo, PointerByReference preprocessInputTensorInfo) {
+        return delegate.ov_preprocess_input_info_get_tensor_info(preprocessInputInfo, preprocessInputTensorInfo);
+    }
+}
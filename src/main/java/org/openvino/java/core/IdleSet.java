@@ -0,0 +1,157 @@
+package org.openvino.java.core;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The idle values of a TensorPool, grouped by key. The values of one key are bounded by maxPerKey, and the values of
+ * every key by a total byte size: when a returned value does not fit, the least recently returned values are evicted.
+ * Not thread safe, the pool calls it with its lock held.
+ *
+ * @param <K> The key, the element type and shape for the pool.
+ * @param <V> The pooled value.
+ */
+final class IdleSet<K, V> {
+
+    private final int maxPerKey;
+
+    private final long maxBytes;
+
+    private final Map<K, ArrayDeque<Entry<K, V>>> byKey = new HashMap<>();
+
+    /**
+     * Idle entries of every key, least recently returned first.
+     */
+    private final Set<Entry<K, V>> order = new LinkedHashSet<>();
+
+    private long bytes;
+
+    private long evictions;
+
+    /**
+     * @param maxPerKey Maximum number of idle values kept for one key.
+     * @param maxBytes  Maximum total byte size of the idle values.
+     */
+    IdleSet(int maxPerKey, long maxBytes) {
+        this.maxPerKey = maxPerKey;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Take the most recently returned value of a key.
+     *
+     * @return The value, or null if no value of the key is idle.
+     */
+    V poll(K key) {
+        ArrayDeque<Entry<K, V>> entries = byKey.get(key);
+        Entry<K, V> entry = entries == null ? null : entries.pollLast();
+        if (entry == null) {
+            return null;
+        }
+        if (entries.isEmpty()) {
+            byKey.remove(key);
+        }
+        order.remove(entry);
+        bytes -= entry.bytes;
+        return entry.value;
+    }
+
+    /**
+     * Keep a returned value, evicting the least recently returned values until it fits into the byte budget.
+     *
+     * @param key     The key of the value.
+     * @param value   The value.
+     * @param size    The byte size of the value.
+     * @param evicted Receives the evicted values, to be released by the caller.
+     * @return false if the value is not kept because its key is full or it is larger than the whole budget;
+     * the caller releases it then.
+     */
+    boolean offer(K key, V value, long size, Collection<V> evicted) {
+        if (size > maxBytes) {
+            return false;
+        }
+        ArrayDeque<Entry<K, V>> entries = byKey.get(key);
+        if (entries != null && entries.size() >= maxPerKey) {
+            return false;
+        }
+        while (bytes + size > maxBytes) {
+            Entry<K, V> oldest = order.iterator().next();
+            remove(oldest);
+            evictions++;
+            evicted.add(oldest.value);
+        }
+        Entry<K, V> entry = new Entry<>(key, value, size);
+        byKey.computeIfAbsent(key, k -> new ArrayDeque<>()).addLast(entry);
+        order.add(entry);
+        bytes += size;
+        return true;
+    }
+
+    private void remove(Entry<K, V> entry) {
+        order.remove(entry);
+        ArrayDeque<Entry<K, V>> entries = byKey.get(entry.key);
+        entries.remove(entry);
+        if (entries.isEmpty()) {
+            byKey.remove(entry.key);
+        }
+        bytes -= entry.bytes;
+    }
+
+    /**
+     * Remove every idle value.
+     *
+     * @param released Receives the removed values, to be released by the caller.
+     */
+    void clear(Collection<V> released) {
+        for (Iterator<Entry<K, V>> it = order.iterator(); it.hasNext(); ) {
+            released.add(it.next().value);
+            it.remove();
+        }
+        byKey.clear();
+        bytes = 0;
+    }
+
+    /**
+     * @return The total byte size of the idle values.
+     */
+    long bytes() {
+        return bytes;
+    }
+
+    /**
+     * @return The number of idle values.
+     */
+    int size() {
+        return order.size();
+    }
+
+    /**
+     * @return The number of values evicted to stay within the byte budget.
+     */
+    long evictions() {
+        return evictions;
+    }
+
+    /**
+     * An idle value. Compared by identity.
+     */
+    private static final class Entry<K, V> {
+
+        private final K key;
+
+        private final V value;
+
+        private final long bytes;
+
+        private Entry(K key, V value, long bytes) {
+            this.key = key;
+            this.value = value;
+            this.bytes = bytes;
+        }
+    }
+}
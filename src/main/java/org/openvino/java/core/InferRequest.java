@@ -1,71 +1,322 @@
 package org.openvino.java.core;
 
+import com.sun.jna.CallbackThreadInitializer;
+import com.sun.jna.Native;
 import com.sun.jna.Pointer;
 import com.sun.jna.ptr.PointerByReference;
 import org.openvino.java.base.OpenVINOCls;
+import org.openvino.java.domain.OvCallback;
 import org.openvino.java.domain.OvProfilingInfo;
 import org.openvino.java.domain.OvProfilingInfoList;
 import org.openvino.java.enums.ExceptionStatus;
 import org.openvino.java.enums.NodeType;
+import org.openvino.java.exception.OvBusyException;
+import org.openvino.java.exception.OvException;
 import org.openvino.java.utils.Console;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
 
+/**
+ * A request to infer a compiled model, synchronously or asynchronously.
+ * Tensors returned by the getters are owned by the request. Every getter resolving to the same input or output
+ * returns the same Tensor object, and it is released when the request is closed. Closing it earlier releases it for
+ * every holder; the next getter call then returns a new Tensor.
+ * The object stays usable across inferences, but only reflects the tensor behind its port as of the last getter
+ * call: call the getter again after a set*Tensor call, and after each inference for outputs with a dynamic shape.
+ * Tensors passed to the set*Tensor methods remain owned by the caller.
+ */
 public class InferRequest extends OpenVINOCls {
+
+    /**
+     * Completion callback registered with the native request. Kept as a field because the C API only stores a pointer to it.
+     */
+    private OvCallback callback;
+
+    /**
+     * The future of the asynchronous inference currently in flight, or null when the request is idle.
+     */
+    private final AtomicReference<CompletableFuture<InferRequest>> pending = new AtomicReference<>();
+
+    /**
+     * Requests with an asynchronous inference in flight. Keeps a request and its callback strongly reachable
+     * until the native side has called back, so the cleaner cannot free a running request.
+     */
+    private static final Set<InferRequest> IN_FLIGHT = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /**
+     * Completes the futures of asynchronous inferences. The native callback runs before the request publishes
+     * its status, so the status is read on one of these threads once the callback has returned.
+     */
+    private static final Executor COMPLETIONS = Executors.newCachedThreadPool(task -> {
+        Thread thread = new Thread(task, "openvino-infer-completion");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Wrappers of the tensors of the request, one per input and output port, reused by every getter that resolves
+     * to the port. A wrapper stays the same object when the tensor behind its port is replaced.
+     */
+    private Slot[] inputSlots = new Slot[0];
+
+    private Slot[] outputSlots = new Slot[0];
+
+    /**
+     * Wrappers fetched by a name or port the port table does not know, or the port slot sharing their data.
+     */
+    private final Map<String, Slot> namedSlots = new HashMap<>();
+
+    /**
+     * Incremented when a tensor of the request is replaced, so the slots fetch the tensor behind their port again.
+     */
+    private long inputVersion;
+
+    /**
+     * Incremented like inputVersion, and on every inference when the plugin may reallocate dynamic outputs.
+     */
+    private long outputVersion;
+
+    private boolean stableOutputs;
+
+    /**
+     * The ports of the compiled model, to resolve names to slots. Null if the request was not created by a compiled model.
+     */
+    private PortTable ports;
+
+    private boolean singleInput;
+
+    private boolean singleOutput;
+
     public InferRequest(PointerByReference request) {
         super("InferRequest", request);
-
+        registerCleaner(VINO::ov_infer_request_free);
     }
 
     /**
      * Gets an input tensor for inference.
+     * The tensor is owned by the request, see the class comment.
      *
      * @return The input tensor for the model. If model has several inputs, an exception is thrown.
      */
     public Tensor getInputTensor() {
-        PointerByReference tensor = new PointerByReference();
-        verifyExceptionStatus(getVino().ov_infer_request_get_input_tensor(getValue(), tensor));
-        return new Tensor(tensor);
+        if (!singleInput) {
+            PortTable table = ports;
+            if (table == null || table.singleInput() == null) {
+                // the C API checks that the model has a single input
+                PointerByReference tensor = new PointerByReference();
+                verifyExceptionStatus(getVino().ov_infer_request_get_input_tensor(getValue(), tensor));
+                getVino().ov_tensor_free(tensor.getValue());
+            }
+            singleInput = true;
+        }
+        return getInputTensor(0);
     }
 
     /**
      * Gets an input tensor for inference.
+     * The tensor is owned by the request, see the class comment.
      *
      * @param index Index of the tensor to get.
      * @return Tensor with the input index @p idx. If the tensor with the specified @p idx is not found,an exception is thrown.
      */
     public Tensor getInputTensor(long index) {
+        Slot slot = index >= 0 && index < inputSlots.length ? inputSlots[(int) index] : null;
+        if (slot != null && isCurrent(slot)) {
+            return slot.tensor;
+        }
         PointerByReference tensor = new PointerByReference();
         verifyExceptionStatus(getVino().ov_infer_request_get_input_tensor_by_index(getValue(), index, tensor));
-        return new Tensor(tensor);
+        if (slot == null) {
+            inputSlots = grow(inputSlots, index, false);
+            slot = inputSlots[(int) index];
+        }
+        return slot.bind(tensor, inputVersion);
     }
 
     /**
      * Gets an output tensor for inference.
+     * The tensor is owned by the request, see the class comment.
      *
      * @return Output tensor for the model. If model has several outputs, an exception is thrown.
      */
     public Tensor getOutputTensor() {
-        PointerByReference tensor = new PointerByReference();
-        verifyExceptionStatus(getVino().ov_infer_request_get_output_tensor(getValue(), tensor));
-        return new Tensor(tensor);
+        if (!singleOutput) {
+            PortTable table = ports;
+            if (table == null || table.singleOutput() == null) {
+                // the C API checks that the model has a single output
+                PointerByReference tensor = new PointerByReference();
+                verifyExceptionStatus(getVino().ov_infer_request_get_output_tensor(getValue(), tensor));
+                getVino().ov_tensor_free(tensor.getValue());
+            }
+            singleOutput = true;
+        }
+        return getOutputTensor(0);
     }
 
     /**
      * Gets an output tensor for inference.
+     * The tensor is owned by the request, see the class comment.
      *
      * @param index Index of the tensor to get.
      * @return Tensor with the output index @p idx. If the tensor with the specified @p idx is not found, an exception is thrown
      */
     public Tensor getOutputTensor(long index) {
+        Slot slot = index >= 0 && index < outputSlots.length ? outputSlots[(int) index] : null;
+        if (slot != null && isCurrent(slot)) {
+            return slot.tensor;
+        }
         PointerByReference tensor = new PointerByReference();
         verifyExceptionStatus(getVino().ov_infer_request_get_output_tensor_by_index(getValue(), index, tensor));
-        return new Tensor(tensor);
+        if (slot == null) {
+            outputSlots = grow(outputSlots, index, true);
+            slot = outputSlots[(int) index];
+        }
+        return slot.bind(tensor, outputVersion);
+    }
+
+    private static Slot[] grow(Slot[] slots, long index, boolean output) {
+        if (index >= slots.length) {
+            slots = Arrays.copyOf(slots, (int) index + 1);
+        }
+        if (slots[(int) index] == null) {
+            slots[(int) index] = new Slot(output, false);
+        }
+        return slots;
+    }
+
+    private boolean isCurrent(Slot slot) {
+        return slot.tensor != null && !slot.tensor.isClosed()
+                && slot.version == (slot.output ? outputVersion : inputVersion);
+    }
+
+    /**
+     * Get the tensor of a port of the compiled model by its name.
+     *
+     * @return The tensor, or null if the name is not the primary name of a port.
+     */
+    private Tensor portTensor(String tensorName) {
+        PortTable table = ports;
+        if (table == null || tensorName == null) {
+            return null;
+        }
+        Input input = table.input(tensorName);
+        if (input != null) {
+            return getInputTensor(input.getIndex());
+        }
+        Output output = table.output(tensorName);
+        if (output != null) {
+            return getOutputTensor(output.getIndex());
+        }
+        return null;
+    }
+
+    /**
+     * Get the wrapper of a tensor fetched by a name or port the port table does not know. If the tensor shares its data
+     * with the tensor of a port, the wrapper of the port is returned, so both names see the same wrapper.
+     *
+     * @param key    The name or port the tensor was fetched by.
+     * @param tensor The fetched handle, released if an existing wrapper is returned.
+     * @return The wrapper.
+     */
+    private Tensor aliasTensor(String key, PointerByReference tensor) {
+        Slot match = slotSharingData(tensor.getValue());
+        if (match != null) {
+            getVino().ov_tensor_free(tensor.getValue());
+            // a named wrapper replaced here may still be held by callers, so it is left to the cleaner
+            namedSlots.put(key, match);
+            return match.tensor;
+        }
+        Slot slot = namedSlots.get(key);
+        if (slot == null || !slot.named) {
+            slot = new Slot(true, true);
+            namedSlots.put(key, slot);
+        }
+        return slot.bind(tensor, outputVersion);
+    }
+
+    /**
+     * Find the port slot whose tensor has the same host memory as a tensor handle.
+     */
+    private Slot slotSharingData(Pointer tensor) {
+        PointerByReference data = Scratch.get().pointer();
+        if (getVino().ov_tensor_data(tensor, data) != ExceptionStatus.OK.getCode() || data.getValue() == null) {
+            return null;
+        }
+        long address = Pointer.nativeValue(data.getValue());
+        for (Slot[] slots : new Slot[][]{inputSlots, outputSlots}) {
+            for (Slot slot : slots) {
+                if (slot != null && isCurrent(slot) && Pointer.nativeValue(slot.tensor.dataPointer()) == address) {
+                    return slot;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Mark the tensors as replaced after a set*Tensor call. The wrappers stay, and are pointed at the new tensors
+     * by the next getter call.
+     */
+    private void invalidateTensors() {
+        inputVersion++;
+        outputVersion++;
+    }
+
+    /**
+     * Called before each inference. Without static output shapes, the plugin may reshape or reallocate the outputs,
+     * so their cached metadata is dropped and the next getter fetches them again.
+     */
+    private void beforeInference() {
+        if (stableOutputs) {
+            return;
+        }
+        outputVersion++;
+        for (Slot slot : outputSlots) {
+            if (slot != null && slot.tensor != null) {
+                slot.tensor.invalidateMetadata();
+            }
+        }
+        for (Slot slot : namedSlots.values()) {
+            if (slot.output && slot.tensor != null) {
+                slot.tensor.invalidateMetadata();
+            }
+        }
+    }
+
+    /**
+     * Set by the compiled model creating the request.
+     *
+     * @param ports         The ports of the compiled model.
+     * @param stableOutputs Whether every output has a static shape, so output tensors survive inferences.
+     */
+    void setPorts(PortTable ports, boolean stableOutputs) {
+        this.ports = ports;
+        this.stableOutputs = stableOutputs;
     }
 
     @Override
     protected void dispose() {
+        for (Slot[] slots : new Slot[][]{inputSlots, outputSlots}) {
+            for (Slot slot : slots) {
+                if (slot != null) {
+                    slot.free();
+                }
+            }
+        }
+        for (Slot slot : namedSlots.values()) {
+            slot.free();
+        }
         if (!isNull()) {
             getVino().ov_infer_request_free(getValue());
             setVinoObj(null);
@@ -73,59 +324,87 @@ public class InferRequest extends OpenVINOCls {
     }
 
     public void infer() {
+        beforeInference();
         verifyExceptionStatus(getVino().ov_infer_request_infer(getValue()));
     }
 
     /**
      * Gets an input/output tensor for inference by tensor name.
+     * The tensor is owned by the request, see the class comment.
      *
      * @param tensorName Name of a tensor to get.
      * @return The tensor with name @p tensor_name. If the tensor is not found, an exception is thrown.
      */
     public Tensor getTensor(String tensorName) {
+        Tensor port = portTensor(tensorName);
+        if (port != null) {
+            return port;
+        }
+        Slot slot = namedSlots.get(tensorName);
+        if (slot != null && isCurrent(slot)) {
+            return slot.tensor;
+        }
         PointerByReference tensor = new PointerByReference();
         verifyExceptionStatus(getVino().ov_infer_request_get_tensor(getValue(), tensorName, tensor));
-        return new Tensor(tensor);
+        return aliasTensor(tensorName, tensor);
     }
 
     /**
      * Gets an input/output tensor for inference by node.
+     * The tensor is owned by the request, see the class comment.
      *
      * @param node Node of the tensor to get.
      * @return Tensor for the node @n node.
      */
     public Tensor getTensor(Node node) {
-        PointerByReference tensor = new PointerByReference();
-        int status = 0;
-        if (node.getNodeType() == NodeType.e_const) {
-            status = getVino().ov_infer_request_get_tensor_by_const_port(getValue(), node.getValue(), tensor);
-        } else {
-            status = getVino().ov_infer_request_get_tensor_by_port(getValue(), node.getValue(), tensor);
+        String name;
+        try {
+            name = node.getName();
+        } catch (OvException e) {
+            // a port without names
+            name = null;
         }
-        if (status != ExceptionStatus.OK.getCode()) {
-            return null;
-        }
-        return new Tensor(tensor);
+        return portTensor(name, node);
     }
 
     /**
      * Gets an input/output tensor for inference.
+     * The tensor is owned by the request, see the class comment.
      *
      * @param port Port of the tensor to get.
      * @return Tensor for the port @p port.
      */
     public Tensor getTensor(Output port) {
+        String name;
+        try {
+            name = port.getAnyName();
+        } catch (OvException e) {
+            name = null;
+        }
+        return portTensor(name, port.getNode());
+    }
+
+    private Tensor portTensor(String name, Node node) {
+        Tensor port = portTensor(name);
+        if (port != null) {
+            return port;
+        }
+        String key = name != null ? name : "@" + Pointer.nativeValue(node.getValue());
+        Slot slot = namedSlots.get(key);
+        if (slot != null && isCurrent(slot)) {
+            return slot.tensor;
+        }
         PointerByReference tensor = new PointerByReference();
-        int status = 0;
-        if (port.getNode().getNodeType() == NodeType.e_const) {
-            status = getVino().ov_infer_request_get_tensor_by_const_port(getValue(), port.getNode().getValue(), tensor);
+        int status;
+        if (node.getNodeType() == NodeType.e_const) {
+            status = getVino().ov_infer_request_get_tensor_by_const_port(getValue(), node.getValue(), tensor);
         } else {
-            status = getVino().ov_infer_request_get_tensor_by_port(getValue(), port.getNode().getValue(), tensor);
+            status = getVino().ov_infer_request_get_tensor_by_port(getValue(), node.getValue(), tensor);
         }
         if (status != ExceptionStatus.OK.getCode()) {
             return null;
         }
-        return new Tensor(tensor);
+        return aliasTensor(key, tensor);
     }
 
     /**
@@ -136,6 +415,7 @@ public class InferRequest extends OpenVINOCls {
      */
     public void setTensor(String tensorName, Tensor tensor) {
         verifyExceptionStatus(getVino().ov_infer_request_set_tensor(getValue(), tensorName, tensor.getValue()));
+        invalidateTensors();
     }
 
     /**
@@ -150,6 +430,7 @@ public class InferRequest extends OpenVINOCls {
         } else {
             verifyExceptionStatus(getVino().ov_infer_request_set_tensor_by_port(getValue(), node.getValue(), tensor.getValue()));
         }
+        invalidateTensors();
     }
 
     /**
@@ -180,6 +461,7 @@ public class InferRequest extends OpenVINOCls {
         } else {
             verifyExceptionStatus(getVino().ov_infer_request_set_tensor_by_port(getValue(), port.getNode().getValue(), tensor.getValue()));
         }
+        invalidateTensors();
     }
 
     /**
@@ -190,6 +472,7 @@ public class InferRequest extends OpenVINOCls {
      */
     public void setInputTensor(long index, Tensor tensor) {
         verifyExceptionStatus(getVino().ov_infer_request_set_input_tensor_by_index(getValue(), index, tensor.getValue()));
+        invalidateTensors();
     }
 
     /**
@@ -200,6 +483,7 @@ public class InferRequest extends OpenVINOCls {
      */
     public void setInputTensor(Tensor tensor) {
         verifyExceptionStatus(getVino().ov_infer_request_set_input_tensor(getValue(), tensor.getValue()));
+        invalidateTensors();
     }
 
     /**
@@ -210,6 +494,7 @@ public class InferRequest extends OpenVINOCls {
      */
     public void setOutputTensor(long index, Tensor tensor) {
         verifyExceptionStatus(getVino().ov_infer_request_set_output_tensor_by_index(getValue(), index, tensor.getValue()));
+        invalidateTensors();
     }
 
     /**
@@ -220,6 +505,7 @@ public class InferRequest extends OpenVINOCls {
      */
     public void setOutputTensor(Tensor tensor) {
         verifyExceptionStatus(getVino().ov_infer_request_set_output_tensor(getValue(), tensor.getValue()));
+        invalidateTensors();
     }
 
     /**
@@ -235,6 +521,7 @@ public class InferRequest extends OpenVINOCls {
      * Calling any method while the request in a running state leads to throwning the ov::Busy exception.
      */
     public void startAsync() {
+        beforeInference();
         verifyExceptionStatus(getVino().ov_infer_request_start_async(getValue()));
     }
 
@@ -254,6 +541,78 @@ public class InferRequest extends OpenVINOCls {
         verifyExceptionStatus(getVino().ov_infer_request_wait_for(getValue(), timeout));
     }
 
+    /**
+     * Starts inference in asynchronous mode and returns a future that is completed once the native completion callback
+     * fired, so no Java thread is blocked while the request is running.
+     * Dependent stages attached with the non-async methods of the future run on an openvino-infer-completion thread;
+     * use the *Async variants for heavy post-processing.
+     *
+     * @return A future completed with this request once the results are available, or completed exceptionally with
+     * the OvException matching the status of a failed or cancelled inference.
+     * @throws OvBusyException If an asynchronous inference started by this method is still running.
+     */
+    public CompletableFuture<InferRequest> inferAsync() {
+        CompletableFuture<InferRequest> future = new CompletableFuture<>();
+        if (!pending.compareAndSet(null, future)) {
+            throw new OvBusyException(getType());
+        }
+        pin(this);
+        try {
+            installCallback();
+            startAsync();
+        } catch (RuntimeException e) {
+            pending.compareAndSet(future, null);
+            unpin(this);
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    private static void pin(InferRequest request) {
+        synchronized (IN_FLIGHT) {
+            IN_FLIGHT.add(request);
+        }
+    }
+
+    private static void unpin(InferRequest request) {
+        synchronized (IN_FLIGHT) {
+            IN_FLIGHT.remove(request);
+        }
+    }
+
+    /**
+     * Registers the native completion callback once per request.
+     */
+    private synchronized void installCallback() {
+        if (callback != null) {
+            return;
+        }
+        OvCallback cb = new OvCallback();
+        cb.callback_func = args -> COMPLETIONS.execute(this::complete);
+        // keep the OpenVINO worker thread attached to the JVM instead of attaching/detaching on every completion
+        Native.setCallbackThreadInitializer(cb.callback_func, new CallbackThreadInitializer(true, false, "openvino-infer-callback"));
+        verifyExceptionStatus(getVino().ov_infer_request_set_callback(getValue(), cb));
+        callback = cb;
+    }
+
+    /**
+     * Complete the pending future with the status of the finished inference. Waiting returns as soon as the native
+     * callback has returned, and reports the error of a failed inference, which the callback itself cannot see.
+     */
+    private void complete() {
+        int status = getVino().ov_infer_request_wait(getValue());
+        CompletableFuture<InferRequest> future = pending.getAndSet(null);
+        unpin(this);
+        if (future == null) {
+            return;
+        }
+        if (status == ExceptionStatus.OK.getCode()) {
+            future.complete(this);
+        } else {
+            future.completeExceptionally(exception(status));
+        }
+    }
+
     /**
      * Queries performance measures per layer to identify the most time consuming operation.
      * Not all plugins provide meaningful data.
@@ -270,4 +629,45 @@ public class InferRequest extends OpenVINOCls {
         getVino().ov_profiling_info_list_free(list);
         return infos;
     }
+
+    /**
+     * The wrapper of one tensor of the request. The wrapper is created once and pointed at the current tensor
+     * behind the slot whenever the version of the request moved on.
+     */
+    private static final class Slot {
+
+        private final boolean output;
+
+        /**
+         * Whether the slot holds a tensor fetched by name instead of the tensor of a port.
+         */
+        private final boolean named;
+
+        private Tensor tensor;
+
+        private long version;
+
+        private Slot(boolean output, boolean named) {
+            this.output = output;
+            this.named = named;
+        }
+
+        private Tensor bind(PointerByReference handle, long version) {
+            if (tensor == null || tensor.isClosed()) {
+                // a caller closed the previous wrapper
+                tensor = new Tensor(handle);
+                tensor.own();
+            } else {
+                tensor.rebind(handle.getValue());
+            }
+            this.version = version;
+            return tensor;
+        }
+
+        private void free() {
+            if (tensor != null) {
+                tensor.free();
+            }
+        }
+    }
 }
@@ -21,6 +21,20 @@ public class Input extends OpenVINOCls {
      */
     private long index;
 
+    /**
+     * Whether name, element type and shape were resolved when the input was created.
+     */
+    private boolean resolved;
+
+    private String anyName;
+
+    private int elementType;
+
+    /**
+     * The static shape, or null if the shape is dynamic.
+     */
+    private Shape shape;
+
     /**
      * Constructs a input.
      *
@@ -33,13 +47,30 @@ public class Input extends OpenVINOCls {
         this.index = index;
     }
 
+    /**
+     * Constructs a input whose name, element type and static shape are already resolved.
+     *
+     * @param node        The node for the input handle.
+     * @param index       The index of the input.
+     * @param anyName     The tensor name.
+     * @param elementType The element type.
+     * @param shape       The static shape, or null if the shape is dynamic.
+     */
+    Input(Node node, long index, String anyName, int elementType, Shape shape) {
+        this(node, index);
+        this.anyName = anyName;
+        this.elementType = elementType;
+        this.shape = shape;
+        this.resolved = true;
+    }
+
     /**
      * Any tensor names associated with this input
      *
      * @return tensor names<
      */
     public String getAnyName() {
-        return mNode.getName();
+        return resolved ? anyName : mNode.getName();
     }
 
     /**
@@ -48,7 +79,7 @@ public class Input extends OpenVINOCls {
      * @return The element type of the input.
      */
     public int getElementType() {
-        return mNode.getElementType();
+        return resolved ? elementType : mNode.getElementType();
     }
 
     /**
@@ -57,7 +88,7 @@ public class Input extends OpenVINOCls {
      * @return The shape of the input .
      */
     public Shape getShape() {
-        return mNode.getShape();
+        return resolved && shape != null ? shape : mNode.getShape();
     }
 
     /**
@@ -87,8 +118,30 @@ public class Input extends OpenVINOCls {
         return mNode.getPartialShape();
     }
 
+    /**
+     * Make the input and its node owned by a port table, so callers closing them do not free the cached port.
+     */
+    void own() {
+        markOwned();
+        mNode.own();
+    }
+
+    /**
+     * Release an owned input.
+     */
+    void free() {
+        closeOwned();
+    }
+
+    /**
+     * Release the port of an owned input once neither the input nor its node is reachable.
+     */
+    void retire() {
+        mNode.retire();
+    }
+
     @Override
     protected void dispose() {
-        mNode.dispose();
+        mNode.free();
     }
 }
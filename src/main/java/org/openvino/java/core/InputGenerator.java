@@ -0,0 +1,121 @@
+package org.openvino.java.core;
+
+import org.openvino.java.domain.Dimension;
+import org.openvino.java.enums.ElementType;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+/**
+ * Synthesizes the inputs of warm up runs, see CompiledModel::warmUp.
+ * The generator picks the shape of each input and fills its tensor; zeros, random or user supplied data.
+ */
+@FunctionalInterface
+public interface InputGenerator {
+
+    /**
+     * Fill an input tensor, already allocated with the element type of the port and the shape chosen by shape.
+     *
+     * @param input  The input port.
+     * @param tensor The tensor to fill.
+     */
+    void fill(Input input, Tensor tensor);
+
+    /**
+     * Choose the shape of an input: the static shape of the port, or the lower bound of each dynamic dimension,
+     * at least 1. Override to warm up with representative shapes of dynamic models.
+     *
+     * @param input The input port.
+     * @return The shape of the generated tensor.
+     */
+    default Shape shape(Input input) {
+        PartialShape partialShape = input.getPartialShape();
+        if (partialShape.isStatic()) {
+            return partialShape.toShape();
+        }
+        if (partialShape.getRank().isDynamic()) {
+            throw new UnsupportedOperationException("InputGenerator:input " + input.getAnyName() + " has a dynamic rank, override shape");
+        }
+        Dimension[] dimensions = partialShape.get_dimensions();
+        long[] dims = new long[dimensions.length];
+        for (int i = 0; i < dims.length; i++) {
+            dims[i] = Math.max(dimensions[i].getMin(), 1);
+        }
+        return new Shape(dims);
+    }
+
+    /**
+     * Fill every input with zeros.
+     *
+     * @return The generator.
+     */
+    static InputGenerator zeros() {
+        return (input, tensor) -> tensor.dataPointer().setMemory(0, tensor.getByteSize(), (byte) 0);
+    }
+
+    /**
+     * Fill every input with random values: floating point inputs uniformly in [0, 1), integer and boolean inputs with
+     * 0 or 1, so index inputs stay in range. Sub-byte inputs are filled with zeros.
+     *
+     * @param seed The random seed.
+     * @return The generator.
+     */
+    static InputGenerator random(long seed) {
+        Random random = new Random(seed);
+        return (input, tensor) -> {
+            ElementType type = tensor.getElementType();
+            ByteBuffer buffer = tensor.asByteBuffer();
+            long size = tensor.getSize();
+            switch (type) {
+                case f32:
+                    for (long i = 0; i < size; i++) {
+                        buffer.putFloat(random.nextFloat());
+                    }
+                    break;
+                case f64:
+                    for (long i = 0; i < size; i++) {
+                        buffer.putDouble(random.nextDouble());
+                    }
+                    break;
+                case f16:
+                    // exponent of 0.5, random mantissa: [0.5, 1)
+                    for (long i = 0; i < size; i++) {
+                        buffer.putShort((short) (0x3800 | random.nextInt(0x400)));
+                    }
+                    break;
+                case bf16:
+                    for (long i = 0; i < size; i++) {
+                        buffer.putShort((short) (0x3F00 | random.nextInt(0x80)));
+                    }
+                    break;
+                case bool:
+                case i8:
+                case u8:
+                    for (long i = 0; i < size; i++) {
+                        buffer.put((byte) random.nextInt(2));
+                    }
+                    break;
+                case i16:
+                case u16:
+                    for (long i = 0; i < size; i++) {
+                        buffer.putShort((short) random.nextInt(2));
+                    }
+                    break;
+                case i32:
+                case u32:
+                    for (long i = 0; i < size; i++) {
+                        buffer.putInt(random.nextInt(2));
+                    }
+                    break;
+                case i64:
+                case u64:
+                    for (long i = 0; i < size; i++) {
+                        buffer.putLong(random.nextInt(2));
+                    }
+                    break;
+                default:
+                    zeros().fill(input, tensor);
+            }
+        };
+    }
+}
@@ -39,6 +39,7 @@ public class Layout extends OpenVINOCls {
     public Layout(String layoutDesc) {
         super("Layout");
         verifyExceptionStatus(getVino().ov_layout_create(layoutDesc, getVinoObj()));
+        registerCleaner(VINO::ov_layout_free);
     }
 
     @Override
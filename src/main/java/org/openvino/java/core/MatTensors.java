@@ -0,0 +1,145 @@
+package org.openvino.java.core;
+
+import com.sun.jna.Pointer;
+import org.opencv.core.CvType;
+import org.opencv.core.Mat;
+import org.openvino.java.enums.ElementType;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Bridge from OpenCV Mats to tensors.
+ * A continuous Mat is wrapped without copying as an NHWC tensor {1, rows, cols, channels} whose element type
+ * follows the Mat depth; the tensor keeps the Mat reachable, so the pixels cannot be freed while it is alive.
+ * A Mat that is not continuous, typically an ROI of a larger frame, is copied row by row into a new tensor.
+ */
+public final class MatTensors {
+
+    private MatTensors() {
+    }
+
+    /**
+     * Map an OpenCV depth to the element type of the same layout.
+     *
+     * @param depth The Mat depth, e.g. CvType.CV_8U.
+     * @return The element type.
+     * @throws UnsupportedOperationException If the depth has no matching element type.
+     */
+    public static ElementType elementType(int depth) {
+        switch (depth) {
+            case CvType.CV_8U:
+                return ElementType.u8;
+            case CvType.CV_8S:
+                return ElementType.i8;
+            case CvType.CV_16U:
+                return ElementType.u16;
+            case CvType.CV_16S:
+                return ElementType.i16;
+            case CvType.CV_32S:
+                return ElementType.i32;
+            case CvType.CV_32F:
+                return ElementType.f32;
+            case CvType.CV_64F:
+                return ElementType.f64;
+            case CvType.CV_16F:
+                return ElementType.f16;
+            default:
+                throw new UnsupportedOperationException("MatTensors:unsupported Mat depth " + depth);
+        }
+    }
+
+    /**
+     * Get the NHWC shape of a Mat.
+     *
+     * @param mat A 2-dimensional Mat.
+     * @return The shape {1, rows, cols, channels}.
+     */
+    public static Shape shape(Mat mat) {
+        checkImage(mat);
+        return new Shape(1, mat.rows(), mat.cols(), mat.channels());
+    }
+
+    /**
+     * Wrap the pixels of a continuous Mat as an NHWC tensor without copying.
+     * The Mat must not be released or reallocated while the tensor is in use.
+     *
+     * @param mat A continuous 2-dimensional Mat.
+     * @return The tensor, pinning the Mat.
+     * @throws UnsupportedOperationException If the Mat is not continuous.
+     */
+    public static Tensor wrap(Mat mat) {
+        Shape shape = shape(mat);
+        if (!mat.isContinuous()) {
+            throw new UnsupportedOperationException("MatTensors:Mat is not continuous, use toTensor to copy it");
+        }
+        Tensor tensor = new Tensor(elementType(mat.depth()), shape, new Pointer(mat.dataAddr()));
+        tensor.keepAlive(mat);
+        return tensor;
+    }
+
+    /**
+     * Get an NHWC tensor of a Mat, wrapping it when it is continuous and copying it otherwise.
+     *
+     * @param mat A 2-dimensional Mat.
+     * @return The tensor.
+     */
+    public static Tensor toTensor(Mat mat) {
+        if (mat.isContinuous()) {
+            return wrap(mat);
+        }
+        Shape shape = shape(mat);
+        Tensor tensor = new Tensor(elementType(mat.depth()), shape);
+        try {
+            copyTo(mat, tensor);
+        } catch (RuntimeException e) {
+            tensor.close();
+            throw e;
+        }
+        return tensor;
+    }
+
+    /**
+     * Copy the pixels of a Mat into a tensor of the same NHWC shape, following the Mat row stride,
+     * e.g. to refill the input tensor of a request with the next frame.
+     *
+     * @param mat    A 2-dimensional Mat.
+     * @param tensor The destination tensor.
+     */
+    public static void copyTo(Mat mat, Tensor tensor) {
+        Shape shape = shape(mat);
+        if (!shape.equals(tensor.getShape()) || elementType(mat.depth()) != tensor.getElementType()) {
+            throw new IllegalArgumentException("MatTensors:Mat " + shape + " does not match tensor " + tensor.getShape());
+        }
+        long rowBytes = mat.cols() * mat.elemSize();
+        long stride = mat.step1() * mat.elemSize1();
+        copyRows(new Pointer(mat.dataAddr()), stride, rowBytes, mat.rows(), tensor.asByteBuffer());
+    }
+
+    /**
+     * Copy rows that are stride bytes apart into a packed buffer, in one copy when the rows are already packed.
+     *
+     * @param src      The first row.
+     * @param stride   Distance between the starts of two rows, in bytes.
+     * @param rowBytes Bytes to copy from each row.
+     * @param rows     Number of rows.
+     * @param dst      The destination, written from its position.
+     */
+    static void copyRows(Pointer src, long stride, long rowBytes, int rows, ByteBuffer dst) {
+        if (stride == rowBytes) {
+            dst.put(src.getByteBuffer(0, rowBytes * rows));
+            return;
+        }
+        for (int r = 0; r < rows; r++) {
+            dst.put(src.getByteBuffer(r * stride, rowBytes));
+        }
+    }
+
+    private static void checkImage(Mat mat) {
+        if (mat == null || mat.empty()) {
+            throw new IllegalArgumentException("MatTensors:Mat is null or empty");
+        }
+        if (mat.dims() != 2) {
+            throw new IllegalArgumentException("MatTensors:only 2-dimensional Mats are supported, got " + mat.dims());
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package org.openvino.java.core;
 
 import com.sun.jna.Memory;
+import com.sun.jna.Native;
 import com.sun.jna.Pointer;
 import com.sun.jna.ptr.LongByReference;
 import com.sun.jna.ptr.PointerByReference;
@@ -8,7 +9,6 @@ import org.openvino.java.base.OpenVINOCls;
 import org.openvino.java.domain.OvPartialShape;
 import org.openvino.java.enums.NodeType;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -23,6 +23,46 @@ public class Model extends OpenVINOCls {
     public Model(PointerByReference model) {
         super("model");
         setVinoObj(model);
+        registerCleaner(VINO::ov_model_free);
+    }
+
+    /**
+     * The ports of the model, resolved on first use and dropped on reshape.
+     */
+    private volatile PortTable ports;
+
+    /**
+     * The const ports of the model, resolved on first use and dropped on reshape.
+     */
+    private volatile PortTable constPorts;
+
+    private synchronized PortTable ports() {
+        if (ports == null) {
+            ports = PortTable.build(getInputsSize(), getOutputsSize(), this::getInput, this::getOutput);
+        }
+        return ports;
+    }
+
+    private synchronized PortTable constPorts() {
+        if (constPorts == null) {
+            constPorts = PortTable.build(getInputsSize(), getOutputsSize(), this::getConstInput, this::getConstOutput);
+        }
+        return constPorts;
+    }
+
+    /**
+     * Drop the port tables after the shapes of the model changed. Callers may still hold their ports,
+     * so each port is released once it is unreachable.
+     */
+    private synchronized void invalidatePorts() {
+        if (ports != null) {
+            ports.retire();
+            ports = null;
+        }
+        if (constPorts != null) {
+            constPorts.retire();
+            constPorts = null;
+        }
     }
 
     /**
@@ -180,8 +220,8 @@ public class Model extends OpenVINOCls {
      * @return The input of model.
      */
     public Input input() {
-        Node node = getInput();
-        return new Input(node, 0);
+        Input input = ports().singleInput();
+        return input != null ? input : new Input(getInput(), 0);
     }
 
     /**
@@ -191,8 +231,8 @@ public class Model extends OpenVINOCls {
      * @return The input of model.
      */
     public Input input(long index) {
-        Node node = getInput(index);
-        return new Input(node, index);
+        Input input = ports().input(index);
+        return input != null ? input : new Input(getInput(index), index);
     }
 
     /**
@@ -202,8 +242,8 @@ public class Model extends OpenVINOCls {
      * @return The input of model.
      */
     public Input input(String tensorName) {
-        Node node = getInput(tensorName);
-        return new Input(node, 0);
+        Input input = ports().input(tensorName);
+        return input != null ? input : new Input(getInput(tensorName), 0);
     }
 
     /**
@@ -212,8 +252,8 @@ public class Model extends OpenVINOCls {
      * @return The const input of model.
      */
     public Input constInput() {
-        Node node = getConstInput();
-        return new Input(node, 0);
+        Input input = constPorts().singleInput();
+        return input != null ? input : new Input(getConstInput(), 0);
     }
 
     /**
@@ -223,8 +263,8 @@ public class Model extends OpenVINOCls {
      * @return The const input of model.
      */
     public Input constInput(long index) {
-        Node node = getConstInput(index);
-        return new Input(node, index);
+        Input input = constPorts().input(index);
+        return input != null ? input : new Input(getConstInput(index), index);
     }
 
     /**
@@ -234,8 +274,8 @@ public class Model extends OpenVINOCls {
      * @return The const input of model.
      */
     public Input constInput(String tensorName) {
-        Node node = getConstInput(tensorName);
-        return new Input(node, 0);
+        Input input = constPorts().input(tensorName);
+        return input != null ? input : new Input(getConstInput(tensorName), 0);
     }
 
     /**
@@ -244,8 +284,8 @@ public class Model extends OpenVINOCls {
      * @return The output of model.
      */
     public Output output() {
-        Node node = getOutput();
-        return new Output(node, 0);
+        Output output = ports().singleOutput();
+        return output != null ? output : new Output(getOutput(), 0);
     }
 
     /**
@@ -255,8 +295,8 @@ public class Model extends OpenVINOCls {
      * @return The output of model.
      */
     public Output output(long index) {
-        Node node = getOutput(index);
-        return new Output(node, index);
+        Output output = ports().output(index);
+        return output != null ? output : new Output(getOutput(index), index);
     }
 
     /**
@@ -266,8 +306,8 @@ public class Model extends OpenVINOCls {
      * @return The output of model.
      */
     public Output output(String tensorName) {
-        Node node = getOutput(tensorName);
-        return new Output(node, 0);
+        Output output = ports().output(tensorName);
+        return output != null ? output : new Output(getOutput(tensorName), 0);
     }
 
     /**
@@ -276,8 +316,8 @@ public class Model extends OpenVINOCls {
      * @return The const output of model.
      */
     public Output constOutput() {
-        Node node = getConstOutput();
-        return new Output(node, 0);
+        Output output = constPorts().singleOutput();
+        return output != null ? output : new Output(getConstOutput(), 0);
     }
 
     /**
@@ -287,8 +327,8 @@ public class Model extends OpenVINOCls {
      * @return The const output of model.
      */
     public Output constOutput(long index) {
-        Node node = getConstOutput(index);
-        return new Output(node, index);
+        Output output = constPorts().output(index);
+        return output != null ? output : new Output(getConstOutput(index), index);
     }
 
     /**
@@ -298,8 +338,8 @@ public class Model extends OpenVINOCls {
      * @return The const output of model.
      */
     public Output constOutput(String tensorName) {
-        Node node = getConstOutput(tensorName);
-        return new Output(node, 0);
+        Output output = constPorts().output(tensorName);
+        return output != null ? output : new Output(getConstOutput(tensorName), 0);
     }
 
     /**
@@ -330,12 +370,7 @@ public class Model extends OpenVINOCls {
      * @return All input of model.
      */
     public List<Input> inputs() {
-        long size = getInputsSize();
-        List<Input> inputs = new ArrayList<>();
-        for (long index = 0; index < size; ++index) {
-            inputs.add(input(index));
-        }
-        return inputs;
+        return ports().inputs();
     }
 
     /**
@@ -344,12 +379,7 @@ public class Model extends OpenVINOCls {
      * @return All output of model
      */
     public List<Output> outputs() {
-        long outputsSize = getOutputsSize();
-        List<Output> outputs = new ArrayList<>();
-        for (long index = 0; index < outputsSize; ++index) {
-            outputs.add(output(index));
-        }
-        return outputs;
+        return ports().outputs();
     }
 
     /**
@@ -358,12 +388,7 @@ public class Model extends OpenVINOCls {
      * @return All input of model.
      */
     public List<Input> constInputs() {
-        long inputsSize = getInputsSize();
-        List<Input> inputs = new ArrayList<>();
-        for (long index = 0; index < inputsSize; ++index) {
-            inputs.add(constInput(index));
-        }
-        return inputs;
+        return constPorts().inputs();
     }
 
     /**
@@ -372,12 +397,7 @@ public class Model extends OpenVINOCls {
      * @return All output of model
      */
     public List<Output> constOutputs() {
-        long output_size = getOutputsSize();
-        List<Output> outputs = new ArrayList<>();
-        for (long index = 0; index < output_size; ++index) {
-            outputs.add(constOutput(index));
-        }
-        return outputs;
+        return constPorts().outputs();
     }
 
     /**
@@ -397,18 +417,20 @@ public class Model extends OpenVINOCls {
     public void reshapeByStringMap(Map<String, PartialShape> partialShapeMap) {
         if (1 != partialShapeMap.size()) {
             String[] tensor_names_ptr = new String[partialShapeMap.size()];
-            OvPartialShape[] shapes = new OvPartialShape[partialShapeMap.size()];
+            OvPartialShape[] shapes = partialShapeArray(partialShapeMap.size());
             int i = 0;
-            for (String key : partialShapeMap.keySet()) {
-                tensor_names_ptr[i] = key;
-                shapes[i] = partialShapeMap.get(key).getPartialShape();
+            for (Map.Entry<String, PartialShape> entry : partialShapeMap.entrySet()) {
+                tensor_names_ptr[i] = entry.getKey();
+                entry.getValue().fill(shapes[i]);
                 i++;
             }
             verifyExceptionStatus(getVino().ov_model_reshape(getValue(), tensor_names_ptr, shapes[0], partialShapeMap.size()));
+            invalidatePorts();
         } else {
             for (String key : partialShapeMap.keySet()) {
                 verifyExceptionStatus(getVino().ov_model_reshape_input_by_name(getValue(), key, partialShapeMap.get(key).getPartialShape()));
             }
+            invalidatePorts();
         }
     }
 
@@ -419,6 +441,7 @@ public class Model extends OpenVINOCls {
      */
     public void reshape(PartialShape partialShape) {
         verifyExceptionStatus(getVino().ov_model_reshape_single_input(getValue(), partialShape.getPartialShape()));
+        invalidatePorts();
     }
 
     /**
@@ -428,14 +451,15 @@ public class Model extends OpenVINOCls {
      */
     public void reshapeByLongMap(Map<Long, PartialShape> partialShapes) {
         long[] indexs = new long[partialShapes.size()];
-        OvPartialShape[] shapes = new OvPartialShape[partialShapes.size()];
+        OvPartialShape[] shapes = partialShapeArray(partialShapes.size());
         int i = 0;
-        for (long key : partialShapes.keySet()) {
-            indexs[i] = key;
-            shapes[i] = partialShapes.get(key).getPartialShape();
+        for (Map.Entry<Long, PartialShape> entry : partialShapes.entrySet()) {
+            indexs[i] = entry.getKey();
+            entry.getValue().fill(shapes[i]);
             i++;
         }
-        verifyExceptionStatus(getVino().ov_model_reshape_by_port_indexes(getValue(), indexs[0], shapes[0], partialShapes.size()));
+        verifyExceptionStatus(getVino().ov_model_reshape_by_port_indexes(getValue(), indexs, shapes[0], partialShapes.size()));
+        invalidatePorts();
     }
 
     /**
@@ -444,18 +468,37 @@ public class Model extends OpenVINOCls {
      * @param partialShapeMap The list of input node and PartialShape.
      */
     public void reshapeByNodeMap(Map<Node, PartialShape> partialShapeMap) {
-        OvPartialShape[] shapes = new OvPartialShape[partialShapeMap.size()];
+        OvPartialShape[] shapes = partialShapeArray(partialShapeMap.size());
+        Pointer ports = new Memory((long) partialShapeMap.size() * Native.POINTER_SIZE);
         int i = 0;
-        Pointer pointer = new Memory(partialShapeMap.size());
-        for (Node node : partialShapeMap.keySet()) {
-            pointer.setPointer(i, node.getPointer());
+        for (Map.Entry<Node, PartialShape> entry : partialShapeMap.entrySet()) {
+            ports.setPointer((long) i * Native.POINTER_SIZE, entry.getKey().getValue());
+            entry.getValue().fill(shapes[i]);
             i++;
         }
-        verifyExceptionStatus(getVino().ov_model_reshape_by_ports(getValue(), new PointerByReference(pointer), shapes[0], partialShapeMap.size()));
+        verifyExceptionStatus(getVino().ov_model_reshape_by_ports(getValue(), ports, shapes[0], partialShapeMap.size()));
+        invalidatePorts();
+    }
+
+    /**
+     * Allocate a contiguous array of partial shape structs, as expected by the reshape functions taking several shapes.
+     */
+    private static OvPartialShape[] partialShapeArray(int size) {
+        return (OvPartialShape[]) new OvPartialShape().toArray(Math.max(size, 1));
     }
 
     @Override
     protected void dispose() {
+        synchronized (this) {
+            if (ports != null) {
+                ports.dispose();
+                ports = null;
+            }
+            if (constPorts != null) {
+                constPorts.dispose();
+                constPorts = null;
+            }
+        }
         if (!isNull()) {
             getVino().ov_model_free(getValue());
             setVinoObj(null);
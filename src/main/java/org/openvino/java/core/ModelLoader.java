@@ -0,0 +1,37 @@
+package org.openvino.java.core;
+
+import java.nio.file.Path;
+
+/**
+ * Compiles and imports the models of CompiledModelCache, ModelRegistry and ServedModel.
+ * Backed by a Core; tests substitute it to check the bookkeeping without the native runtime.
+ */
+interface ModelLoader {
+
+    /**
+     * Reads and compiles a model, see Core::compiledModel.
+     */
+    CompiledModel compiledModel(String modelPath, String deviceName, Properties properties);
+
+    /**
+     * Imports an exported model, see Core::importModel.
+     */
+    CompiledModel importModel(Path blobPath, String deviceName);
+
+    static ModelLoader of(Core core) {
+        if (core == null) {
+            throw new NullPointerException("core is null");
+        }
+        return new ModelLoader() {
+            @Override
+            public CompiledModel compiledModel(String modelPath, String deviceName, Properties properties) {
+                return core.compiledModel(modelPath, deviceName, properties);
+            }
+
+            @Override
+            public CompiledModel importModel(Path blobPath, String deviceName) {
+                return core.importModel(blobPath, deviceName);
+            }
+        };
+    }
+}
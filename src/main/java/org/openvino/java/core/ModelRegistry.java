@@ -0,0 +1,487 @@
+package org.openvino.java.core;
+
+import org.openvino.java.utils.StringUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A registry of named models sharing one Core, compiled lazily on first use.
+ * Users acquire a lease of a model, giving access to its compiled model and a pool of infer requests; a resident model
+ * is reference counted by its leases. When the resident models exceed the native memory budget, models without leases
+ * are released, least recently used first. Models that are leased are never released, so the budget is soft.
+ * The memory of a model is estimated by the size of its files unless given at registration.
+ * Concurrent first uses of the same model wait for a single compilation.
+ */
+public class ModelRegistry implements AutoCloseable {
+
+    private final ModelLoader loader;
+
+    private final CompiledModelCache cache;
+
+    private final long maxBytes;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Resident models, least recently used first.
+     */
+    private final LinkedHashMap<String, Entry> resident = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long residentBytes;
+
+    private long hits;
+
+    private long loads;
+
+    private long evictions;
+
+    private boolean closed;
+
+    /**
+     * Constructs a registry compiling models with the core.
+     *
+     * @param core     The core shared by all models.
+     * @param maxBytes Native memory budget of the resident models.
+     */
+    public ModelRegistry(Core core, long maxBytes) {
+        this(core, null, maxBytes);
+    }
+
+    /**
+     * Constructs a registry loading models through a compiled model cache, so released models are imported
+     * instead of compiled again.
+     *
+     * @param core     The core shared by all models.
+     * @param cache    The cache of compiled models. May be null.
+     * @param maxBytes Native memory budget of the resident models.
+     */
+    public ModelRegistry(Core core, CompiledModelCache cache, long maxBytes) {
+        this(ModelLoader.of(core), cache, maxBytes);
+    }
+
+    /**
+     * Constructs a registry compiling models with the loader, or through the cache if there is one.
+     *
+     * @param loader   Compiles the models.
+     * @param cache    The cache of compiled models. May be null.
+     * @param maxBytes Native memory budget of the resident models.
+     */
+    ModelRegistry(ModelLoader loader, CompiledModelCache cache, long maxBytes) {
+        if (loader == null) {
+            throw new NullPointerException("core is null");
+        }
+        if (maxBytes <= 0) {
+            throw new IllegalArgumentException("maxBytes must be positive");
+        }
+        this.loader = loader;
+        this.cache = cache;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Register a model, estimating its memory by the size of its files. Nothing is loaded.
+     *
+     * @param name       Name to acquire the model by.
+     * @param modelPath  Path to a model.
+     * @param deviceName Name of a device to load the model to.
+     * @param properties Compile properties. May be null.
+     */
+    public void register(String name, String modelPath, String deviceName, Properties properties) {
+        register(name, modelPath, deviceName, properties, fileSize(modelPath));
+    }
+
+    /**
+     * Register a model. Nothing is loaded.
+     *
+     * @param name           Name to acquire the model by.
+     * @param modelPath      Path to a model.
+     * @param deviceName     Name of a device to load the model to.
+     * @param properties     Compile properties. May be null.
+     * @param estimatedBytes Native memory used by the compiled model and its requests.
+     */
+    public void register(String name, String modelPath, String deviceName, Properties properties, long estimatedBytes) {
+        if (StringUtils.isNullOrEmpty(name) || StringUtils.isNullOrEmpty(modelPath) || StringUtils.isNullOrEmpty(deviceName)) {
+            throw new NullPointerException("name, model path or device name is null");
+        }
+        if (estimatedBytes < 0) {
+            throw new IllegalArgumentException("estimatedBytes must not be negative");
+        }
+        Entry entry = new Entry(name, modelPath, deviceName, properties, estimatedBytes);
+        if (entries.putIfAbsent(name, entry) != null) {
+            throw new IllegalArgumentException("ModelRegistry:model " + name + " is already registered");
+        }
+    }
+
+    /**
+     * Size of the model file plus the weights next to an IR.
+     */
+    private static long fileSize(String modelPath) {
+        if (StringUtils.isNullOrEmpty(modelPath)) {
+            throw new NullPointerException("model path is null");
+        }
+        Path model = Paths.get(modelPath);
+        try {
+            long size = Files.size(model);
+            String fileName = model.getFileName().toString();
+            if (fileName.toLowerCase().endsWith(".xml")) {
+                Path weights = model.resolveSibling(fileName.substring(0, fileName.length() - 4) + ".bin");
+                if (Files.isRegularFile(weights)) {
+                    size += Files.size(weights);
+                }
+            }
+            return size;
+        } catch (IOException e) {
+            throw new RuntimeException("ModelRegistry:cannot read " + modelPath, e);
+        }
+    }
+
+    /**
+     * Lease a model, loading it if it is not resident.
+     *
+     * @param name The registered name.
+     * @return The lease, to be closed when the model is no longer used.
+     */
+    public Lease acquire(String name) {
+        Entry entry = entries.get(name);
+        if (entry == null) {
+            throw new IllegalArgumentException("ModelRegistry:model " + name + " is not registered");
+        }
+        synchronized (this) {
+            Resident r = use(entry);
+            if (r != null) {
+                hits++;
+                return new Lease(r);
+            }
+        }
+        // one load per model, later callers wait for it
+        synchronized (entry) {
+            synchronized (this) {
+                Resident r = use(entry);
+                if (r != null) {
+                    hits++;
+                    return new Lease(r);
+                }
+            }
+            release(makeRoom(entry.estimatedBytes));
+            CompiledModel compiledModel = cache != null
+                    ? cache.compiledModel(entry.modelPath, entry.deviceName, entry.properties)
+                    : loader.compiledModel(entry.modelPath, entry.deviceName, entry.properties);
+            Resident r = new Resident(entry, compiledModel);
+            List<Resident> evicted;
+            synchronized (this) {
+                if (closed) {
+                    compiledModel.close();
+                    throw new IllegalStateException("ModelRegistry:closed");
+                }
+                r.refs = 1;
+                entry.resident = r;
+                resident.put(entry.name, entry);
+                residentBytes += entry.estimatedBytes;
+                loads++;
+                // concurrent loads of other models may have taken the room made before
+                evicted = makeRoom(0);
+            }
+            release(evicted);
+            return new Lease(r);
+        }
+    }
+
+    /**
+     * Count a lease of a resident model and mark it as recently used. Called with the lock held.
+     */
+    private Resident use(Entry entry) {
+        if (closed) {
+            throw new IllegalStateException("ModelRegistry:closed");
+        }
+        Resident r = entry.resident;
+        if (r != null) {
+            r.refs++;
+            resident.get(entry.name);
+        }
+        return r;
+    }
+
+    /**
+     * Remove unleased models, least recently used first, until the given bytes fit into the budget.
+     *
+     * @return The removed models, to be released outside the lock.
+     */
+    private synchronized List<Resident> makeRoom(long bytes) {
+        List<Resident> evicted = new ArrayList<>();
+        for (Iterator<Entry> it = resident.values().iterator(); it.hasNext() && residentBytes + bytes > maxBytes; ) {
+            Entry entry = it.next();
+            Resident r = entry.resident;
+            if (r.refs > 0) {
+                continue;
+            }
+            it.remove();
+            entry.resident = null;
+            residentBytes -= entry.estimatedBytes;
+            evictions++;
+            evicted.add(r);
+        }
+        return evicted;
+    }
+
+    private static void release(List<Resident> residents) {
+        for (Resident r : residents) {
+            r.close();
+        }
+    }
+
+    /**
+     * Whether a model is loaded.
+     *
+     * @param name The registered name.
+     * @return true if the model is resident.
+     */
+    public boolean isResident(String name) {
+        Entry entry = entries.get(name);
+        synchronized (this) {
+            return entry != null && entry.resident != null;
+        }
+    }
+
+    /**
+     * Get the names of the registered models.
+     *
+     * @return The names.
+     */
+    public Set<String> getNames() {
+        return new LinkedHashSet<>(entries.keySet());
+    }
+
+    /**
+     * Get the names of the resident models, least recently used first.
+     *
+     * @return The names.
+     */
+    public synchronized Set<String> getResidentNames() {
+        return new LinkedHashSet<>(resident.keySet());
+    }
+
+    /**
+     * Get the estimated native memory of the resident models.
+     *
+     * @return The resident bytes.
+     */
+    public synchronized long getResidentBytes() {
+        return residentBytes;
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized long getLoads() {
+        return loads;
+    }
+
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "ModelRegistry{registered=" + entries.size() + ", resident=" + resident.size()
+                + ", residentBytes=" + residentBytes + ", hits=" + hits + ", loads=" + loads + ", evictions=" + evictions + '}';
+    }
+
+    /**
+     * Release the resident models. Leased models are released when their last lease is closed.
+     */
+    @Override
+    public void close() {
+        List<Resident> released = new ArrayList<>();
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            for (Entry entry : resident.values()) {
+                Resident r = entry.resident;
+                entry.resident = null;
+                r.retired = true;
+                if (r.refs == 0) {
+                    released.add(r);
+                }
+            }
+            resident.clear();
+            residentBytes = 0;
+        }
+        release(released);
+    }
+
+    /**
+     * A registered model.
+     */
+    private static final class Entry {
+
+        private final String name;
+
+        private final String modelPath;
+
+        private final String deviceName;
+
+        private final Properties properties;
+
+        private final long estimatedBytes;
+
+        /**
+         * The loaded model, null if it is not resident. Guarded by the registry lock.
+         */
+        private Resident resident;
+
+        private Entry(String name, String modelPath, String deviceName, Properties properties, long estimatedBytes) {
+            this.name = name;
+            this.modelPath = modelPath;
+            this.deviceName = deviceName;
+            this.properties = properties;
+            this.estimatedBytes = estimatedBytes;
+        }
+    }
+
+    /**
+     * A loaded model and its idle requests. Mutable state is guarded by the registry lock.
+     */
+    private static final class Resident {
+
+        private final Entry entry;
+
+        private final CompiledModel compiledModel;
+
+        private final ArrayDeque<InferRequest> idle = new ArrayDeque<>();
+
+        private int refs;
+
+        /**
+         * Set when the registry is closed while the model is leased.
+         */
+        private boolean retired;
+
+        private Resident(Entry entry, CompiledModel compiledModel) {
+            this.entry = entry;
+            this.compiledModel = compiledModel;
+        }
+
+        private void close() {
+            for (InferRequest request : idle) {
+                request.close();
+            }
+            idle.clear();
+            compiledModel.close();
+        }
+    }
+
+    /**
+     * A reference to a resident model, keeping it loaded until closed.
+     * Requests taken from the lease are returned to the model's pool when they are handed back or the lease is closed.
+     * Not thread safe; use one lease per thread.
+     */
+    public final class Lease implements AutoCloseable {
+
+        private Resident resident;
+
+        private final List<InferRequest> taken = new ArrayList<>();
+
+        private Lease(Resident resident) {
+            this.resident = resident;
+        }
+
+        private Resident resident() {
+            if (resident == null) {
+                throw new IllegalStateException("ModelRegistry:lease is closed");
+            }
+            return resident;
+        }
+
+        /**
+         * Get the registered name of the model.
+         *
+         * @return The name.
+         */
+        public String getName() {
+            return resident().entry.name;
+        }
+
+        /**
+         * Get the compiled model. It must not be used after the lease is closed.
+         *
+         * @return The compiled model.
+         */
+        public CompiledModel getCompiledModel() {
+            return resident().compiledModel;
+        }
+
+        /**
+         * Take an idle request of the model, creating one if none is idle.
+         *
+         * @return The request, to be handed back with returnRequest.
+         */
+        public InferRequest takeRequest() {
+            Resident r = resident();
+            InferRequest request;
+            synchronized (ModelRegistry.this) {
+                request = r.idle.poll();
+            }
+            if (request == null) {
+                request = r.compiledModel.createInferRequest();
+            }
+            taken.add(request);
+            return request;
+        }
+
+        /**
+         * Hand a request back to the model's pool.
+         *
+         * @param request A request taken from this lease.
+         */
+        public void returnRequest(InferRequest request) {
+            Resident r = resident();
+            if (!taken.remove(request)) {
+                throw new IllegalArgumentException("ModelRegistry:request was not taken from this lease");
+            }
+            synchronized (ModelRegistry.this) {
+                r.idle.push(request);
+            }
+        }
+
+        /**
+         * Return the taken requests and release the reference to the model.
+         */
+        @Override
+        public void close() {
+            Resident r = resident;
+            if (r == null) {
+                return;
+            }
+            resident = null;
+            List<Resident> evicted;
+            boolean release;
+            synchronized (ModelRegistry.this) {
+                r.idle.addAll(taken);
+                taken.clear();
+                r.refs--;
+                release = r.retired && r.refs == 0;
+                // a model kept over budget by its leases can go now
+                evicted = release ? new ArrayList<>() : makeRoom(0);
+            }
+            if (release) {
+                r.close();
+            }
+            release(evicted);
+        }
+    }
+}
@@ -5,6 +5,7 @@ import com.sun.jna.ptr.PointerByReference;
 import org.openvino.java.base.OpenVINOCls;
 import org.openvino.java.domain.OvPartialShape;
 import org.openvino.java.domain.OvShape;
+import org.openvino.java.enums.ExceptionStatus;
 import org.openvino.java.enums.NodeType;
 
 public class Node extends OpenVINOCls {
@@ -14,12 +15,13 @@ public class Node extends OpenVINOCls {
     public Node(PointerByReference node, NodeType type) {
         super("Node", node);
         this.nodeType = type;
+        registerCleaner(type == NodeType.e_const ? VINO::ov_output_const_port_free : VINO::ov_output_port_free);
     }
 
     public PartialShape getPartialShape() {
         OvPartialShape shape = new OvPartialShape();
         verifyExceptionStatus(getVino().ov_port_get_partial_shape(getValue(), shape));
-        return new PartialShape(shape);
+        return PartialShape.fromNative(shape, getVino());
     }
 
     /**
@@ -56,11 +58,48 @@ public class Node extends OpenVINOCls {
         } else {
             verifyExceptionStatus(getVino().ov_port_get_shape(getValue(), shape));
         }
-        return new Shape(shape);
+        return Shape.fromNative(shape, getVino());
+    }
+
+    /**
+     * Get the shape if it is static.
+     *
+     * @return The shape, or null if the shape is dynamic.
+     */
+    Shape tryGetShape() {
+        OvShape shape = new OvShape();
+        int status;
+        if (nodeType == NodeType.e_const) {
+            status = getVino().ov_const_port_get_shape(getValue(), shape);
+        } else {
+            status = getVino().ov_port_get_shape(getValue(), shape);
+        }
+        return status == ExceptionStatus.OK.getCode() ? Shape.fromNative(shape, getVino()) : null;
+    }
+
+    /**
+     * Make the node owned by its port, so callers closing it do not free a cached port.
+     */
+    void own() {
+        markOwned();
+    }
+
+    /**
+     * Release the node, also if it is owned.
+     */
+    void free() {
+        closeOwned();
+    }
+
+    /**
+     * Release an owned node once it is unreachable, see OpenVINOCls::releaseWhenUnreachable.
+     */
+    void retire() {
+        releaseWhenUnreachable();
     }
 
     @Override
-    public void dispose() {
+    protected void dispose() {
         if (getPointer() != null && getValue() != null) {
             if (nodeType == NodeType.e_const) {
                 getVino().ov_output_const_port_free(getValue());
@@ -17,6 +17,20 @@ public class Output extends OpenVINOCls {
      */
     private long index;
 
+    /**
+     * Whether name, element type and shape were resolved when the output was created.
+     */
+    private boolean resolved;
+
+    private String anyName;
+
+    private int elementType;
+
+    /**
+     * The static shape, or null if the shape is dynamic.
+     */
+    private Shape shape;
+
     /**
      * Constructs a Output.
      *
@@ -29,13 +43,30 @@ public class Output extends OpenVINOCls {
         this.index = index;
     }
 
+    /**
+     * Constructs a output whose name, element type and static shape are already resolved.
+     *
+     * @param node        The node for the output handle.
+     * @param index       The index of the output.
+     * @param anyName     The tensor name.
+     * @param elementType The element type.
+     * @param shape       The static shape, or null if the shape is dynamic.
+     */
+    Output(Node node, long index, String anyName, int elementType, Shape shape) {
+        this(node, index);
+        this.anyName = anyName;
+        this.elementType = elementType;
+        this.shape = shape;
+        this.resolved = true;
+    }
+
     /**
      * Any tensor names associated with this input
      *
      * @return tensor names<
      */
     public String getAnyName() {
-        return mNode.getName();
+        return resolved ? anyName : mNode.getName();
     }
 
     /**
@@ -44,7 +75,7 @@ public class Output extends OpenVINOCls {
      * @return The element type of the input.
      */
     public int getElementType() {
-        return mNode.getElementType();
+        return resolved ? elementType : mNode.getElementType();
     }
 
     /**
@@ -53,7 +84,18 @@ public class Output extends OpenVINOCls {
      * @return The shape of the input .
      */
     public Shape getShape() {
-        return mNode.getShape();
+        return resolved && shape != null ? shape : mNode.getShape();
+    }
+
+    /**
+     * Whether the output has a static shape.
+     */
+    boolean hasStaticShape() {
+        if (resolved) {
+            return shape != null;
+        }
+        Shape staticShape = mNode.tryGetShape();
+        return staticShape != null;
     }
 
     /**
@@ -83,8 +125,30 @@ public class Output extends OpenVINOCls {
         return mNode.getPartialShape();
     }
 
+    /**
+     * Make the output and its node owned by a port table, so callers closing them do not free the cached port.
+     */
+    void own() {
+        markOwned();
+        mNode.own();
+    }
+
+    /**
+     * Release an owned output.
+     */
+    void free() {
+        closeOwned();
+    }
+
+    /**
+     * Release the port of an owned output once neither the output nor its node is reachable.
+     */
+    void retire() {
+        mNode.retire();
+    }
+
     @Override
     protected void dispose() {
-        mNode.dispose();
+        mNode.free();
     }
 }
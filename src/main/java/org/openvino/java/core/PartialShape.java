@@ -1,9 +1,8 @@
 package org.openvino.java.core;
 
-import com.sun.jna.ptr.LongByReference;
-import com.sun.jna.ptr.PointerByReference;
-import org.openvino.java.base.OpenVINOCls;
-import org.openvino.java.domain.*;
+import com.sun.jna.Memory;
+import org.openvino.java.domain.Dimension;
+import org.openvino.java.domain.OvPartialShape;
 
 import java.util.Arrays;
 import java.util.List;
@@ -15,34 +14,34 @@ import java.util.List;
  * (Informal notation examples: `{1,2,?,4}`, `{?,?,?}`)
  * Static rank, and static dimensions on all axes.
  * (Informal notation examples: `{1,2,3,4}`, `{6}`, `{}`)
+ * Immutable value type backed by the lower and upper limits of each dimension in long[] arrays.
+ * The ov_partial_shape_t handed to the C API is created on first use and points to Java owned memory.
  */
-public class PartialShape extends OpenVINOCls {
+public final class PartialShape {
 
-    OvPartialShape partialShape;
+    private static final long[] EMPTY = new long[0];
 
     /**
      * PartialShape rank.
      */
-    private Dimension rank;
+    private final Dimension rank;
 
     /**
-     * PartialShape dimensions.
+     * Lower limits of the dimensions, empty if the rank is dynamic.
      */
-    private Dimension[] dimensions;
+    private final long[] min;
+
+    /**
+     * Upper limits of the dimensions, -1 for unbounded.
+     */
+    private final long[] max;
+
+    private final int hash;
+
+    private volatile OvPartialShape.ByValue partialShape;
 
     public PartialShape(OvPartialShape partialShape) {
-        super("PartialShape");
-        Dimension rankTemp = new Dimension(partialShape.rank);
-        if (!rankTemp.isDynamic()) {
-            rank = rankTemp;
-            dimensions = new Dimension[(int) rank.getMin()];
-            for (int i = 0; i < rank.getMin(); ++i) {
-                Dimension dim = new Dimension(new OvDimension(partialShape.dims.getPointer(i)));
-                dimensions[i] = dim;
-            }
-        } else {
-            rank = rankTemp;
-        }
+        this(new Dimension(partialShape.rank), readMin(partialShape), readMax(partialShape));
     }
 
     /**
@@ -51,15 +50,7 @@ public class PartialShape extends OpenVINOCls {
      * @param dimensions The partial shape dimensions array.
      */
     public PartialShape(Dimension[] dimensions) {
-        super("PartialShape");
-        OvDimension[] ds = new OvDimension[dimensions.length];
-        for (int i = 0; i < dimensions.length; ++i) {
-            ds[i] = dimensions[i].getDimension();
-        }
-        partialShape = new OvPartialShape();
-        verifyExceptionStatus(getVino().ov_partial_shape_create(dimensions.length, ds[0], partialShape));
-        this.dimensions = dimensions;
-        rank = new Dimension(dimensions.length, dimensions.length);
+        this(new Dimension(dimensions.length), mins(dimensions), maxs(dimensions));
     }
 
     /**
@@ -68,7 +59,7 @@ public class PartialShape extends OpenVINOCls {
      * @param dimensions The partial shape dimensions list.
      */
     public PartialShape(List<Dimension> dimensions) {
-        this((Dimension[]) dimensions.toArray());
+        this(dimensions.toArray(new Dimension[0]));
     }
 
     /**
@@ -78,18 +69,7 @@ public class PartialShape extends OpenVINOCls {
      * @param dimensions The partial shape dimensions array.
      */
     public PartialShape(Dimension rank, Dimension[] dimensions) {
-        super("PartialShape");
-        OvDimension[] ds = new OvDimension[dimensions.length];
-        for (int i = 0; i < dimensions.length; ++i) {
-            ds[i] = dimensions[i].getDimension();
-        }
-        partialShape = new OvPartialShape();
-//        rank.getDimension().
-        OvRank rank1 = new OvRank();
-//        shape.rank = rank.
-        verifyExceptionStatus(getVino().ov_partial_shape_create_dynamic(rank1, ds[0], partialShape));
-        this.dimensions = dimensions;
-        this.rank = rank;
+        this(rank, rank.isDynamic() ? EMPTY : mins(dimensions), rank.isDynamic() ? EMPTY : maxs(dimensions));
     }
 
     /**
@@ -99,7 +79,7 @@ public class PartialShape extends OpenVINOCls {
      * @param dimensions The partial shape dimensions list.
      */
     public PartialShape(Dimension rank, List<Dimension> dimensions) {
-        this(rank, (Dimension[]) dimensions.toArray());
+        this(rank, dimensions.toArray(new Dimension[0]));
     }
 
     /**
@@ -109,15 +89,7 @@ public class PartialShape extends OpenVINOCls {
      * @param dimensions The partial shape dimensions array.
      */
     public PartialShape(long rank, long[] dimensions) {
-        super("PartialShape");
-        LongByReference longByReference = new LongByReference();
-        partialShape = new OvPartialShape();
-        verifyExceptionStatus(getVino().ov_partial_shape_create_static(rank, longByReference, partialShape));
-        this.rank = new Dimension(rank);
-        this.dimensions = new Dimension[dimensions.length];
-        for (int i = 0; i < dimensions.length; ++i) {
-            this.dimensions[i] = new Dimension(dimensions[i]);
-        }
+        this(new Dimension(rank), dimensions.clone(), dimensions.clone());
     }
 
     /**
@@ -130,6 +102,42 @@ public class PartialShape extends OpenVINOCls {
         this(rank, listTo(dimensions));
     }
 
+    /**
+     * Constructing static partial shape by shape.
+     *
+     * @param shape The shape
+     */
+    public PartialShape(Shape shape) {
+        this(new Dimension(shape.getRank()), shape.toArray(), shape.toArray());
+    }
+
+    private PartialShape(Dimension rank, long[] min, long[] max) {
+        if (!rank.isDynamic() && rank.getMax() != min.length) {
+            throw new IllegalArgumentException("PartialShape:rank " + rank.getMax() + " does not match " + min.length + " dimensions");
+        }
+        this.rank = rank;
+        this.min = min;
+        this.max = max;
+        this.hash = 31 * (31 * rank.hashCode() + Arrays.hashCode(min)) + Arrays.hashCode(max);
+    }
+
+    /**
+     * Copy a partial shape filled by the C API and release its native dimensions.
+     *
+     * @param partialShape The struct filled by ov_port_get_partial_shape.
+     * @param vino         The library that allocated the dimensions.
+     * @return The partial shape.
+     */
+    static PartialShape fromNative(OvPartialShape partialShape, VINO vino) {
+        try {
+            return new PartialShape(partialShape);
+        } finally {
+            if (partialShape.dims != null) {
+                vino.ov_partial_shape_free(partialShape);
+            }
+        }
+    }
+
     public static long[] listTo(List<Long> list) {
         long[] result = new long[list.size()];
         for (int i = 0; i < list.size(); i++) {
@@ -138,49 +146,84 @@ public class PartialShape extends OpenVINOCls {
         return result;
     }
 
+    private static long[] mins(Dimension[] dimensions) {
+        long[] result = new long[dimensions.length];
+        for (int i = 0; i < dimensions.length; i++) {
+            result[i] = dimensions[i].getMin();
+        }
+        return result;
+    }
+
+    private static long[] maxs(Dimension[] dimensions) {
+        long[] result = new long[dimensions.length];
+        for (int i = 0; i < dimensions.length; i++) {
+            result[i] = dimensions[i].getMax();
+        }
+        return result;
+    }
+
     /**
-     * Constructing static partial shape by shape.
-     *
-     * @param shape The shape
+     * Read the dimension limits from a struct, laid out as min/max pairs of int64.
      */
-    public PartialShape(Shape shape) {
-        super("PartialShape", null);
-        partialShape = new OvPartialShape();
-        verifyExceptionStatus(getVino().ov_shape_to_partial_shape(shape.getShape(), partialShape));
-        this.rank = new Dimension(shape.getRank());
-        dimensions = new Dimension[(int) shape.getRank()];
-        for (int i = 0; i < dimensions.length; ++i) {
-            this.dimensions[i] = new Dimension(shape.getDims().get(i));
+    private static long[] readLimits(OvPartialShape partialShape, int offset) {
+        Dimension rank = new Dimension(partialShape.rank);
+        if (rank.isDynamic() || rank.getMax() == 0 || partialShape.dims == null) {
+            return EMPTY;
         }
+        long[] pairs = partialShape.dims.getLongArray(0, (int) rank.getMax() * 2);
+        long[] result = new long[(int) rank.getMax()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = pairs[2 * i + offset];
+        }
+        return result;
     }
 
-    @Override
-    protected void dispose() {
-        if (partialShape != null) {
-            getVino().ov_partial_shape_free(partialShape);
-            partialShape = null;
-        }
+    private static long[] readMin(OvPartialShape partialShape) {
+        return readLimits(partialShape, 0);
     }
 
-    /// <summary>
-    /// Get ov_partial_shape
-    /// </summary>
-    /// <returns>return ov_partial_shape.</returns>
+    private static long[] readMax(OvPartialShape partialShape) {
+        return readLimits(partialShape, 1);
+    }
 
     /**
      * Get ov_partial_shape
      *
-     * @return return ov_partial_shape.
+     * @return return ov_partial_shape, to pass by value to the C API.
+     */
+    public OvPartialShape.ByValue getPartialShape() {
+        OvPartialShape.ByValue cached = partialShape;
+        if (cached == null) {
+            synchronized (this) {
+                cached = partialShape;
+                if (cached == null) {
+                    cached = new OvPartialShape.ByValue();
+                    fill(cached);
+                    partialShape = cached;
+                }
+            }
+        }
+        return cached;
+    }
+
+    /**
+     * Write this partial shape into a struct, e.g. an element of an array allocated with Structure.toArray.
+     * The struct references Java owned memory that stays reachable through its dims field.
+     *
+     * @param struct The struct to fill.
      */
-    public OvPartialShape getPartialShape() {
-        OvPartialShape partialShape = new OvPartialShape();
-        partialShape.rank = rank.getDimension();
-        PointerByReference data = new PointerByReference();
-        for (int i = 0; i < rank.getMax(); ++i) {
-            data.getPointer().setPointer(i, dimensions[i].getDimension().getPointer());
+    void fill(OvPartialShape struct) {
+        struct.rank.min = rank.getMin();
+        struct.rank.max = rank.getMax();
+        if (min.length > 0) {
+            Memory memory = new Memory((long) min.length * 2 * Long.BYTES);
+            for (int i = 0; i < min.length; i++) {
+                memory.setLong((long) i * 2 * Long.BYTES, min[i]);
+                memory.setLong((long) (i * 2 + 1) * Long.BYTES, max[i]);
+            }
+            struct.dims = memory;
         }
-        partialShape.dims = data.getPointer();
-        return partialShape;
+        struct.write();
     }
 
     /**
@@ -189,18 +232,42 @@ public class PartialShape extends OpenVINOCls {
      * @return Dimension[
      */
     public Dimension[] get_dimensions() {
+        Dimension[] dimensions = new Dimension[min.length];
+        for (int i = 0; i < dimensions.length; i++) {
+            dimensions[i] = new Dimension(min[i], max[i]);
+        }
         return dimensions;
     }
 
+    /**
+     * Get one dimension.
+     *
+     * @param axis The axis.
+     * @return The dimension of the axis.
+     */
+    public Dimension getDimension(int axis) {
+        return new Dimension(min[axis], max[axis]);
+    }
+
+    /**
+     * Get the rank.
+     *
+     * @return The rank, dynamic if the number of dimensions is unknown.
+     */
+    public Dimension getRank() {
+        return rank;
+    }
+
     /**
      * Convert partial shape without dynamic data to a static shape.
      *
      * @return The shape.
      */
     public Shape toShape() {
-        OvShape shape = new OvShape();
-        verifyExceptionStatus(getVino().ov_partial_shape_to_shape(getPartialShape(), shape));
-        return new Shape(shape);
+        if (isDynamic()) {
+            throw new UnsupportedOperationException("PartialShape:" + this + " is dynamic and cannot be converted to a shape");
+        }
+        return new Shape(max);
     }
 
     /**
@@ -220,7 +287,33 @@ public class PartialShape extends OpenVINOCls {
      * @return `false` if this shape is static, else `true`.
      */
     public boolean isDynamic() {
-        return getVino().ov_partial_shape_is_dynamic(getPartialShape());
+        if (rank.isDynamic()) {
+            return true;
+        }
+        for (int i = 0; i < min.length; i++) {
+            if (min[i] != max[i] || max[i] < 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PartialShape)) {
+            return false;
+        }
+        PartialShape other = (PartialShape) o;
+        return hash == other.hash && rank.equals(other.rank)
+                && Arrays.equals(min, other.min) && Arrays.equals(max, other.max);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
     }
 
     /**
@@ -230,20 +323,16 @@ public class PartialShape extends OpenVINOCls {
      */
     @Override
     public String toString() {
-        String s = "Shape : {";
         if (rank.isDynamic()) {
-            s += "?";
-        } else {
-            for (int i = 0; i < rank.getMax(); ++i) {
-                if (dimensions[i].isDynamic()) {
-                    s += "?,";
-                } else {
-                    s += dimensions[i].getDimension().max + ",";
-                }
+            return "Shape : {?}";
+        }
+        StringBuilder builder = new StringBuilder("Shape : {");
+        for (int i = 0; i < min.length; i++) {
+            if (i > 0) {
+                builder.append(',');
             }
+            builder.append(new Dimension(min[i], max[i]));
         }
-        s = s.substring(0, s.length() - 1);
-        s += "}";
-        return s;
+        return builder.append('}').toString();
     }
 }
@@ -0,0 +1,154 @@
+package org.openvino.java.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongFunction;
+
+/**
+ * Immutable table of the input and output ports of a model, resolved once.
+ * Each port keeps its native handle together with its pre-resolved name, element type and static shape,
+ * and can be looked up by index or by name without crossing into native code.
+ * The ports are shared with every caller, so the table owns them: closing a port or its node is a no-op and the
+ * native ports are released by the owner of the table through dispose. A table the owner drops while callers may
+ * still hold its ports is retired instead: each port is released by the NativeCleaner once it is unreachable.
+ */
+final class PortTable {
+
+    private final List<Input> inputs;
+
+    private final List<Output> outputs;
+
+    private final Map<String, Input> inputsByName;
+
+    private final Map<String, Output> outputsByName;
+
+    private PortTable(List<Input> inputs, List<Output> outputs) {
+        this.inputs = Collections.unmodifiableList(inputs);
+        this.outputs = Collections.unmodifiableList(outputs);
+        inputsByName = new HashMap<>();
+        for (Input input : inputs) {
+            if (input.getAnyName() != null) {
+                inputsByName.putIfAbsent(input.getAnyName(), input);
+            }
+        }
+        outputsByName = new HashMap<>();
+        for (Output output : outputs) {
+            if (output.getAnyName() != null) {
+                outputsByName.putIfAbsent(output.getAnyName(), output);
+            }
+        }
+    }
+
+    /**
+     * Resolve every port of a model.
+     *
+     * @param inputsSize  Number of inputs.
+     * @param outputsSize Number of outputs.
+     * @param inputNode   Creates the native input port of an index.
+     * @param outputNode  Creates the native output port of an index.
+     * @return The port table.
+     */
+    static PortTable build(long inputsSize, long outputsSize, LongFunction<Node> inputNode, LongFunction<Node> outputNode) {
+        List<Input> inputs = new ArrayList<>();
+        List<Output> outputs = new ArrayList<>();
+        try {
+            for (long index = 0; index < inputsSize; index++) {
+                Node node = inputNode.apply(index);
+                Input input = new Input(node, index, node.getName(), node.getElementType(), node.tryGetShape());
+                input.own();
+                inputs.add(input);
+            }
+            for (long index = 0; index < outputsSize; index++) {
+                Node node = outputNode.apply(index);
+                Output output = new Output(node, index, node.getName(), node.getElementType(), node.tryGetShape());
+                output.own();
+                outputs.add(output);
+            }
+        } catch (RuntimeException e) {
+            free(inputs, outputs);
+            throw e;
+        }
+        return new PortTable(inputs, outputs);
+    }
+
+    List<Input> inputs() {
+        return inputs;
+    }
+
+    List<Output> outputs() {
+        return outputs;
+    }
+
+    /**
+     * @return The input of the index, or null if there is no such input.
+     */
+    Input input(long index) {
+        return index >= 0 && index < inputs.size() ? inputs.get((int) index) : null;
+    }
+
+    /**
+     * @return The input of the name, or null if the name is not the primary name of any input.
+     */
+    Input input(String tensorName) {
+        return inputsByName.get(tensorName);
+    }
+
+    /**
+     * @return The only input, or null if the model has several inputs.
+     */
+    Input singleInput() {
+        return inputs.size() == 1 ? inputs.get(0) : null;
+    }
+
+    /**
+     * @return The output of the index, or null if there is no such output.
+     */
+    Output output(long index) {
+        return index >= 0 && index < outputs.size() ? outputs.get((int) index) : null;
+    }
+
+    /**
+     * @return The output of the name, or null if the name is not the primary name of any output.
+     */
+    Output output(String tensorName) {
+        return outputsByName.get(tensorName);
+    }
+
+    /**
+     * @return The only output, or null if the model has several outputs.
+     */
+    Output singleOutput() {
+        return outputs.size() == 1 ? outputs.get(0) : null;
+    }
+
+    /**
+     * Release the native ports.
+     */
+    void dispose() {
+        free(inputs, outputs);
+    }
+
+    /**
+     * Leave the native ports to the NativeCleaner, which releases each one once its port and node are unreachable.
+     */
+    void retire() {
+        for (Input input : inputs) {
+            input.retire();
+        }
+        for (Output output : outputs) {
+            output.retire();
+        }
+    }
+
+    private static void free(List<Input> inputs, List<Output> outputs) {
+        for (Input input : inputs) {
+            input.free();
+        }
+        for (Output output : outputs) {
+            output.free();
+        }
+    }
+}
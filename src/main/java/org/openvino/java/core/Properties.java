@@ -0,0 +1,211 @@
+package org.openvino.java.core;
+
+import org.openvino.java.enums.ElementType;
+import org.openvino.java.enums.PerformanceMode;
+import org.openvino.java.enums.PropertyKey;
+import org.openvino.java.enums.SchedulingCoreType;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A set of runtime properties passed to a device, e.g. when compiling a model.
+ * The typed setters cover the common tuning knobs; any other property can be set by its string key.
+ * Setters return this instance so calls can be chained.
+ */
+public class Properties {
+
+    private final Map<String, String> values = new LinkedHashMap<>();
+
+    /**
+     * Set the high-level performance hint.
+     *
+     * @param mode The performance mode.
+     * @return this
+     */
+    public Properties performanceHint(PerformanceMode mode) {
+        return set(PropertyKey.PERFORMANCE_HINT, mode.name());
+    }
+
+    /**
+     * Set the number of requests the performance hint should be tuned for.
+     *
+     * @param requests Number of requests.
+     * @return this
+     */
+    public Properties performanceHintNumRequests(int requests) {
+        return set(PropertyKey.PERFORMANCE_HINT_NUM_REQUESTS, String.valueOf(requests));
+    }
+
+    /**
+     * Set the number of execution streams.
+     *
+     * @param streams Number of streams.
+     * @return this
+     */
+    public Properties numStreams(int streams) {
+        return set(PropertyKey.NUM_STREAMS, String.valueOf(streams));
+    }
+
+    /**
+     * Let the device choose the number of execution streams.
+     *
+     * @return this
+     */
+    public Properties numStreamsAuto() {
+        return set(PropertyKey.NUM_STREAMS, "AUTO");
+    }
+
+    /**
+     * Set the maximum number of threads used for inference.
+     *
+     * @param threads Number of threads.
+     * @return this
+     */
+    public Properties inferenceNumThreads(int threads) {
+        return set(PropertyKey.INFERENCE_NUM_THREADS, String.valueOf(threads));
+    }
+
+    /**
+     * Set the precision the device should run inference in, e.g. f32, bf16 or f16.
+     *
+     * @param precision The inference precision.
+     * @return this
+     */
+    public Properties inferencePrecisionHint(ElementType precision) {
+        return set(PropertyKey.INFERENCE_PRECISION_HINT, precision.name());
+    }
+
+    /**
+     * Enable or disable pinning inference threads to CPU cores.
+     *
+     * @param enable true to pin threads.
+     * @return this
+     */
+    public Properties enableCpuPinning(boolean enable) {
+        return set(PropertyKey.ENABLE_CPU_PINNING, toString(enable));
+    }
+
+    /**
+     * Enable or disable using both logical processors of a physical core.
+     *
+     * @param enable true to use hyper-threading.
+     * @return this
+     */
+    public Properties enableHyperThreading(boolean enable) {
+        return set(PropertyKey.ENABLE_HYPER_THREADING, toString(enable));
+    }
+
+    /**
+     * Set the CPU core type inference threads are scheduled on.
+     *
+     * @param type The core type.
+     * @return this
+     */
+    public Properties schedulingCoreType(SchedulingCoreType type) {
+        return set(PropertyKey.SCHEDULING_CORE_TYPE, type.name());
+    }
+
+    /**
+     * Set the directory the device caches compiled blobs in.
+     *
+     * @param dir Cache directory.
+     * @return this
+     */
+    public Properties cacheDir(String dir) {
+        return set(PropertyKey.CACHE_DIR, dir);
+    }
+
+    /**
+     * Enable or disable collecting per-layer profiling information.
+     *
+     * @param enable true to collect profiling information.
+     * @return this
+     */
+    public Properties enableProfiling(boolean enable) {
+        return set(PropertyKey.ENABLE_PROFILING, toString(enable));
+    }
+
+    /**
+     * Set a property by key.
+     *
+     * @param key   Property key.
+     * @param value Property value.
+     * @return this
+     */
+    public Properties set(PropertyKey key, String value) {
+        return set(key.getKey(), value);
+    }
+
+    /**
+     * Set a property by its string key.
+     *
+     * @param key   Property key, can be found in openvino/runtime/properties.hpp.
+     * @param value Property value.
+     * @return this
+     */
+    public Properties set(String key, String value) {
+        if (key == null || value == null) {
+            throw new NullPointerException("property key or value is null");
+        }
+        values.put(key, value);
+        return this;
+    }
+
+    /**
+     * Get a property value.
+     *
+     * @param key Property key.
+     * @return The value, or null if the property is not set.
+     */
+    public String get(String key) {
+        return values.get(key);
+    }
+
+    /**
+     * Get all properties in insertion order.
+     *
+     * @return An unmodifiable view of the properties.
+     */
+    public Map<String, String> asMap() {
+        return Collections.unmodifiableMap(values);
+    }
+
+    /**
+     * Get the number of properties.
+     *
+     * @return The number of properties.
+     */
+    public int size() {
+        return values.size();
+    }
+
+    public boolean isEmpty() {
+        return values.isEmpty();
+    }
+
+    /**
+     * Flatten the properties into the key, value, key, value... argument list of the variadic C API.
+     *
+     * @return The property arguments.
+     */
+    Object[] toArgs() {
+        Object[] args = new Object[values.size() * 2];
+        int i = 0;
+        for (Map.Entry<String, String> entry : values.entrySet()) {
+            args[i++] = entry.getKey();
+            args[i++] = entry.getValue();
+        }
+        return args;
+    }
+
+    private static String toString(boolean value) {
+        return value ? "YES" : "NO";
+    }
+
+    @Override
+    public String toString() {
+        return "Properties" + values;
+    }
+}
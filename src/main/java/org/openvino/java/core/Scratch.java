@@ -0,0 +1,46 @@
+package org.openvino.java.core;
+
+import com.sun.jna.ptr.IntByReference;
+import com.sun.jna.ptr.LongByReference;
+import com.sun.jna.ptr.PointerByReference;
+
+/**
+ * Per-thread out-parameters reused by the wrappers for scalar queries, so hot getters do not allocate
+ * a new by-reference object and its native memory on every call.
+ * A value must be read right after the call that wrote it, before any other wrapper call on the same thread.
+ * Never hand a scratch reference to an object that keeps it, e.g. as the handle of a new wrapper.
+ */
+final class Scratch {
+
+    private static final ThreadLocal<Scratch> LOCAL = ThreadLocal.withInitial(Scratch::new);
+
+    private final PointerByReference pointer = new PointerByReference();
+
+    private final LongByReference longValue = new LongByReference();
+
+    private final IntByReference intValue = new IntByReference();
+
+    private Scratch() {
+    }
+
+    /**
+     * Get the scratch of the current thread.
+     *
+     * @return The scratch.
+     */
+    static Scratch get() {
+        return LOCAL.get();
+    }
+
+    PointerByReference pointer() {
+        return pointer;
+    }
+
+    LongByReference longValue() {
+        return longValue;
+    }
+
+    IntByReference intValue() {
+        return intValue;
+    }
+}
@@ -0,0 +1,443 @@
+package org.openvino.java.core;
+
+import org.openvino.java.utils.StringUtils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * A served model that can be reloaded without downtime.
+ * A reload compiles the new version in the background with Core::compiledModel, warms it up and then atomically
+ * switches new leases to it. Leases taken before the switch keep using the old version, which is disposed once
+ * the last of them is closed, so in-flight requests drain instead of failing.
+ */
+public class ServedModel implements AutoCloseable {
+
+    private static final int DEFAULT_WARM_UP_ITERATIONS = 3;
+
+    private static final Executor RELOAD_THREADS = task -> {
+        Thread thread = new Thread(task, "openvino-model-reload");
+        thread.setDaemon(true);
+        thread.start();
+    };
+
+    private final ModelLoader loader;
+
+    private final String deviceName;
+
+    private final Properties properties;
+
+    private final int warmUpRequests;
+
+    private final int warmUpIterations;
+
+    private final InputGenerator generator;
+
+    private final Executor executor;
+
+    private final Object reloadLock = new Object();
+
+    /**
+     * The version serving new leases. Guarded by this.
+     */
+    private Version current;
+
+    /**
+     * Number of retired versions still used by leases. Guarded by this.
+     */
+    private int draining;
+
+    private boolean closed;
+
+    /**
+     * Compiles the first version of a model and serves it.
+     *
+     * @param core           The core compiling every version.
+     * @param modelPath      Path to a model.
+     * @param deviceName     Name of a device to load the model to.
+     * @param properties     Compile properties. May be null.
+     * @param warmUpRequests Number of requests warmed up with zeros before a version serves, 0 to skip the warm up.
+     */
+    public ServedModel(Core core, String modelPath, String deviceName, Properties properties, int warmUpRequests) {
+        this(core, modelPath, deviceName, properties, warmUpRequests, RELOAD_THREADS);
+    }
+
+    /**
+     * Compiles the first version of a model and serves it.
+     *
+     * @param core           The core compiling every version.
+     * @param modelPath      Path to a model.
+     * @param deviceName     Name of a device to load the model to.
+     * @param properties     Compile properties. May be null.
+     * @param warmUpRequests Number of requests warmed up with zeros before a version serves, 0 to skip the warm up.
+     * @param executor       Runs the compilation and warm up of reloads.
+     */
+    public ServedModel(Core core, String modelPath, String deviceName, Properties properties, int warmUpRequests, Executor executor) {
+        this(core, modelPath, deviceName, properties, warmUpRequests, DEFAULT_WARM_UP_ITERATIONS, InputGenerator.zeros(), executor);
+    }
+
+    /**
+     * Compiles the first version of a model and serves it.
+     *
+     * @param core             The core compiling every version.
+     * @param modelPath        Path to a model.
+     * @param deviceName       Name of a device to load the model to.
+     * @param properties       Compile properties. May be null.
+     * @param warmUpRequests   Number of requests warmed up before a version serves, 0 to skip the warm up.
+     * @param warmUpIterations Number of warm up inferences per request.
+     * @param generator        Synthesizes the warm up inputs.
+     * @param executor         Runs the compilation and warm up of reloads.
+     */
+    public ServedModel(Core core, String modelPath, String deviceName, Properties properties,
+                       int warmUpRequests, int warmUpIterations, InputGenerator generator, Executor executor) {
+        this(core == null ? null : ModelLoader.of(core), modelPath, deviceName, properties,
+                warmUpRequests, warmUpIterations, generator, executor);
+    }
+
+    /**
+     * Compiles the first version of a model with the loader and serves it.
+     */
+    ServedModel(ModelLoader loader, String modelPath, String deviceName, Properties properties,
+                int warmUpRequests, int warmUpIterations, InputGenerator generator, Executor executor) {
+        if (loader == null || executor == null || generator == null) {
+            throw new NullPointerException("core, generator or executor is null");
+        }
+        if (StringUtils.isNullOrEmpty(modelPath) || StringUtils.isNullOrEmpty(deviceName)) {
+            throw new NullPointerException("model path or device name is null");
+        }
+        if (warmUpRequests < 0 || warmUpIterations < 0) {
+            throw new IllegalArgumentException("warmUpRequests and warmUpIterations must not be negative");
+        }
+        this.loader = loader;
+        this.deviceName = deviceName;
+        this.properties = properties;
+        this.warmUpRequests = warmUpRequests;
+        this.warmUpIterations = warmUpIterations;
+        this.generator = generator;
+        this.executor = executor;
+        this.current = load(modelPath, 1);
+    }
+
+    /**
+     * Compile and warm up a version.
+     */
+    private Version load(String modelPath, long number) {
+        CompiledModel compiledModel = loader.compiledModel(modelPath, deviceName, properties);
+        Version version = new Version(number, modelPath, compiledModel);
+        try {
+            warmUp(version);
+        } catch (RuntimeException e) {
+            version.close();
+            throw e;
+        }
+        return version;
+    }
+
+    /**
+     * Create the pooled requests and warm them up, so the first leases of the version
+     * do not pay for request creation, kernel selection and allocation.
+     */
+    private void warmUp(Version version) {
+        if (warmUpRequests == 0) {
+            version.warm = true;
+            return;
+        }
+        List<InferRequest> requests = new ArrayList<>(warmUpRequests);
+        for (int i = 0; i < warmUpRequests; i++) {
+            InferRequest request = version.compiledModel.createInferRequest();
+            version.idle.push(request);
+            requests.add(request);
+        }
+        version.warmUp = version.compiledModel.warmUp(warmUpIterations, generator, requests);
+        version.warm = warmUpIterations == 0 || version.compiledModel.isWarmedUp();
+    }
+
+    /**
+     * Lease the current version.
+     *
+     * @return The lease, to be closed when its request finished.
+     */
+    public Lease acquire() {
+        synchronized (this) {
+            if (closed) {
+                throw new IllegalStateException("ServedModel:closed");
+            }
+            current.refs++;
+            return new Lease(current);
+        }
+    }
+
+    /**
+     * Run one synchronous inference on the current version.
+     *
+     * @param inputs  Fills the input tensors of the request.
+     * @param outputs Reads the results from the request.
+     * @return The value returned by outputs.
+     */
+    public <T> T infer(Consumer<InferRequest> inputs, Function<InferRequest, T> outputs) {
+        try (Lease lease = acquire()) {
+            InferRequest request = lease.getRequest();
+            inputs.accept(request);
+            request.infer();
+            return outputs.apply(request);
+        }
+    }
+
+    /**
+     * Recompile the current model file in the background and switch to it.
+     *
+     * @return A future completed once new leases use the new version.
+     */
+    public CompletableFuture<Void> reload() {
+        String modelPath;
+        synchronized (this) {
+            modelPath = current.modelPath;
+        }
+        return reload(modelPath);
+    }
+
+    /**
+     * Compile a model in the background, warm it up and switch to it. If loading fails the current version keeps serving.
+     * Reloads run one at a time.
+     *
+     * @param modelPath Path to the new model.
+     * @return A future completed once new leases use the new version.
+     */
+    public CompletableFuture<Void> reload(String modelPath) {
+        if (StringUtils.isNullOrEmpty(modelPath)) {
+            throw new NullPointerException("model path is null");
+        }
+        return CompletableFuture.runAsync(() -> {
+            synchronized (reloadLock) {
+                long number;
+                synchronized (this) {
+                    if (closed) {
+                        throw new IllegalStateException("ServedModel:closed");
+                    }
+                    number = current.number + 1;
+                }
+                swap(load(modelPath, number));
+            }
+        }, executor);
+    }
+
+    private void swap(Version next) {
+        Version old;
+        synchronized (this) {
+            if (closed) {
+                old = null;
+            } else {
+                old = current;
+                current = next;
+                old.retired = true;
+                if (old.refs > 0) {
+                    // closed by its last lease
+                    draining++;
+                    return;
+                }
+            }
+        }
+        if (old == null) {
+            next.close();
+            throw new IllegalStateException("ServedModel:closed");
+        }
+        old.close();
+    }
+
+    /**
+     * Get the number of the serving version, starting at 1 and incremented by each reload.
+     *
+     * @return The version number.
+     */
+    public synchronized long getVersion() {
+        return current.number;
+    }
+
+    /**
+     * Get the warm up report of the serving version.
+     *
+     * @return The report, null if the warm up is disabled.
+     */
+    public synchronized WarmUpReport getWarmUpReport() {
+        return current.warmUp;
+    }
+
+    /**
+     * Whether the model serves a warmed up version, e.g. for a readiness probe.
+     * A version is warm once its warm up ran at least one inference per request without failure,
+     * or if the warm up is disabled with 0 requests or 0 iterations.
+     *
+     * @return true if the model is open and the serving version is warm.
+     */
+    public synchronized boolean isReady() {
+        return !closed && current.warm;
+    }
+
+    /**
+     * Get the model file of the serving version.
+     *
+     * @return The model path.
+     */
+    public synchronized String getModelPath() {
+        return current.modelPath;
+    }
+
+    /**
+     * Get the number of replaced versions still used by leases.
+     *
+     * @return The draining version count.
+     */
+    public synchronized int getDrainingCount() {
+        return draining;
+    }
+
+    /**
+     * Stop serving. The current version is disposed once its leases are closed.
+     */
+    @Override
+    public void close() {
+        Version version;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            version = current;
+            version.retired = true;
+            if (version.refs > 0) {
+                draining++;
+                version = null;
+            }
+        }
+        if (version != null) {
+            version.close();
+        }
+    }
+
+    /**
+     * A compiled version and its idle requests. Mutable state is guarded by the ServedModel lock.
+     */
+    private static final class Version {
+
+        private final long number;
+
+        private final String modelPath;
+
+        private final CompiledModel compiledModel;
+
+        private final ArrayDeque<InferRequest> idle = new ArrayDeque<>();
+
+        private WarmUpReport warmUp;
+
+        /**
+         * Whether the warm up succeeded or is disabled.
+         */
+        private boolean warm;
+
+        private int refs;
+
+        private boolean retired;
+
+        private Version(long number, String modelPath, CompiledModel compiledModel) {
+            this.number = number;
+            this.modelPath = modelPath;
+            this.compiledModel = compiledModel;
+        }
+
+        private void close() {
+            for (InferRequest request : idle) {
+                request.close();
+            }
+            idle.clear();
+            compiledModel.close();
+        }
+    }
+
+    /**
+     * A reference to one version, keeping it alive until closed.
+     * Holds at most one request, returned to the version's pool when the lease is closed.
+     * Close the lease only after an asynchronous inference started on its request has finished.
+     */
+    public final class Lease implements AutoCloseable {
+
+        private Version version;
+
+        private InferRequest request;
+
+        private Lease(Version version) {
+            this.version = version;
+        }
+
+        private Version version() {
+            if (version == null) {
+                throw new IllegalStateException("ServedModel:lease is closed");
+            }
+            return version;
+        }
+
+        /**
+         * Get the version number of the leased model.
+         *
+         * @return The version number.
+         */
+        public long getVersion() {
+            return version().number;
+        }
+
+        /**
+         * Get the leased compiled model. It must not be used after the lease is closed.
+         *
+         * @return The compiled model.
+         */
+        public CompiledModel getCompiledModel() {
+            return version().compiledModel;
+        }
+
+        /**
+         * Get the request of this lease, taking an idle one of the version or creating one on first use.
+         *
+         * @return The request.
+         */
+        public InferRequest getRequest() {
+            Version v = version();
+            if (request == null) {
+                synchronized (ServedModel.this) {
+                    request = v.idle.poll();
+                }
+                if (request == null) {
+                    request = v.compiledModel.createInferRequest();
+                }
+            }
+            return request;
+        }
+
+        @Override
+        public void close() {
+            Version v = version;
+            if (v == null) {
+                return;
+            }
+            version = null;
+            boolean drained;
+            synchronized (ServedModel.this) {
+                if (request != null) {
+                    v.idle.push(request);
+                    request = null;
+                }
+                v.refs--;
+                drained = v.retired && v.refs == 0;
+                if (drained) {
+                    draining--;
+                }
+            }
+            if (drained) {
+                v.close();
+            }
+        }
+    }
+}
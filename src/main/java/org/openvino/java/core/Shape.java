@@ -1,50 +1,44 @@
 package org.openvino.java.core;
 
-import com.sun.jna.ptr.LongByReference;
-import org.openvino.java.OpenVINO;
-import org.openvino.java.base.OpenVINOCls;
+import com.sun.jna.Memory;
 import org.openvino.java.domain.OvShape;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Shape for a tensor.
+ * Immutable value type backed by a long[]; equal shapes have equal hash codes, so shapes can be used as map keys.
+ * The ov_shape_t handed to the C API is created on first use and points to Java owned memory,
+ * so it is released with the shape.
  */
-public class Shape extends OpenVINOCls {
+public final class Shape {
 
-    /**
-     * [struct] The shape ov_shape
-     */
-    private OvShape shape;
+    private static final long[] EMPTY = new long[0];
+
+    private final long[] dims;
+
+    private final int hash;
 
     /**
-     *
+     * [struct] The shape ov_shape, created lazily.
      */
-    private long rank;
+    private volatile OvShape.ByValue shape;
 
     /**
-     *
+     * Memory of the dimensions referenced by the struct.
      */
-    private List<Long> dims;
+    private Memory memory;
 
     /**
-     * Constructs Shape from the initialized IntPtr.
+     * Constructs Shape from the initialized struct. The struct is only read; its owner releases it.
      *
-     * @param shapeT Initialized IntPtr
+     * @param shapeT Initialized struct
      */
     public Shape(OvShape shapeT) {
-        super("Shape");
-        shape = shapeT;
-        getVinoObj().setPointer(shape.getPointer());
-        dims = new ArrayList<>();
-        rank = shapeT.rank;
-        long[] data = shapeT.dims.getPointer().getLongArray(0, (int) shapeT.rank);
-        for (int i = 0; i < data.length; i++) {
-            dims.add(data[i]);
-        }
+        this(read(shapeT));
     }
 
     /**
@@ -53,12 +47,7 @@ public class Shape extends OpenVINOCls {
      * @param axisLengths Initialized list
      */
     public Shape(List<Long> axisLengths) {
-        super("Shape", null);
-        dims = new ArrayList<>();
-        dims.addAll(axisLengths);
-        shape = new OvShape();
-        LongByReference longByReference = new LongByReference();
-        OpenVINO.getCore().ov_shape_create(axisLengths.size(), longByReference, shape);
+        this(toArray(axisLengths));
     }
 
     /**
@@ -66,35 +55,157 @@ public class Shape extends OpenVINOCls {
      *
      * @param axisLengths Initialized array
      */
-//    public Shape(long[] axisLengths) {
-//        dims = new ArrayList<>();
-//        dims.addAll(Arrays.asList(axisLengths));
-//    }
+    public Shape(long... axisLengths) {
+        long[] dims = axisLengths.clone();
+        for (long dim : dims) {
+            if (dim < 0) {
+                throw new IllegalArgumentException("Shape:dimension " + dim + " is negative");
+            }
+        }
+        this.dims = dims;
+        this.hash = Arrays.hashCode(dims);
+    }
+
+    /**
+     * Copy a shape filled by the C API and release its native dimensions.
+     *
+     * @param shapeT The struct filled by ov_*_get_shape.
+     * @param vino   The library that allocated the dimensions.
+     * @return The shape.
+     */
+    static Shape fromNative(OvShape shapeT, VINO vino) {
+        try {
+            return new Shape(read(shapeT));
+        } finally {
+            if (shapeT.dims != null) {
+                vino.ov_shape_free(shapeT.getPointer());
+            }
+        }
+    }
+
+    private static long[] read(OvShape shapeT) {
+        if (shapeT.rank == 0 || shapeT.dims == null) {
+            return EMPTY;
+        }
+        return shapeT.dims.getLongArray(0, (int) shapeT.rank);
+    }
+
+    private static long[] toArray(List<Long> list) {
+        long[] result = new long[list.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = list.get(i);
+        }
+        return result;
+    }
+
     @Override
     public String toString() {
-        return "Shape{" +
-                ", rank=" + rank +
-                ", dims=" + dims.stream().map(String::valueOf).collect(Collectors.joining(",")) +
-                '}';
+        StringBuilder builder = new StringBuilder("Shape{rank=").append(dims.length).append(", dims=");
+        for (int i = 0; i < dims.length; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append(dims[i]);
+        }
+        return builder.append('}').toString();
     }
 
     @Override
-    protected void dispose() {
-        if (!isNull()) {
-            getVino().ov_shape_free(getValue());
-            setVinoObj(null);
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
         }
+        if (!(o instanceof Shape)) {
+            return false;
+        }
+        Shape other = (Shape) o;
+        return hash == other.hash && Arrays.equals(dims, other.dims);
     }
 
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    /**
+     * Get the dimensions as a boxed list.
+     *
+     * @return An unmodifiable list of the dimensions.
+     */
     public List<Long> getDims() {
+        List<Long> list = new ArrayList<>(dims.length);
+        for (long dim : dims) {
+            list.add(dim);
+        }
+        return Collections.unmodifiableList(list);
+    }
+
+    /**
+     * Get the dimensions.
+     *
+     * @return A copy of the dimensions.
+     */
+    public long[] toArray() {
+        return dims.clone();
+    }
+
+    /**
+     * Get the dimensions without copying. Callers must not modify the array.
+     */
+    long[] dims() {
         return dims;
     }
 
+    /**
+     * Get one dimension.
+     *
+     * @param axis The axis.
+     * @return The dimension of the axis.
+     */
+    public long getDim(int axis) {
+        return dims[axis];
+    }
+
     public long getRank() {
-        return rank;
+        return dims.length;
     }
 
-    public OvShape getShape() {
-        return shape;
+    /**
+     * Get the total number of elements, a product of all the dims or 1 for a scalar.
+     *
+     * @return The element count.
+     */
+    public long getSize() {
+        long size = 1;
+        for (long dim : dims) {
+            size *= dim;
+        }
+        return size;
+    }
+
+    /**
+     * Get the ov_shape_t to pass by value to the C API.
+     *
+     * @return The struct.
+     */
+    public OvShape.ByValue getShape() {
+        OvShape.ByValue cached = shape;
+        if (cached == null) {
+            synchronized (this) {
+                cached = shape;
+                if (cached == null) {
+                    cached = new OvShape.ByValue();
+                    cached.rank = dims.length;
+                    if (dims.length > 0) {
+                        memory = new Memory((long) dims.length * Long.BYTES);
+                        memory.write(0, dims, 0, dims.length);
+                        cached.dims = memory;
+                    }
+                    cached.write();
+                    shape = cached;
+                }
+            }
+        }
+        return cached;
     }
 }
@@ -0,0 +1,489 @@
+package org.openvino.java.core;
+
+import com.sun.jna.Pointer;
+import org.openvino.java.domain.Dimension;
+import org.openvino.java.enums.ElementType;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Runs a dynamic-shape model through static-shape compiled models, one per shape bucket,
+ * e.g. sequence lengths 32/64/128/256 of an NLP model.
+ * A bucket maps every input name to a static shape. Inputs are zero padded up to the smallest bucket they fit into,
+ * and the bucket is compiled on first use by reshaping the model with reshapeByStringMap.
+ * At most maxCompiled buckets stay compiled; the least recently used one is released when another one is compiled.
+ * Outputs have the shape of the bucket; crop them with Tensor.slice where needed.
+ * The model is reshaped back to its original shapes after every compilation and must not be used concurrently.
+ */
+public class ShapeBucketedModel implements AutoCloseable {
+
+    private final Core core;
+
+    private final Model model;
+
+    private final String deviceName;
+
+    private final Properties properties;
+
+    /**
+     * The buckets, smallest first.
+     */
+    private final List<Map<String, Shape>> buckets;
+
+    private final Map<String, PartialShape> originalShapes;
+
+    private final int maxCompiled;
+
+    /**
+     * Compiled buckets, least recently used first.
+     */
+    private final LinkedHashMap<Map<String, Shape>, Entry> compiled = new LinkedHashMap<>(16, 0.75f, true);
+
+    private final Object compileLock = new Object();
+
+    private long compilations;
+
+    private long evictions;
+
+    private boolean closed;
+
+    /**
+     * Constructs a bucketed model. Nothing is compiled until the first inference.
+     *
+     * @param core        The core compiling the buckets.
+     * @param model       The dynamic-shape model.
+     * @param deviceName  Name of a device to load the buckets to.
+     * @param properties  Compile properties. May be null.
+     * @param buckets     Static shapes by input name, one map per bucket, covering every input.
+     * @param maxCompiled Maximum number of buckets kept compiled.
+     */
+    public ShapeBucketedModel(Core core, Model model, String deviceName, Properties properties,
+                              Collection<Map<String, Shape>> buckets, int maxCompiled) {
+        if (core == null || model == null || buckets == null) {
+            throw new NullPointerException("core, model or buckets is null");
+        }
+        if (buckets.isEmpty() || maxCompiled <= 0) {
+            throw new IllegalArgumentException("buckets must not be empty and maxCompiled must be positive");
+        }
+        this.core = core;
+        this.model = model;
+        this.deviceName = deviceName;
+        this.properties = properties;
+        this.maxCompiled = maxCompiled;
+        originalShapes = inputShapes(model);
+        this.buckets = sortBuckets(buckets, originalShapes.keySet());
+    }
+
+    private static Map<String, PartialShape> inputShapes(Model model) {
+        Map<String, PartialShape> shapes = new LinkedHashMap<>();
+        for (Input input : model.inputs()) {
+            shapes.put(input.getAnyName(), input.getPartialShape());
+        }
+        return shapes;
+    }
+
+    /**
+     * Check that every bucket covers the inputs and sort the buckets by their number of elements, smallest first.
+     *
+     * @param buckets The buckets.
+     * @param inputs  The input names.
+     * @return Unmodifiable copies of the buckets.
+     */
+    static List<Map<String, Shape>> sortBuckets(Collection<Map<String, Shape>> buckets, Set<String> inputs) {
+        List<Map<String, Shape>> list = new ArrayList<>(buckets.size());
+        for (Map<String, Shape> bucket : buckets) {
+            if (!bucket.keySet().equals(inputs)) {
+                throw new IllegalArgumentException("ShapeBucketedModel:bucket " + bucket + " does not cover the inputs " + inputs);
+            }
+            list.add(Collections.unmodifiableMap(new LinkedHashMap<>(bucket)));
+        }
+        list.sort(Comparator.comparingLong(ShapeBucketedModel::elements));
+        return Collections.unmodifiableList(list);
+    }
+
+    /**
+     * Build buckets that differ in one axis of every input, e.g. the sequence length.
+     * Other dynamic dimensions are fixed to their lower bound, at least 1.
+     *
+     * @param model The model.
+     * @param axis  The bucketed axis.
+     * @param sizes The sizes of the axis, one bucket each.
+     * @return The buckets.
+     */
+    public static List<Map<String, Shape>> bucketsAlongAxis(Model model, int axis, long... sizes) {
+        return bucketsAlongAxis(inputShapes(model), axis, sizes);
+    }
+
+    /**
+     * Build buckets that differ in one axis of every input, see bucketsAlongAxis(Model, int, long...).
+     *
+     * @param inputs The shapes of the inputs by name.
+     * @param axis   The bucketed axis.
+     * @param sizes  The sizes of the axis, one bucket each.
+     * @return The buckets, in the order of the sizes.
+     */
+    static List<Map<String, Shape>> bucketsAlongAxis(Map<String, PartialShape> inputs, int axis, long... sizes) {
+        List<Map<String, Shape>> buckets = new ArrayList<>(sizes.length);
+        for (long size : sizes) {
+            Map<String, Shape> bucket = new LinkedHashMap<>();
+            for (Map.Entry<String, PartialShape> input : inputs.entrySet()) {
+                PartialShape partialShape = input.getValue();
+                if (partialShape.getRank().isDynamic() || partialShape.getRank().getMax() <= axis) {
+                    throw new IllegalArgumentException("ShapeBucketedModel:input " + input.getKey() + " has no axis " + axis);
+                }
+                Dimension[] dimensions = partialShape.get_dimensions();
+                long[] dims = new long[dimensions.length];
+                for (int i = 0; i < dims.length; i++) {
+                    dims[i] = i == axis ? size : Math.max(dimensions[i].getMin(), 1);
+                }
+                bucket.put(input.getKey(), new Shape(dims));
+            }
+            buckets.add(bucket);
+        }
+        return buckets;
+    }
+
+    private static long elements(Map<String, Shape> bucket) {
+        long elements = 0;
+        for (Shape shape : bucket.values()) {
+            elements += shape.getSize();
+        }
+        return elements;
+    }
+
+    /**
+     * Get the smallest bucket all inputs fit into.
+     *
+     * @param inputs Input tensors by name.
+     * @return The bucket.
+     * @throws IllegalArgumentException If an input is missing or no bucket is large enough.
+     */
+    public Map<String, Shape> selectBucket(Map<String, Tensor> inputs) {
+        Map<String, long[]> dims = new LinkedHashMap<>();
+        for (Map.Entry<String, Tensor> input : inputs.entrySet()) {
+            dims.put(input.getKey(), input.getValue().getDims());
+        }
+        return selectBucket(buckets, dims);
+    }
+
+    /**
+     * Get the first bucket all inputs fit into.
+     *
+     * @param buckets The buckets, smallest first, covering the same inputs.
+     * @param inputs  The dims of the inputs by name.
+     * @return The bucket.
+     * @throws IllegalArgumentException If an input is missing or no bucket is large enough.
+     */
+    static Map<String, Shape> selectBucket(List<Map<String, Shape>> buckets, Map<String, long[]> inputs) {
+        Set<String> names = buckets.get(0).keySet();
+        if (!inputs.keySet().equals(names)) {
+            throw new IllegalArgumentException("ShapeBucketedModel:expected inputs " + names + ", got " + inputs.keySet());
+        }
+        for (Map<String, Shape> bucket : buckets) {
+            if (fits(inputs, bucket)) {
+                return bucket;
+            }
+        }
+        throw new IllegalArgumentException("ShapeBucketedModel:no bucket is large enough for the inputs");
+    }
+
+    private static boolean fits(Map<String, long[]> inputs, Map<String, Shape> bucket) {
+        for (Map.Entry<String, long[]> input : inputs.entrySet()) {
+            long[] dims = input.getValue();
+            long[] limits = bucket.get(input.getKey()).dims();
+            if (dims.length != limits.length) {
+                return false;
+            }
+            for (int i = 0; i < dims.length; i++) {
+                if (dims[i] > limits[i]) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Pad the inputs to their bucket and infer them synchronously.
+     *
+     * @param inputs Input tensors by name. They are used directly when they already have the bucket shape.
+     * @return The outputs in output order with the bucket shape, copied into new tensors owned by the caller.
+     */
+    public Tensor[] infer(Map<String, Tensor> inputs) {
+        Map<String, Shape> bucket = selectBucket(inputs);
+        Entry entry = acquire(bucket);
+        InferRequest request = null;
+        List<Tensor> padded = new ArrayList<>();
+        try {
+            request = entry.borrow();
+            for (Map.Entry<String, Tensor> input : inputs.entrySet()) {
+                Tensor tensor = input.getValue();
+                Shape shape = bucket.get(input.getKey());
+                if (!shape.equals(tensor.getShape())) {
+                    tensor = pad(tensor, shape);
+                    padded.add(tensor);
+                }
+                request.setTensor(input.getKey(), tensor);
+            }
+            request.infer();
+            int count = (int) entry.compiledModel.getOutputsSize();
+            Tensor[] outputs = new Tensor[count];
+            try {
+                for (int i = 0; i < count; i++) {
+                    Tensor output = request.getOutputTensor(i);
+                    outputs[i] = new Tensor(output.getElementType(), output.getShape());
+                    output.copyTo(outputs[i]);
+                }
+            } catch (RuntimeException e) {
+                for (Tensor output : outputs) {
+                    if (output != null) {
+                        output.close();
+                    }
+                }
+                throw e;
+            }
+            return outputs;
+        } finally {
+            for (Tensor tensor : padded) {
+                tensor.close();
+            }
+            release(entry, request);
+        }
+    }
+
+    /**
+     * Copy a tensor into the leading corner of a new zero filled tensor of a larger shape.
+     *
+     * @param src   The tensor.
+     * @param shape The target shape, of the same rank and at least as large on every axis.
+     * @return The padded tensor.
+     */
+    public static Tensor pad(Tensor src, Shape shape) {
+        long[] from = src.getDims();
+        long[] to = shape.dims();
+        if (from.length != to.length) {
+            throw new IllegalArgumentException("ShapeBucketedModel:cannot pad " + src.getShape() + " to " + shape);
+        }
+        for (int i = 0; i < from.length; i++) {
+            if (from[i] > to[i]) {
+                throw new IllegalArgumentException("ShapeBucketedModel:cannot pad " + src.getShape() + " to " + shape);
+            }
+        }
+        ElementType type = src.getElementType();
+        if (type.getBitWidth() % 8 != 0) {
+            throw new UnsupportedOperationException("ShapeBucketedModel:" + type + " tensors cannot be padded");
+        }
+        long elementBytes = type.getBitWidth() / 8;
+        Tensor dst = new Tensor(type, shape);
+        try {
+            Pointer srcData = src.dataPointer();
+            Pointer dstData = dst.dataPointer();
+            dstData.setMemory(0, dst.getByteSize(), (byte) 0);
+            if (from.length == 0) {
+                Tensor.copyMemory(srcData, 0, dstData, 0, elementBytes);
+                return dst;
+            }
+            int last = from.length - 1;
+            long rowBytes = from[last] * elementBytes;
+            long rows = 1;
+            for (int i = 0; i < last; i++) {
+                rows *= from[i];
+            }
+            // index of the current row in the source, odometer over all axes but the last
+            long[] index = new long[last];
+            for (long row = 0; row < rows; row++) {
+                long offset = 0;
+                for (int i = 0; i < last; i++) {
+                    offset = offset * to[i] + index[i];
+                }
+                Tensor.copyMemory(srcData, row * rowBytes, dstData, offset * to[last] * elementBytes, rowBytes);
+                for (int i = last - 1; i >= 0; i--) {
+                    if (++index[i] < from[i]) {
+                        break;
+                    }
+                    index[i] = 0;
+                }
+            }
+            return dst;
+        } catch (RuntimeException e) {
+            dst.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Get the compiled bucket, compiling it on a miss, and count the caller as a user.
+     */
+    private Entry acquire(Map<String, Shape> bucket) {
+        synchronized (this) {
+            Entry entry = use(bucket);
+            if (entry != null) {
+                return entry;
+            }
+        }
+        synchronized (compileLock) {
+            synchronized (this) {
+                Entry entry = use(bucket);
+                if (entry != null) {
+                    return entry;
+                }
+            }
+            CompiledModel compiledModel = compile(bucket);
+            Entry entry = new Entry(compiledModel);
+            List<Entry> retired = new ArrayList<>();
+            synchronized (this) {
+                if (closed) {
+                    compiledModel.close();
+                    throw new IllegalStateException("ShapeBucketedModel:closed");
+                }
+                compilations++;
+                entry.users++;
+                compiled.put(bucket, entry);
+                for (Iterator<Entry> it = compiled.values().iterator(); compiled.size() > maxCompiled; ) {
+                    Entry oldest = it.next();
+                    it.remove();
+                    evictions++;
+                    oldest.retired = true;
+                    if (oldest.users == 0) {
+                        retired.add(oldest);
+                    }
+                }
+            }
+            for (Entry oldest : retired) {
+                oldest.close();
+            }
+            return entry;
+        }
+    }
+
+    /**
+     * Look up a compiled bucket and count the caller as a user. Called with the lock held.
+     */
+    private Entry use(Map<String, Shape> bucket) {
+        if (closed) {
+            throw new IllegalStateException("ShapeBucketedModel:closed");
+        }
+        Entry entry = compiled.get(bucket);
+        if (entry != null) {
+            entry.users++;
+        }
+        return entry;
+    }
+
+    private CompiledModel compile(Map<String, Shape> bucket) {
+        Map<String, PartialShape> shapes = new LinkedHashMap<>();
+        for (Map.Entry<String, Shape> input : bucket.entrySet()) {
+            shapes.put(input.getKey(), new PartialShape(input.getValue()));
+        }
+        model.reshapeByStringMap(shapes);
+        try {
+            return core.compileModel(model, deviceName, properties);
+        } finally {
+            model.reshapeByStringMap(originalShapes);
+        }
+    }
+
+    private void release(Entry entry, InferRequest request) {
+        boolean close;
+        synchronized (this) {
+            if (request != null) {
+                entry.idle.push(request);
+            }
+            entry.users--;
+            close = entry.retired && entry.users == 0;
+        }
+        if (close) {
+            entry.close();
+        }
+    }
+
+    public synchronized long getCompilations() {
+        return compilations;
+    }
+
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    public synchronized int getCompiledCount() {
+        return compiled.size();
+    }
+
+    /**
+     * Get the buckets, smallest first.
+     *
+     * @return The buckets.
+     */
+    public List<Map<String, Shape>> getBuckets() {
+        return buckets;
+    }
+
+    /**
+     * Release the compiled buckets. Buckets still running an inference are released when it finishes.
+     */
+    @Override
+    public void close() {
+        List<Entry> retired = new ArrayList<>();
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            for (Entry entry : compiled.values()) {
+                entry.retired = true;
+                if (entry.users == 0) {
+                    retired.add(entry);
+                }
+            }
+            compiled.clear();
+        }
+        for (Entry entry : retired) {
+            entry.close();
+        }
+    }
+
+    /**
+     * A compiled bucket and its idle requests. Mutable state is guarded by the ShapeBucketedModel lock.
+     */
+    private final class Entry {
+
+        private final CompiledModel compiledModel;
+
+        private final ArrayDeque<InferRequest> idle = new ArrayDeque<>();
+
+        private int users;
+
+        private boolean retired;
+
+        private Entry(CompiledModel compiledModel) {
+            this.compiledModel = compiledModel;
+        }
+
+        private InferRequest borrow() {
+            synchronized (ShapeBucketedModel.this) {
+                InferRequest request = idle.poll();
+                if (request != null) {
+                    return request;
+                }
+            }
+            return compiledModel.createInferRequest();
+        }
+
+        private void close() {
+            for (InferRequest request : idle) {
+                request.close();
+            }
+            idle.clear();
+            compiledModel.close();
+        }
+    }
+}
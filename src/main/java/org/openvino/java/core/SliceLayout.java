@@ -0,0 +1,81 @@
+package org.openvino.java.core;
+
+import org.openvino.java.enums.ElementType;
+
+/**
+ * Where the elements of Tensor.slice lie in the memory of the sliced tensor: blocks ranges of rangeBytes bytes,
+ * the first at offset and the next ones blockBytes apart. A contiguous slice is one range and can be a view.
+ */
+final class SliceLayout {
+
+    /**
+     * The shape of the slice.
+     */
+    final long[] dims;
+
+    /**
+     * Whether the slice is one range of memory: every axis before the sliced one has size 1,
+     * or the slice covers the whole axis.
+     */
+    final boolean contiguous;
+
+    final long blocks;
+
+    final long blockBytes;
+
+    final long offset;
+
+    final long rangeBytes;
+
+    private SliceLayout(long[] dims, boolean contiguous, long blocks, long blockBytes, long offset, long rangeBytes) {
+        this.dims = dims;
+        this.contiguous = contiguous;
+        this.blocks = blocks;
+        this.blockBytes = blockBytes;
+        this.offset = offset;
+        this.rangeBytes = rangeBytes;
+    }
+
+    /**
+     * Compute the layout of the elements from begin to end along an axis.
+     *
+     * @param type  The element type.
+     * @param dims  The shape of the sliced tensor.
+     * @param axis  The axis to slice.
+     * @param begin Index of the first element along the axis.
+     * @param end   Index after the last element along the axis.
+     * @return The layout.
+     * @throws UnsupportedOperationException If a range of a sub-byte element type does not fall on byte boundaries.
+     */
+    static SliceLayout of(ElementType type, long[] dims, int axis, long begin, long end) {
+        if (axis < 0 || axis >= dims.length) {
+            throw new IllegalArgumentException("Tensor:axis " + axis + " is out of range for rank " + dims.length);
+        }
+        if (begin < 0 || begin > end || end > dims[axis]) {
+            throw new IndexOutOfBoundsException("Tensor:range [" + begin + ", " + end + ") is out of bounds for dimension " + dims[axis]);
+        }
+        long outer = 1;
+        for (int i = 0; i < axis; i++) {
+            outer *= dims[i];
+        }
+        long inner = 1;
+        for (int i = axis + 1; i < dims.length; i++) {
+            inner *= dims[i];
+        }
+        long[] sliceDims = dims.clone();
+        sliceDims[axis] = end - begin;
+        long bits = type.getBitWidth();
+        long offsetBits = begin * inner * bits;
+        long rangeBits = (end - begin) * inner * bits;
+        long blockBits = dims[axis] * inner * bits;
+        boolean contiguous = outer == 1 || (begin == 0 && end == dims[axis]);
+        if (offsetBits % 8 != 0 || (!contiguous && (rangeBits % 8 != 0 || blockBits % 8 != 0))) {
+            throw new UnsupportedOperationException("Tensor:slice of " + type + " does not start on a byte boundary");
+        }
+        if (contiguous) {
+            return new SliceLayout(sliceDims, true, 1, type.byteSize(outer * dims[axis] * inner), offsetBits / 8,
+                    type.byteSize(outer * (end - begin) * inner));
+        }
+        return new SliceLayout(sliceDims, false, outer, blockBits / 8, offsetBits / 8, rangeBits / 8);
+    }
+}
@@ -1,6 +1,5 @@
 package org.openvino.java.core;
 
-import com.sun.jna.Memory;
 import com.sun.jna.Pointer;
 import com.sun.jna.ptr.IntByReference;
 import com.sun.jna.ptr.LongByReference;
@@ -10,12 +9,60 @@ import org.openvino.java.base.OpenVINOCls;
 import org.openvino.java.domain.OvShape;
 import org.openvino.java.enums.ElementType;
 
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.ShortBuffer;
+
 /**
  * Tensor API holding host memory.
  * It can throw exceptions safely for the application, where it is properly handled.
+ * The element type, shape, sizes and data pointer are read from native code once and cached.
+ * setShape on this wrapper refreshes them, and an infer request refreshes the wrappers it owns whenever their tensor
+ * may have been replaced or reallocated. A reshape through another wrapper of the same native tensor is not seen,
+ * which is why an infer request hands out one wrapper per tensor.
  */
 public class Tensor extends OpenVINOCls {
 
+    private static final ElementType[] BYTE_TYPES = {ElementType.u8, ElementType.i8, ElementType.bool};
+
+    private static final ElementType[] SHORT_TYPES = {ElementType.i16, ElementType.u16, ElementType.f16, ElementType.bf16};
+
+    private static final ElementType[] INT_TYPES = {ElementType.i32, ElementType.u32};
+
+    private static final ElementType[] LONG_TYPES = {ElementType.i64, ElementType.u64};
+
+    private static final ElementType[] FLOAT_TYPES = {ElementType.f32};
+
+    private static final ElementType[] DOUBLE_TYPES = {ElementType.f64};
+
+    private volatile ElementType elementType;
+
+    private volatile Shape shape;
+
+    private volatile long size = -1;
+
+    private volatile long byteSize = -1;
+
+    private volatile Pointer data;
+
+    /**
+     * The buffer over the tensor memory and its typed view for the element type. They are never handed out:
+     * asByteBuffer and the as*Buffer methods return duplicates of them, so every caller has its own position and limit.
+     */
+    private volatile ByteBuffer buffer;
+
+    private volatile Buffer view;
+
+    /**
+     * Owner of the host memory wrapped by this tensor, kept reachable as long as the tensor.
+     */
+    private Object keepAlive;
+
     /**
      * Constructs Tensor from the initialized pointer.
      *
@@ -23,19 +70,31 @@ public class Tensor extends OpenVINOCls {
      */
     public Tensor(PointerByReference tensor) {
         super("Tensor", tensor);
+        registerCleaner(VINO::ov_tensor_free);
     }
 
     /**
      * Constructs Tensor using element type ,shape and image data.
+     * The pixels are wrapped without copying and the Mat is kept reachable as long as the tensor.
+     * See MatTensors to derive the element type and shape from the Mat or to copy ROIs.
      *
      * @param type  Tensor element type<
      * @param shape Tensor shape
-     * @param mat   Image data
+     * @param mat   Image data, must be continuous
      */
     public Tensor(ElementType type, Shape shape, Mat mat) {
         super("Tensor");
+        if (!mat.isContinuous()) {
+            throw new UnsupportedOperationException(getType() + ":Mat is not continuous");
+        }
+        long matBytes = mat.total() * mat.elemSize();
+        if (type.byteSize(shape.getSize()) > matBytes) {
+            throw new IllegalArgumentException(getType() + ":" + shape + " does not fit into " + matBytes + " bytes of Mat data");
+        }
         Pointer pointer = new Pointer(mat.dataAddr());
-        verifyExceptionStatus(getVino().ov_tensor_create_from_host_ptr(type.hashCode(), shape.getShape(), pointer, getVinoObj()));
+        verifyExceptionStatus(getVino().ov_tensor_create_from_host_ptr(type.ordinal(), shape.getShape(), pointer, getVinoObj()));
+        registerCleaner(VINO::ov_tensor_free);
+        keepAlive = mat;
     }
 
     /**
@@ -48,6 +107,7 @@ public class Tensor extends OpenVINOCls {
     public Tensor(ElementType type, Shape shape, Pointer host_ptr) {
         super("Tensor");
         verifyExceptionStatus(getVino().ov_tensor_create_from_host_ptr(type.ordinal(), shape.getShape(), host_ptr, getVinoObj()));
+        registerCleaner(VINO::ov_tensor_free);
     }
 
     /**
@@ -59,6 +119,7 @@ public class Tensor extends OpenVINOCls {
     public Tensor(ElementType type, Shape shape) {
         super("Tensor");
         verifyExceptionStatus(getVino().ov_tensor_create(type.ordinal(), shape.getShape(), getVinoObj()));
+        registerCleaner(VINO::ov_tensor_free);
     }
 
     /**
@@ -68,7 +129,8 @@ public class Tensor extends OpenVINOCls {
      */
     public Tensor(Tensor tensor) {
         super("Tensor");
-        verifyExceptionStatus(getVino().ov_tensor_create_from_host_ptr(tensor.getElementType().ordinal(), tensor.getShape().getShape(), tensor.getData().getPointer(), getVinoObj()));
+        verifyExceptionStatus(getVino().ov_tensor_create_from_host_ptr(tensor.getElementType().ordinal(), tensor.getShape().getShape(), tensor.dataPointer(), getVinoObj()));
+        registerCleaner(VINO::ov_tensor_free);
     }
 
     /**
@@ -78,6 +140,65 @@ public class Tensor extends OpenVINOCls {
      */
     public void setShape(Shape shape) {
         verifyExceptionStatus(getVino().ov_tensor_set_shape(getValue(), shape.getShape()));
+        invalidateMetadata();
+    }
+
+    /**
+     * Keep the owner of the wrapped host memory reachable while the tensor is.
+     */
+    void keepAlive(Object owner) {
+        this.keepAlive = owner;
+    }
+
+    /**
+     * Make the tensor owned by an infer request, which releases it with free or when a caller closes it.
+     */
+    void own() {
+        markOwned();
+    }
+
+    /**
+     * Release an owned tensor.
+     */
+    void free() {
+        closeOwned();
+    }
+
+    /**
+     * Release the native tensor. A tensor returned by an infer request is released too: the request drops it and
+     * returns a new Tensor from its next getter call, so close it only once every holder is done with it.
+     */
+    @Override
+    public void close() {
+        closeOwned();
+    }
+
+    /**
+     * Point this wrapper at another native tensor and release the current one, so an infer request keeps
+     * one wrapper per port while the tensor behind the port is replaced.
+     *
+     * @param tensor The new native tensor, owned by this wrapper from now on.
+     */
+    void rebind(Pointer tensor) {
+        Pointer old = getValue();
+        getVinoObj().setValue(tensor);
+        elementType = null;
+        invalidateMetadata();
+        if (old != null) {
+            getVino().ov_tensor_free(old);
+        }
+    }
+
+    /**
+     * Drop the cached shape, sizes and data pointer, which change when the tensor is reshaped or reallocated.
+     */
+    void invalidateMetadata() {
+        shape = null;
+        size = -1;
+        byteSize = -1;
+        data = null;
+        buffer = null;
+        view = null;
     }
 
     /**
@@ -86,9 +207,46 @@ public class Tensor extends OpenVINOCls {
      * @return A tensor shape
      */
     public Shape getShape() {
-        OvShape shapeT = new OvShape();
-        verifyExceptionStatus(getVino().ov_tensor_get_shape(getValue(), shapeT));
-        return new Shape(shapeT);
+        Shape cached = shape;
+        if (cached == null) {
+            OvShape shapeT = new OvShape();
+            verifyExceptionStatus(getVino().ov_tensor_get_shape(getValue(), shapeT));
+            cached = Shape.fromNative(shapeT, getVino());
+            shape = cached;
+        }
+        return cached;
+    }
+
+    /**
+     * Get the tensor dimensions as a primitive array.
+     *
+     * @return A copy of the dimensions.
+     */
+    public long[] getDims() {
+        return dims().clone();
+    }
+
+    /**
+     * Get one tensor dimension without allocating.
+     *
+     * @param axis The axis.
+     * @return The dimension of the axis.
+     */
+    public long getDim(int axis) {
+        return dims()[axis];
+    }
+
+    /**
+     * Get the number of dimensions.
+     *
+     * @return The rank.
+     */
+    public int getRank() {
+        return dims().length;
+    }
+
+    private long[] dims() {
+        return getShape().dims();
     }
 
     /**
@@ -97,9 +255,14 @@ public class Tensor extends OpenVINOCls {
      * @return A tensor element type
      */
     public ElementType getElementType() {
-        IntByReference intByReference = new IntByReference();
-        verifyExceptionStatus(getVino().ov_tensor_get_element_type(getValue(), intByReference));
-        return ElementType.values()[intByReference.getValue()];
+        ElementType cached = elementType;
+        if (cached == null) {
+            IntByReference type = Scratch.get().intValue();
+            verifyExceptionStatus(getVino().ov_tensor_get_element_type(getValue(), type));
+            cached = ElementType.values()[type.getValue()];
+            elementType = cached;
+        }
+        return cached;
     }
 
     /**
@@ -108,9 +271,14 @@ public class Tensor extends OpenVINOCls {
      * @return The total number of elements.
      */
     public long getSize() {
-        LongByReference longByReference = new LongByReference();
-        verifyExceptionStatus(getVino().ov_tensor_get_size(getValue(), longByReference));
-        return longByReference.getValue();
+        long cached = size;
+        if (cached < 0) {
+            LongByReference value = Scratch.get().longValue();
+            verifyExceptionStatus(getVino().ov_tensor_get_size(getValue(), value));
+            cached = value.getValue();
+            size = cached;
+        }
+        return cached;
     }
 
     /**
@@ -119,20 +287,101 @@ public class Tensor extends OpenVINOCls {
      * @return Tensor's size in bytes
      */
     public long getByteSize() {
-        LongByReference longByReference = new LongByReference();
-        verifyExceptionStatus(getVino().ov_tensor_get_byte_size(getValue(), longByReference));
-        return longByReference.getValue();
+        long cached = byteSize;
+        if (cached < 0) {
+            LongByReference value = Scratch.get().longValue();
+            verifyExceptionStatus(getVino().ov_tensor_get_byte_size(getValue(), value));
+            cached = value.getValue();
+            byteSize = cached;
+        }
+        return cached;
     }
 
     /**
      * Copy tensor, destination tensor should have the same element type and shape
      *
      * @param dst
+     * @deprecated The data is copied natively regardless of the class, use copyTo(Tensor).
      */
-    public <T> void copyTo(Class cls, Tensor dst) {
-        long length = getSize();
-        T[] data = this.getData(cls, (int) length);
-        dst.setData(data);
+    @Deprecated
+    public void copyTo(Class cls, Tensor dst) {
+        copyTo(dst);
+    }
+
+    /**
+     * Copy the data of this tensor into another tensor of the same element type and shape.
+     * The bytes are copied from host memory to host memory without passing through the Java heap.
+     *
+     * @param dst The destination tensor.
+     * @throws IllegalArgumentException If the element type or shape differs.
+     */
+    public void copyTo(Tensor dst) {
+        if (dst == this) {
+            return;
+        }
+        if (getElementType() != dst.getElementType() || !getShape().equals(dst.getShape())) {
+            throw new IllegalArgumentException(getType() + ":cannot copy " + getElementType() + " " + getShape()
+                    + " to " + dst.getElementType() + " " + dst.getShape());
+        }
+        copyMemory(dataPointer(), 0, dst.dataPointer(), 0, getByteSize());
+    }
+
+    /**
+     * Copy native memory through direct buffers, which the JDK copies with memcpy.
+     * Done in chunks since a buffer holds at most Integer.MAX_VALUE bytes.
+     */
+    static void copyMemory(Pointer src, long srcOffset, Pointer dst, long dstOffset, long bytes) {
+        for (long done = 0; done < bytes; ) {
+            long chunk = Math.min(bytes - done, Integer.MAX_VALUE);
+            dst.getByteBuffer(dstOffset + done, chunk).put(src.getByteBuffer(srcOffset + done, chunk));
+            done += chunk;
+        }
+    }
+
+    /**
+     * Get the elements from begin (inclusive) to end (exclusive) along an axis; the other axes are kept whole.
+     * When the range is contiguous in memory, i.e. every axis before the sliced one has size 1 or the range
+     * covers the whole axis, the result is a view sharing the host memory of this tensor: writes are visible
+     * in both and the view keeps this tensor reachable. It must not be used after this tensor is closed
+     * or reshaped. Otherwise the elements are copied into a new tensor.
+     *
+     * @param axis  The axis to slice.
+     * @param begin Index of the first element along the axis.
+     * @param end   Index after the last element along the axis.
+     * @return The sub-tensor of shape dims with dims[axis] = end - begin.
+     */
+    public Tensor slice(int axis, long begin, long end) {
+        ElementType type = getElementType();
+        SliceLayout layout = SliceLayout.of(type, dims(), axis, begin, end);
+        Shape shape = new Shape(layout.dims);
+        if (layout.contiguous) {
+            Tensor view = new Tensor(type, shape, dataPointer().share(layout.offset));
+            view.keepAlive(this);
+            return view;
+        }
+        Tensor copy = new Tensor(type, shape);
+        try {
+            Pointer src = dataPointer();
+            Pointer dst = copy.dataPointer();
+            for (long i = 0; i < layout.blocks; i++) {
+                copyMemory(src, i * layout.blockBytes + layout.offset, dst, i * layout.rangeBytes, layout.rangeBytes);
+            }
+        } catch (RuntimeException e) {
+            copy.close();
+            throw e;
+        }
+        return copy;
+    }
+
+    /**
+     * Get one item of a batched tensor as a view of shape {1, ...}, e.g. to hand each request its part
+     * of a batched output. The view shares the host memory of this tensor, see slice.
+     *
+     * @param index The index along the first axis.
+     * @return The view.
+     */
+    public Tensor viewBatch(int index) {
+        return slice(0, index, index + 1L);
     }
 
     /**
@@ -147,26 +396,167 @@ public class Tensor extends OpenVINOCls {
     }
 
     /**
-     * Load the specified type of data into the underlying host memory.
+     * Copy f32 data into the underlying host memory.
      *
      * @param data Data to be loaded.
-     * @param <T>  data type
      */
-    public <T> void setData(T data) {
-        PointerByReference pointerByReference = new PointerByReference(new Memory(((float[]) data).length));
-        verifyExceptionStatus(getVino().ov_tensor_data(getValue(), pointerByReference));
-        if (data.getClass().getName().equals("[F")) {
-            pointerByReference.getValue().write(0, (float[]) data, 0, ((float[]) data).length);
-        } else if (data.getClass().getName().equals("[B")) {
-            pointerByReference.getValue().write(0, (byte[]) data, 0, ((byte[]) data).length);
-        }
-        if (data.getClass().getName().equals("[I")) {
-            pointerByReference.getValue().write(0, (int[]) data, 0, ((int[]) data).length);
-        } else if (data.getClass().getName().equals("[D")) {
-            pointerByReference.getValue().write(0, (double[]) data, 0, ((double[]) data).length);
+    public void setData(float[] data) {
+        setData(data, 0, data.length);
+    }
+
+    /**
+     * Copy a range of f32 data to the start of the underlying host memory.
+     *
+     * @param data   Data to be loaded.
+     * @param offset Index of the first element of data to copy.
+     * @param length Number of elements to copy.
+     */
+    public void setData(float[] data, int offset, int length) {
+        checkElementType("float[]", FLOAT_TYPES);
+        writablePointer(Float.BYTES, data.length, offset, length).write(0, data, offset, length);
+    }
+
+    /**
+     * Copy u8/i8/boolean data into the underlying host memory.
+     *
+     * @param data Data to be loaded.
+     */
+    public void setData(byte[] data) {
+        setData(data, 0, data.length);
+    }
+
+    /**
+     * Copy a range of u8/i8/boolean data to the start of the underlying host memory.
+     *
+     * @param data   Data to be loaded.
+     * @param offset Index of the first element of data to copy.
+     * @param length Number of elements to copy.
+     */
+    public void setData(byte[] data, int offset, int length) {
+        checkElementType("byte[]", BYTE_TYPES);
+        writablePointer(Byte.BYTES, data.length, offset, length).write(0, data, offset, length);
+    }
+
+    /**
+     * Copy i16/u16/f16/bf16 data into the underlying host memory.
+     *
+     * @param data Data to be loaded.
+     */
+    public void setData(short[] data) {
+        setData(data, 0, data.length);
+    }
+
+    /**
+     * Copy a range of i16/u16/f16/bf16 data to the start of the underlying host memory.
+     * Half precision values are expected as their raw 16 bit patterns.
+     *
+     * @param data   Data to be loaded.
+     * @param offset Index of the first element of data to copy.
+     * @param length Number of elements to copy.
+     */
+    public void setData(short[] data, int offset, int length) {
+        checkElementType("short[]", SHORT_TYPES);
+        writablePointer(Short.BYTES, data.length, offset, length).write(0, data, offset, length);
+    }
+
+    /**
+     * Copy i32/u32 data into the underlying host memory.
+     *
+     * @param data Data to be loaded.
+     */
+    public void setData(int[] data) {
+        setData(data, 0, data.length);
+    }
+
+    /**
+     * Copy a range of i32/u32 data to the start of the underlying host memory.
+     *
+     * @param data   Data to be loaded.
+     * @param offset Index of the first element of data to copy.
+     * @param length Number of elements to copy.
+     */
+    public void setData(int[] data, int offset, int length) {
+        checkElementType("int[]", INT_TYPES);
+        writablePointer(Integer.BYTES, data.length, offset, length).write(0, data, offset, length);
+    }
+
+    /**
+     * Copy i64/u64 data into the underlying host memory.
+     *
+     * @param data Data to be loaded.
+     */
+    public void setData(long[] data) {
+        setData(data, 0, data.length);
+    }
+
+    /**
+     * Copy a range of i64/u64 data to the start of the underlying host memory.
+     *
+     * @param data   Data to be loaded.
+     * @param offset Index of the first element of data to copy.
+     * @param length Number of elements to copy.
+     */
+    public void setData(long[] data, int offset, int length) {
+        checkElementType("long[]", LONG_TYPES);
+        writablePointer(Long.BYTES, data.length, offset, length).write(0, data, offset, length);
+    }
+
+    /**
+     * Copy f64 data into the underlying host memory.
+     *
+     * @param data Data to be loaded.
+     */
+    public void setData(double[] data) {
+        setData(data, 0, data.length);
+    }
+
+    /**
+     * Copy a range of f64 data to the start of the underlying host memory.
+     *
+     * @param data   Data to be loaded.
+     * @param offset Index of the first element of data to copy.
+     * @param length Number of elements to copy.
+     */
+    public void setData(double[] data, int offset, int length) {
+        checkElementType("double[]", DOUBLE_TYPES);
+        writablePointer(Double.BYTES, data.length, offset, length).write(0, data, offset, length);
+    }
+
+    /**
+     * Copy the remaining bytes of a buffer to the start of the underlying host memory.
+     * The bytes are copied as they are, so the buffer must already hold data of the tensor element type
+     * in native byte order. The position of the buffer is not changed.
+     *
+     * @param data Data to be loaded.
+     */
+    public void setData(ByteBuffer data) {
+        long byteSize = getByteSize();
+        if (data.remaining() > byteSize) {
+            throw new IllegalArgumentException(getType() + ":" + data.remaining() + " bytes do not fit into " + byteSize + " bytes of tensor memory");
         }
+        dataPointer().getByteBuffer(0, byteSize).put(data.duplicate());
     }
 
+    /**
+     * Check a copy request against the tensor memory and return the host pointer to write to.
+     *
+     * @param elementBytes Size of one array element in bytes.
+     * @param arrayLength  Length of the source array.
+     * @param offset       Index of the first element to copy.
+     * @param length       Number of elements to copy.
+     * @return A host pointer to tensor memory.
+     */
+    private Pointer writablePointer(int elementBytes, int arrayLength, int offset, int length) {
+        if (offset < 0 || length < 0 || offset > arrayLength - length) {
+            throw new IndexOutOfBoundsException(getType() + ":offset " + offset + ", length " + length + ", array length " + arrayLength);
+        }
+        long bytes = (long) length * elementBytes;
+        long byteSize = getByteSize();
+        if (bytes > byteSize) {
+            throw new IllegalArgumentException(getType() + ":" + bytes + " bytes do not fit into " + byteSize + " bytes of tensor memory");
+        }
+        return dataPointer();
+    }
 
     /**
      * Read data of the specified type from the underlying host memory.
@@ -177,37 +567,159 @@ public class Tensor extends OpenVINOCls {
      * @return
      */
     public <T> T getData(Class cls, int outputLength) {
-        PointerByReference data = getData();
+        Pointer data = dataPointer();
         if (cls.getName().equals("[F")) {
-            return (T) data.getValue().getFloatArray(0, outputLength);
+            return (T) data.getFloatArray(0, outputLength);
         } else if (cls.getName().equals("[Ljava.lang.String;")) {
-            return (T) data.getValue().getStringArray(0, outputLength);
+            return (T) data.getStringArray(0, outputLength);
         } else if (cls.getName().equals("[B")) {
-            return (T) data.getValue().getByteArray(0, outputLength);
+            return (T) data.getByteArray(0, outputLength);
         } else if (cls.getName().equals("[C")) {
-            return (T) data.getValue().getCharArray(0, outputLength);
+            return (T) data.getCharArray(0, outputLength);
         } else if (cls.getName().equals("[D")) {
-            return (T) data.getValue().getDoubleArray(0, outputLength);
+            return (T) data.getDoubleArray(0, outputLength);
         } else if (cls.getName().equals("[S")) {
-            return (T) data.getValue().getShortArray(0, outputLength);
+            return (T) data.getShortArray(0, outputLength);
         } else if (cls.getName().equals("[L")) {
-            return (T) data.getValue().getLongArray(0, outputLength);
+            return (T) data.getLongArray(0, outputLength);
         } else if (cls.getName().equals("[I")) {
-            return (T) data.getValue().getIntArray(0, outputLength);
+            return (T) data.getIntArray(0, outputLength);
         } else {
             return null;
         }
     }
 
+    /**
+     * Wraps the underlying host memory as a direct buffer in native byte order without copying.
+     * This is a raw view, so it is available for every element type.
+     * Every call returns a new buffer with its own position and limit over the whole tensor, so callers and threads
+     * do not move each other's cursors. In a hot loop, keep the returned buffer and reuse it instead of calling again.
+     * The buffer is only valid while the tensor is alive and its shape is unchanged.
+     *
+     * @return A view of the whole tensor memory.
+     */
+    public ByteBuffer asByteBuffer() {
+        ByteBuffer cached = buffer;
+        if (cached == null) {
+            cached = dataPointer().getByteBuffer(0, getByteSize()).order(ByteOrder.nativeOrder());
+            buffer = cached;
+        }
+        // duplicate resets the byte order to big endian
+        return cached.duplicate().order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * Wraps the underlying host memory of a f32 tensor as a FloatBuffer without copying.
+     * Like asByteBuffer, every call returns a new buffer with its own position and limit.
+     *
+     * @return A view of the tensor data.
+     */
+    public FloatBuffer asFloatBuffer() {
+        checkElementType("FloatBuffer", FLOAT_TYPES);
+        Buffer cached = view;
+        if (!(cached instanceof FloatBuffer)) {
+            cached = asByteBuffer().asFloatBuffer();
+            view = cached;
+        }
+        return ((FloatBuffer) cached).duplicate();
+    }
+
+    /**
+     * Wraps the underlying host memory of a f64 tensor as a DoubleBuffer without copying.
+     * Like asByteBuffer, every call returns a new buffer with its own position and limit.
+     *
+     * @return A view of the tensor data.
+     */
+    public DoubleBuffer asDoubleBuffer() {
+        checkElementType("DoubleBuffer", DOUBLE_TYPES);
+        Buffer cached = view;
+        if (!(cached instanceof DoubleBuffer)) {
+            cached = asByteBuffer().asDoubleBuffer();
+            view = cached;
+        }
+        return ((DoubleBuffer) cached).duplicate();
+    }
+
+    /**
+     * Wraps the underlying host memory of a i32/u32 tensor as an IntBuffer without copying.
+     * Like asByteBuffer, every call returns a new buffer with its own position and limit.
+     *
+     * @return A view of the tensor data.
+     */
+    public IntBuffer asIntBuffer() {
+        checkElementType("IntBuffer", INT_TYPES);
+        Buffer cached = view;
+        if (!(cached instanceof IntBuffer)) {
+            cached = asByteBuffer().asIntBuffer();
+            view = cached;
+        }
+        return ((IntBuffer) cached).duplicate();
+    }
+
+    /**
+     * Wraps the underlying host memory of a i16/u16/f16/bf16 tensor as a ShortBuffer without copying.
+     * Half precision values are exposed as their raw 16 bit patterns.
+     * Like asByteBuffer, every call returns a new buffer with its own position and limit.
+     *
+     * @return A view of the tensor data.
+     */
+    public ShortBuffer asShortBuffer() {
+        checkElementType("ShortBuffer", SHORT_TYPES);
+        Buffer cached = view;
+        if (!(cached instanceof ShortBuffer)) {
+            cached = asByteBuffer().asShortBuffer();
+            view = cached;
+        }
+        return ((ShortBuffer) cached).duplicate();
+    }
+
+    /**
+     * Wraps the underlying host memory of a i64/u64 tensor as a LongBuffer without copying.
+     * Like asByteBuffer, every call returns a new buffer with its own position and limit.
+     *
+     * @return A view of the tensor data.
+     */
+    public LongBuffer asLongBuffer() {
+        checkElementType("LongBuffer", LONG_TYPES);
+        Buffer cached = view;
+        if (!(cached instanceof LongBuffer)) {
+            cached = asByteBuffer().asLongBuffer();
+            view = cached;
+        }
+        return ((LongBuffer) cached).duplicate();
+    }
+
+    /**
+     * Verify that the tensor element type is one of the expected types.
+     *
+     * @param target   Name of the requested view, used in the error message.
+     * @param expected The element types the view supports.
+     * @throws UnsupportedOperationException If the element type does not match.
+     */
+    private void checkElementType(String target, ElementType[] expected) {
+        ElementType type = getElementType();
+        for (ElementType e : expected) {
+            if (e == type) {
+                return;
+            }
+        }
+        throw new UnsupportedOperationException(getType() + ":" + type + " data cannot be accessed as " + target);
+    }
+
     /**
      * Provides an access to the underlaying host memory.
      *
      * @return A host pointer to tensor memory.
      */
-    private PointerByReference getData() {
-        PointerByReference data = new PointerByReference();
-        verifyExceptionStatus(getVino().ov_tensor_data(getValue(), data));
-        return data;
+    Pointer dataPointer() {
+        Pointer cached = data;
+        if (cached == null) {
+            PointerByReference value = Scratch.get().pointer();
+            verifyExceptionStatus(getVino().ov_tensor_data(getValue(), value));
+            cached = value.getValue();
+            data = cached;
+        }
+        return cached;
     }
 
     @Override
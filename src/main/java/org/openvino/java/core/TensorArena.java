@@ -0,0 +1,192 @@
+package org.openvino.java.core;
+
+import com.sun.jna.Memory;
+import com.sun.jna.Pointer;
+import org.openvino.java.enums.ElementType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An off-heap arena handing out 64-byte aligned host memory for tensors created with ov_tensor_create_from_host_ptr.
+ * Memory is bump allocated from slabs that are kept across reset, so a batch of per-request tensors costs
+ * no malloc/free once the arena is warm and its footprint is bounded by the slabs it holds.
+ * Tensors allocated from the arena are closed by reset and close; their memory must not be used afterwards.
+ * Intended for one batch at a time; methods are synchronized.
+ */
+public class TensorArena implements AutoCloseable {
+
+    /**
+     * Alignment of every allocation, matching the cache line and AVX-512 vector size.
+     */
+    public static final int ALIGNMENT = 64;
+
+    private final long slabBytes;
+
+    private final List<Slab> slabs = new ArrayList<>();
+
+    /**
+     * Index of the slab currently bump allocated from.
+     */
+    private int current;
+
+    private final List<Tensor> tensors = new ArrayList<>();
+
+    private long used;
+
+    private boolean closed;
+
+    /**
+     * Constructs an arena.
+     *
+     * @param slabBytes Size of one slab. Larger allocations get a dedicated slab.
+     */
+    public TensorArena(long slabBytes) {
+        if (slabBytes <= 0) {
+            throw new IllegalArgumentException("slabBytes must be positive");
+        }
+        this.slabBytes = align(slabBytes);
+    }
+
+    /**
+     * Round a byte count up to a multiple of ALIGNMENT.
+     */
+    static long align(long bytes) {
+        return (bytes + ALIGNMENT - 1) & -ALIGNMENT;
+    }
+
+    /**
+     * Get the bytes an allocation takes from a slab: its size rounded up to ALIGNMENT, and at least ALIGNMENT so
+     * empty tensors still get distinct addresses.
+     */
+    static long allocationSize(long bytes) {
+        return Math.max(align(bytes), ALIGNMENT);
+    }
+
+    /**
+     * Allocate aligned memory valid until the next reset or close.
+     *
+     * @param bytes Number of bytes.
+     * @return A pointer to the memory.
+     */
+    public synchronized Pointer allocate(long bytes) {
+        if (closed) {
+            throw new IllegalStateException("TensorArena:closed");
+        }
+        if (bytes < 0) {
+            throw new IllegalArgumentException("TensorArena:negative size " + bytes);
+        }
+        long size = allocationSize(bytes);
+        while (current < slabs.size()) {
+            Slab slab = slabs.get(current);
+            if (slab.offset + size <= slab.size) {
+                return slab.take(size);
+            }
+            current++;
+        }
+        Slab slab = new Slab(Math.max(size, slabBytes));
+        slabs.add(slab);
+        current = slabs.size() - 1;
+        return slab.take(size);
+    }
+
+    /**
+     * Create a tensor whose data lives in the arena.
+     *
+     * @param type  Tensor element type
+     * @param shape Tensor shape
+     * @return The tensor, valid until the next reset or close.
+     */
+    public synchronized Tensor allocate(ElementType type, Shape shape) {
+        Pointer data = allocate(type.byteSize(shape.getSize()));
+        Tensor tensor = new Tensor(type, shape, data);
+        tensor.keepAlive(this);
+        tensors.add(tensor);
+        return tensor;
+    }
+
+    /**
+     * Close the tensors allocated since the last reset and make all slabs available again.
+     * The slabs are kept, so the next batch allocates no native memory.
+     */
+    public synchronized void reset() {
+        for (Tensor tensor : tensors) {
+            tensor.close();
+        }
+        tensors.clear();
+        for (Slab slab : slabs) {
+            slab.offset = 0;
+        }
+        current = 0;
+        used = 0;
+    }
+
+    /**
+     * Close the tensors and free the slabs.
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        reset();
+        for (Slab slab : slabs) {
+            slab.memory.close();
+        }
+        slabs.clear();
+        closed = true;
+    }
+
+    /**
+     * Get the number of bytes handed out since the last reset, including alignment padding.
+     *
+     * @return The used bytes.
+     */
+    public synchronized long getUsed() {
+        return used;
+    }
+
+    /**
+     * Get the total size of the slabs.
+     *
+     * @return The reserved bytes.
+     */
+    public synchronized long getCapacity() {
+        long capacity = 0;
+        for (Slab slab : slabs) {
+            capacity += slab.size;
+        }
+        return capacity;
+    }
+
+    public synchronized int getSlabCount() {
+        return slabs.size();
+    }
+
+    /**
+     * A block of native memory whose start is aligned to ALIGNMENT.
+     */
+    private final class Slab {
+
+        private final Memory memory;
+
+        private final Pointer base;
+
+        private final long size;
+
+        private long offset;
+
+        private Slab(long size) {
+            this.memory = new Memory(size + ALIGNMENT - 1);
+            this.base = memory.align(ALIGNMENT);
+            this.size = size;
+        }
+
+        private Pointer take(long bytes) {
+            Pointer pointer = base.share(offset, bytes);
+            offset += bytes;
+            used += bytes;
+            return pointer;
+        }
+    }
+}
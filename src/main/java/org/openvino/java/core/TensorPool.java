@@ -0,0 +1,279 @@
+package org.openvino.java.core;
+
+import org.openvino.java.enums.ElementType;
+
+import java.util.ArrayDeque;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * A pool recycling tensors by element type and shape, so steady traffic does not call ov_tensor_create
+ * and allocate native memory for every request.
+ * Idle tensors are bounded per key and by a global byte budget; under pressure the least recently returned
+ * tensors are closed and their memory is released to the native allocator.
+ * Tensors are borrowed with borrow and handed back with recycle, or leased with try-with-resources.
+ * The pool is thread safe.
+ */
+public class TensorPool implements AutoCloseable {
+
+    private final IdleSet<Key, Entry> idle;
+
+    /**
+     * Borrowed tensors and the entries they came from.
+     */
+    private final Map<Tensor, Entry> borrowed = new IdentityHashMap<>();
+
+    private long hits;
+
+    private long misses;
+
+    private boolean closed;
+
+    /**
+     * Constructs a pool.
+     *
+     * @param maxPerKey Maximum number of idle tensors kept for one element type and shape.
+     * @param maxBytes  Maximum total byte size of the idle tensors.
+     */
+    public TensorPool(int maxPerKey, long maxBytes) {
+        if (maxPerKey <= 0 || maxBytes <= 0) {
+            throw new IllegalArgumentException("maxPerKey and maxBytes must be positive");
+        }
+        this.idle = new IdleSet<>(maxPerKey, maxBytes);
+    }
+
+    /**
+     * Take an idle tensor of the element type and shape, or create one.
+     *
+     * @param type  Tensor element type
+     * @param shape Tensor shape
+     * @return The tensor, to be handed back with recycle.
+     */
+    public Tensor borrow(ElementType type, Shape shape) {
+        if (type == null || shape == null) {
+            throw new NullPointerException("element type or shape is null");
+        }
+        Key key = new Key(type, shape);
+        synchronized (this) {
+            if (closed) {
+                throw new IllegalStateException("TensorPool:closed");
+            }
+            Entry entry = idle.poll(key);
+            if (entry != null) {
+                borrowed.put(entry.tensor, entry);
+                hits++;
+                return entry.tensor;
+            }
+            misses++;
+        }
+        // allocate outside the lock
+        Tensor tensor = new Tensor(type, shape);
+        Entry entry = new Entry(key, tensor, key.byteSize());
+        synchronized (this) {
+            borrowed.put(tensor, entry);
+        }
+        return tensor;
+    }
+
+    /**
+     * Take a tensor wrapped in a lease that recycles it when closed.
+     *
+     * @param type  Tensor element type
+     * @param shape Tensor shape
+     * @return The lease.
+     */
+    public Lease lease(ElementType type, Shape shape) {
+        return new Lease(borrow(type, shape));
+    }
+
+    /**
+     * Hand a borrowed tensor back to the pool. Tensors that were reshaped, closed, not borrowed from this pool
+     * or that do not fit into the limits are closed instead.
+     *
+     * @param tensor The borrowed tensor.
+     */
+    public void recycle(Tensor tensor) {
+        if (tensor == null) {
+            return;
+        }
+        Entry entry;
+        synchronized (this) {
+            entry = borrowed.remove(tensor);
+        }
+        if (entry == null) {
+            throw new IllegalArgumentException("TensorPool:tensor was not borrowed from this pool");
+        }
+        if (tensor.isClosed()) {
+            return;
+        }
+        if (!entry.key.shape.equals(tensor.getShape())) {
+            tensor.close();
+            return;
+        }
+        ArrayDeque<Entry> released = new ArrayDeque<>();
+        synchronized (this) {
+            if (closed || !idle.offer(entry.key, entry, entry.bytes, released)) {
+                released.add(entry);
+            }
+        }
+        for (Entry e : released) {
+            e.tensor.close();
+        }
+    }
+
+    /**
+     * Close every idle tensor. Borrowed tensors are not affected.
+     */
+    public void clear() {
+        ArrayDeque<Entry> released = new ArrayDeque<>();
+        synchronized (this) {
+            idle.clear(released);
+        }
+        for (Entry e : released) {
+            e.tensor.close();
+        }
+    }
+
+    /**
+     * Close every idle tensor. Tensors recycled afterwards are closed.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            closed = true;
+        }
+        clear();
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Get the number of idle tensors closed to stay within the byte budget.
+     *
+     * @return The eviction count.
+     */
+    public synchronized long getEvictions() {
+        return idle.evictions();
+    }
+
+    /**
+     * Get the total byte size of the idle tensors.
+     *
+     * @return The idle bytes.
+     */
+    public synchronized long getIdleBytes() {
+        return idle.bytes();
+    }
+
+    public synchronized int getIdleCount() {
+        return idle.size();
+    }
+
+    public synchronized int getBorrowedCount() {
+        return borrowed.size();
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "TensorPool{hits=" + hits + ", misses=" + misses + ", evictions=" + idle.evictions()
+                + ", idle=" + idle.size() + ", idleBytes=" + idle.bytes() + ", borrowed=" + borrowed.size() + '}';
+    }
+
+    /**
+     * A borrowed tensor that goes back to the pool when the lease is closed.
+     */
+    public final class Lease implements AutoCloseable {
+
+        private Tensor tensor;
+
+        private Lease(Tensor tensor) {
+            this.tensor = tensor;
+        }
+
+        /**
+         * Get the leased tensor.
+         *
+         * @return The tensor.
+         */
+        public Tensor tensor() {
+            if (tensor == null) {
+                throw new IllegalStateException("TensorPool:lease is closed");
+            }
+            return tensor;
+        }
+
+        @Override
+        public void close() {
+            Tensor t = tensor;
+            if (t != null) {
+                tensor = null;
+                recycle(t);
+            }
+        }
+    }
+
+    /**
+     * The element type and shape tensors are pooled by.
+     */
+    static final class Key {
+
+        private final ElementType type;
+
+        private final Shape shape;
+
+        Key(ElementType type, Shape shape) {
+            this.type = type;
+            this.shape = shape;
+        }
+
+        /**
+         * Get the byte size of a tensor of the key, counted against the byte budget of the pool.
+         *
+         * @return The byte size.
+         */
+        long byteSize() {
+            return type.byteSize(shape.getSize());
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return type == other.type && shape.equals(other.shape);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * type.hashCode() + shape.hashCode();
+        }
+    }
+
+    /**
+     * A pooled tensor with its key and byte size.
+     */
+    private static final class Entry {
+
+        private final Key key;
+
+        private final Tensor tensor;
+
+        private final long bytes;
+
+        private Entry(Key key, Tensor tensor, long bytes) {
+            this.key = key;
+            this.tensor = tensor;
+            this.bytes = bytes;
+        }
+    }
+}
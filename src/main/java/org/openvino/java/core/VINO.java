@@ -86,6 +86,19 @@ public interface VINO extends Library {
      */
     int ov_core_compile_model(Pointer core, Pointer model, String deviceName, long propertyArgsSize, PointerByReference compiledModel);
 
+    /**
+     * Creates a compiled model from a source model object with properties.
+     *
+     * @param core             A pointer to the ie_core_t instance.
+     * @param model            Model object acquired from Core::read_model.
+     * @param deviceName       Name of a device to load a model to.
+     * @param propertyArgsSize How many properties args will be passed, each property contains 2 args: key and value.
+     * @param compiledModel    A pointer to the newly created compiled_model.
+     * @param properties       The property args: key, value, key, value...
+     * @return Status code of the operation: OK(0) for success.
+     */
+    int ov_core_compile_model(Pointer core, Pointer model, String deviceName, long propertyArgsSize, PointerByReference compiledModel, Object... properties);
+
     /**
      * Gets the friendly name for a model.
      *
@@ -305,6 +318,31 @@ public interface VINO extends Library {
      */
     int ov_core_compile_model_from_file(Pointer core, String modelPath, String deviceName, long propertyArgsSize, PointerByReference compiledModel);
 
+    /**
+     * Reads a model and creates a compiled model from the IR/ONNX/PDPD file with properties.
+     *
+     * @param core             A pointer to the ie_core_t instance.
+     * @param modelPath        Path to a model.
+     * @param deviceName       Name of a device to load a model to.
+     * @param propertyArgsSize How many properties args will be passed, each property contains 2 args: key and value.
+     * @param compiledModel    A pointer to the newly created compiled_model.
+     * @param properties       The property args: key, value, key, value...
+     * @return Status code of the operation: OK(0) for success.
+     */
+    int ov_core_compile_model_from_file(Pointer core, String modelPath, String deviceName, long propertyArgsSize, PointerByReference compiledModel, Object... properties);
+
+    /**
+     * Imports a compiled model from the previously exported one.
+     *
+     * @param core          A pointer to the ov_core_t instance.
+     * @param content       A pointer to content of the exported model.
+     * @param contentSize   Number of bytes in the exported network.
+     * @param deviceName    Name of a device to import a compiled model for.
+     * @param compiledModel A pointer to the newly created compiled_model.
+     * @return Status code of the operation: OK(0) for success.
+     */
+    int ov_core_import_model(Pointer core, Pointer content, long contentSize, String deviceName, PointerByReference compiledModel);
+
     /**
      * Releases memory occupied by ov_core_version_list_t.
      *
@@ -312,6 +350,36 @@ public interface VINO extends Library {
      */
     void ov_core_versions_free(OvAvailableDevices devices);
 
+    /**
+     * Sets properties for a device, acceptable keys can be found in ov_property_key_xxx.
+     * Only one property (key, value) is read per call.
+     *
+     * @param core       A pointer to the ov_core_t instance.
+     * @param deviceName Name of a device.
+     * @param properties The property args: key, value.
+     * @return Status code of the operation: OK(0) for success.
+     */
+    int ov_core_set_property(Pointer core, String deviceName, Object... properties);
+
+    /**
+     * Gets properties related to device behaviour.
+     * The method extracts information that can be set via the set_property method.
+     *
+     * @param core          A pointer to the ov_core_t instance.
+     * @param deviceName    Name of a device to get a property value.
+     * @param propertyKey   Property key.
+     * @param propertyValue A pointer to property value with string format, release it with ov_free.
+     * @return Status code of the operation: OK(0) for success.
+     */
+    int ov_core_get_property(Pointer core, String deviceName, String propertyKey, PointerByReference propertyValue);
+
+    /**
+     * Free char pointer allocated by the C API.
+     *
+     * @param content The pointer to the char to free.
+     */
+    void ov_free(Pointer content);
+
     /**
      * Get a const input port of ov_compiled_model_t by name.
      *
@@ -427,6 +495,13 @@ public interface VINO extends Library {
      */
     void ov_infer_request_free(Pointer inferRequest);
 
+    /**
+     * Release the memory allocated by ov_compiled_model_t.
+     *
+     * @param compiledModel A pointer to the ov_compiled_model_t to free memory.
+     */
+    void ov_compiled_model_free(Pointer compiledModel);
+
     /**
      * Set an input/output tensor to infer on by the name of tensor.
      *
@@ -568,6 +643,15 @@ public interface VINO extends Library {
      */
     int ov_infer_request_wait_for(Pointer inferRequest, long timeout);
 
+    /**
+     * Set callback function, which will be called when inference is done.
+     *
+     * @param inferRequest A pointer to the ov_infer_request_t.
+     * @param callback     A function to be called.
+     * @return Status code of the operation: OK(0) for success.
+     */
+    int ov_infer_request_set_callback(Pointer inferRequest, OvCallback callback);
+
     /**
      * Query performance measures per layer to identify the most time consuming operation.
      *
@@ -720,7 +804,7 @@ public interface VINO extends Library {
      * @param dimension The dimension pointer that will be checked.
      * @return Boolean, true is dynamic and false is static.
      */
-    boolean ov_dimension_is_dynamic(OvDimension dimension);
+    boolean ov_dimension_is_dynamic(OvDimension.ByValue dimension);
 
     /**
      * Initialze a partial shape with static rank and dynamic dimension.
@@ -750,7 +834,7 @@ public interface VINO extends Library {
      * @param shape The pointer of partial shape
      * @return Status code of the operation: OK(0) for success.
      */
-    int ov_partial_shape_create_dynamic(OvRank rank, OvDimension dims, OvPartialShape shape);
+    int ov_partial_shape_create_dynamic(OvRank.ByValue rank, OvDimension dims, OvPartialShape shape);
 
     /**
      * Initialize a partial shape with static rank and static dimension.
@@ -776,7 +860,7 @@ public interface VINO extends Library {
      * @param shape        The shape pointer.
      * @return Status code of the operation: OK(0) for success.
      */
-    int ov_partial_shape_to_shape(OvPartialShape partialShape, OvShape shape);
+    int ov_partial_shape_to_shape(OvPartialShape.ByValue partialShape, OvShape shape);
 
     /**
      * Convert shape to partial shape.
@@ -785,7 +869,7 @@ public interface VINO extends Library {
      * @param partialShape The partial_shape pointer.
      * @return Status code of the operation: OK(0) for success.
      */
-    int ov_shape_to_partial_shape(OvShape shape, OvPartialShape partialShape);
+    int ov_shape_to_partial_shape(OvShape.ByValue shape, OvPartialShape partialShape);
 
     /**
      * Check this partial_shape whether is dynamic
@@ -793,7 +877,7 @@ public interface VINO extends Library {
      * @param shape The shape.
      * @return Status code of the operation: OK(0) for success.
      */
-    boolean ov_partial_shape_is_dynamic(OvPartialShape shape);
+    boolean ov_partial_shape_is_dynamic(OvPartialShape.ByValue shape);
 
     /**
      * Helper function, convert a partial shape to readable string.
@@ -801,7 +885,7 @@ public interface VINO extends Library {
      * @param shape The partial_shape pointer.
      * @return A string reprensts partial_shape's content.
      */
-    String ov_partial_shape_to_string(OvPartialShape shape);
+    String ov_partial_shape_to_string(OvPartialShape.ByValue shape);
 
     /**
      * Do reshape in model with a list of (name, partial shape).
@@ -822,7 +906,7 @@ public interface VINO extends Library {
      * @param shape      A PartialShape.
      * @return Status code of the operation: OK(0) for success.
      */
-    int ov_model_reshape_input_by_name(Pointer model, String tensorName, OvPartialShape shape);
+    int ov_model_reshape_input_by_name(Pointer model, String tensorName, OvPartialShape.ByValue shape);
 
     /**
      * Do reshape in model for one node(port 0).
@@ -831,7 +915,7 @@ public interface VINO extends Library {
      * @param shape A PartialShape.
      * @return Status code of the operation: OK(0) for success.
      */
-    int ov_model_reshape_single_input(Pointer model, OvPartialShape shape);
+    int ov_model_reshape_single_input(Pointer model, OvPartialShape.ByValue shape);
 
     /**
      * Do reshape in model with a list of (port id, partial shape).
@@ -842,7 +926,7 @@ public interface VINO extends Library {
      * @param size        The item count in the list.
      * @return Status code of the operation: OK(0) for success.
      */
-    int ov_model_reshape_by_port_indexes(Pointer model, long portIndexes, OvPartialShape shape, long size);
+    int ov_model_reshape_by_port_indexes(Pointer model, long[] portIndexes, OvPartialShape shape, long size);
 
     /**
      * Do reshape in model with a list of (ov_output_port_t, partial shape).
@@ -853,7 +937,7 @@ public interface VINO extends Library {
      * @param size        The item count in the list.
      * @return Status code of the operation: OK(0) for success.
      */
-    int ov_model_reshape_by_ports(Pointer model, PointerByReference outputPorts, OvPartialShape shape, long size);
+    int ov_model_reshape_by_ports(Pointer model, Pointer outputPorts, OvPartialShape shape, long size);
 
     /**
      * Get the partial shape of port.
@@ -897,7 +981,7 @@ public interface VINO extends Library {
      * @param shape The input/output shape object pointer.
      * @return Status code of the operation: OK(0) for success.
      */
-    int ov_shape_create(long rank, LongByReference dims, OvShape shape);
+    int ov_shape_create(long rank, long[] dims, OvShape shape);
 
     /**
      * Free a shape object's internal memory.
@@ -924,7 +1008,7 @@ public interface VINO extends Library {
      * @param tensor   A point to ov_tensor_t.
      * @return Status code of the operation: OK(0) for success.
      */
-    int ov_tensor_create_from_host_ptr(int type, OvShape shape, Pointer hostPort, PointerByReference tensor);
+    int ov_tensor_create_from_host_ptr(int type, OvShape.ByValue shape, Pointer hostPort, PointerByReference tensor);
 
     /**
      * Constructs Tensor using element type and shape. Allocate internal host storage using default allocator.
@@ -934,7 +1018,7 @@ public interface VINO extends Library {
      * @param tensor A point to ov_tensor_t.
      * @return Status code of the operation: OK(0) for success.
      */
-    int ov_tensor_create(int type, OvShape shape, PointerByReference tensor);
+    int ov_tensor_create(int type, OvShape.ByValue shape, PointerByReference tensor);
 
     /**
      * Set new shape for tensor, deallocate/allocate if new total size is bigger than previous one.
@@ -943,7 +1027,7 @@ public interface VINO extends Library {
      * @param shape  Tensor shape.
      * @return Status code of the operation: OK(0) for success.
      */
-    int ov_tensor_set_shape(Pointer tensor, OvShape shape);
+    int ov_tensor_set_shape(Pointer tensor, OvShape.ByValue shape);
 
     /**
      * Get type for tensor.
@@ -1298,7 +1382,24 @@ public interface VINO extends Library {
      */
     int ov_preprocess_input_info_get_tensor_info(Pointer preprocessInputInfo, PointerByReference preprocessInputTensorInfo);
 
+    /**
+     * Load the OpenVINO C library. The direct-mapping binding is used when -Dopenvino.jna.direct=true.
+     *
+     * @param path Path of the library, or null for the default name of the current system.
+     * @return The binding.
+     */
     static VINO load(String path) {
+        return load(path, Boolean.getBoolean("openvino.jna.direct"));
+    }
+
+    /**
+     * Load the OpenVINO C library.
+     *
+     * @param path   Path of the library, or null for the default name of the current system.
+     * @param direct true to bind the per-inference calls with JNA direct mapping, see DirectVINO.
+     * @return The binding.
+     */
+    static VINO load(String path, boolean direct) {
         int osType = SystemUtils.getSystemType();
         if (StringUtils.isNullOrEmpty(path)) {
             switch (osType) {
@@ -1315,6 +1416,9 @@ public interface VINO extends Library {
                     throw new UnsupportedOperationException("The current API does not support your operating system");
             }
         }
+        if (direct) {
+            return new DirectVINO(path);
+        }
         VINO vino = Native.loadLibrary(path, VINO.class);
         return vino;
     }
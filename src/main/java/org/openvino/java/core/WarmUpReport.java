@@ -0,0 +1,106 @@
+package org.openvino.java.core;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latencies of a warm up, one per iteration and request, showing how the first inferences converge to steady state.
+ */
+public final class WarmUpReport {
+
+    /**
+     * Latencies in nanoseconds, indexed by iteration and request.
+     */
+    private final long[][] latencies;
+
+    WarmUpReport(long[][] latencies) {
+        this.latencies = latencies;
+    }
+
+    public int getIterations() {
+        return latencies.length;
+    }
+
+    public int getRequests() {
+        return latencies.length == 0 ? 0 : latencies[0].length;
+    }
+
+    /**
+     * Get the latency of one inference.
+     *
+     * @param iteration The iteration.
+     * @param request   The index of the request.
+     * @param unit      The unit of the result.
+     * @return The latency.
+     */
+    public long getLatency(int iteration, int request, TimeUnit unit) {
+        return unit.convert(latencies[iteration][request], TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Get the mean latency of each iteration over the requests.
+     *
+     * @param unit The unit of the result.
+     * @return The latency curve, one value per iteration.
+     */
+    public long[] getLatencyCurve(TimeUnit unit) {
+        long[] curve = new long[latencies.length];
+        for (int i = 0; i < curve.length; i++) {
+            curve[i] = unit.convert(mean(latencies[i]), TimeUnit.NANOSECONDS);
+        }
+        return curve;
+    }
+
+    /**
+     * Get the mean latency of the first iteration.
+     *
+     * @param unit The unit of the result.
+     * @return The first latency, 0 without iterations.
+     */
+    public long getFirstLatency(TimeUnit unit) {
+        return latencies.length == 0 ? 0 : unit.convert(mean(latencies[0]), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Get the median latency of the second half of the iterations, an estimate of the steady state.
+     *
+     * @param unit The unit of the result.
+     * @return The steady state latency, 0 without iterations.
+     */
+    public long getSteadyLatency(TimeUnit unit) {
+        if (latencies.length == 0) {
+            return 0;
+        }
+        int from = latencies.length / 2;
+        long[] tail = new long[(latencies.length - from) * getRequests()];
+        int n = 0;
+        for (int i = from; i < latencies.length; i++) {
+            for (long latency : latencies[i]) {
+                tail[n++] = latency;
+            }
+        }
+        if (n == 0) {
+            return 0;
+        }
+        Arrays.sort(tail);
+        return unit.convert(tail[n / 2], TimeUnit.NANOSECONDS);
+    }
+
+    private static long mean(long[] values) {
+        if (values.length == 0) {
+            return 0;
+        }
+        long sum = 0;
+        for (long value : values) {
+            sum += value;
+        }
+        return sum / values.length;
+    }
+
+    @Override
+    public String toString() {
+        return "WarmUpReport{iterations=" + getIterations() + ", requests=" + getRequests()
+                + ", curveMicros=" + Arrays.toString(getLatencyCurve(TimeUnit.MICROSECONDS))
+                + ", steadyMicros=" + getSteadyLatency(TimeUnit.MICROSECONDS) + '}';
+    }
+}
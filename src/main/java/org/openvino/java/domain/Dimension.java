@@ -1,18 +1,29 @@
 package org.openvino.java.domain;
 
-import org.openvino.java.OpenVINO;
-
 /**
  * Class representing a dimension, which may be dynamic (undetermined until runtime),in a shape or shape-like object.
  * Static dimensions may be implicitly converted from value_type.
  * A dynamic dimension is constructed with Dimension() or Dimension::dynamic().
+ * Immutable; a dimension is static when its lower and upper limits are equal and not negative.
  */
-public class Dimension {
+public final class Dimension {
+
+    /**
+     * The lower inclusive limit for the dimension.
+     */
+    private final long min;
+
+    /**
+     * The upper inclusive limit for the dimension. -1 means unbounded.
+     */
+    private final long max;
 
     /**
-     * The ov_dimension struct.
+     * Construct a fully dynamic dimension.
      */
-    OvDimension mDimension;
+    public Dimension() {
+        this(-1, -1);
+    }
 
     /**
      * Construct a static dimension.
@@ -20,9 +31,7 @@ public class Dimension {
      * @param dimension Value of the dimension.
      */
     public Dimension(long dimension) {
-        mDimension = new OvDimension();
-        mDimension.min = dimension;
-        mDimension.max = dimension;
+        this(dimension, dimension);
     }
 
     /**
@@ -31,7 +40,7 @@ public class Dimension {
      * @param ovDimension The ov_dimension struct.
      */
     public Dimension(OvDimension ovDimension) {
-        this.mDimension = ovDimension;
+        this(ovDimension.min, ovDimension.max);
     }
 
     /**
@@ -41,18 +50,29 @@ public class Dimension {
      * @param max_dimension The upper inclusive limit for the dimension
      */
     public Dimension(long min_dimension, long max_dimension) {
-        mDimension = new OvDimension();
-        mDimension.min = min_dimension;
-        mDimension.max = max_dimension;
+        this.min = min_dimension;
+        this.max = max_dimension;
+    }
+
+    /**
+     * Construct a fully dynamic dimension.
+     *
+     * @return The dimension.
+     */
+    public static Dimension dynamic() {
+        return new Dimension();
     }
 
     /**
      * Get ov_dimension struct.
      *
-     * @return Return ov_dimension struct.
+     * @return Return a new ov_dimension struct.
      */
     public OvDimension getDimension() {
-        return mDimension;
+        OvDimension dimension = new OvDimension();
+        dimension.min = min;
+        dimension.max = max;
+        return dimension;
     }
 
     /**
@@ -61,7 +81,7 @@ public class Dimension {
      * @return Dimension max.
      */
     public long getMax() {
-        return mDimension.max;
+        return max;
     }
 
     /**
@@ -70,7 +90,7 @@ public class Dimension {
      * @return Dimension min.
      */
     public long getMin() {
-        return mDimension.min;
+        return min;
     }
 
     /**
@@ -79,6 +99,31 @@ public class Dimension {
      * @return Boolean, true is dynamic and false is static.
      */
     public boolean isDynamic() {
-        return OpenVINO.getCore().ov_dimension_is_dynamic(mDimension);
+        return min != max || max < 0;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Dimension)) {
+            return false;
+        }
+        Dimension other = (Dimension) o;
+        return min == other.min && max == other.max;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(min) + Long.hashCode(max);
+    }
+
+    @Override
+    public String toString() {
+        if (!isDynamic()) {
+            return String.valueOf(max);
+        }
+        return min <= 0 && max < 0 ? "?" : min + ".." + (max < 0 ? "" : String.valueOf(max));
     }
 }
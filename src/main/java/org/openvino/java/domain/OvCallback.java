@@ -0,0 +1,30 @@
+package org.openvino.java.domain;
+
+import com.sun.jna.Callback;
+import com.sun.jna.Pointer;
+import com.sun.jna.Structure;
+
+/**
+ * Completion callback and arguments for an asynchronous infer request.
+ * The C API keeps a pointer to this structure, so it must stay reachable while the request is alive.
+ */
+@Structure.FieldOrder({"callback_func", "args"})
+public class OvCallback extends Structure {
+
+    /**
+     * The callback func
+     */
+    public CallbackFunc callback_func;
+
+    /**
+     * The args of callback func
+     */
+    public Pointer args;
+
+    /**
+     * Native signature of the callback: void (*)(void* args).
+     */
+    public interface CallbackFunc extends Callback {
+        void invoke(Pointer args);
+    }
+}
@@ -6,6 +6,7 @@ import com.sun.jna.Structure;
 /**
  * This is a structure interface equal to ov::Dimension
  */
+@Structure.FieldOrder({"min", "max"})
 public class OvDimension extends Structure {
 
     /**
@@ -25,4 +26,10 @@ public class OvDimension extends Structure {
     public OvDimension(Pointer pointer) {
         super(pointer);
     }
+
+    /**
+     * ov_dimension_t passed by value.
+     */
+    public static class ByValue extends OvDimension implements Structure.ByValue {
+    }
 }
@@ -1,6 +1,7 @@
 package org.openvino.java.domain;
 
 import com.sun.jna.Pointer;
+import com.sun.jna.Structure;
 
 /**
  * It represents a shape that may be partially or totally dynamic.
@@ -10,7 +11,8 @@ import com.sun.jna.Pointer;
  * Static rank, and static dimensions on all axes.
  * (Informal notation examples: `{1,2,3,4}`, `{6}`, `{}`)
  */
-public class OvPartialShape {
+@Structure.FieldOrder({"rank", "dims"})
+public class OvPartialShape extends Structure {
 
     /**
      * The rank
@@ -22,4 +24,17 @@ public class OvPartialShape {
      */
     public Pointer dims;
 
+    public OvPartialShape() {
+        super();
+    }
+
+    public OvPartialShape(Pointer pointer) {
+        super(pointer);
+    }
+
+    /**
+     * ov_partial_shape_t passed by value.
+     */
+    public static class ByValue extends OvPartialShape implements Structure.ByValue {
+    }
 }
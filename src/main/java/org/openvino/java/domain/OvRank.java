@@ -1,9 +1,12 @@
 package org.openvino.java.domain;
 
+import com.sun.jna.Structure;
+
 /**
  * This is a structure interface equal to ov::Rank
  */
-public class OvRank {
+@Structure.FieldOrder({"min", "max"})
+public class OvRank extends Structure {
 
     /**
      * The lower inclusive limit for the Rank.
@@ -14,4 +17,10 @@ public class OvRank {
      * The upper inclusive limit for the Rank.
      */
     public long max;
+
+    /**
+     * ov_rank_t passed by value.
+     */
+    public static class ByValue extends OvRank implements Structure.ByValue {
+    }
 }
@@ -1,12 +1,32 @@
 package org.openvino.java.domain;
 
+import com.sun.jna.Pointer;
 import com.sun.jna.Structure;
-import com.sun.jna.ptr.LongByReference;
 
+/**
+ * This is a structure interface equal to ov_shape_t.
+ */
 @Structure.FieldOrder({"rank", "dims"})
 public class OvShape extends Structure {
 
     public long rank;
 
-    public LongByReference dims;
+    /**
+     * Pointer to rank int64 dimensions.
+     */
+    public Pointer dims;
+
+    public OvShape() {
+        super();
+    }
+
+    public OvShape(Pointer pointer) {
+        super(pointer);
+    }
+
+    /**
+     * ov_shape_t passed by value.
+     */
+    public static class ByValue extends OvShape implements Structure.ByValue {
+    }
 }
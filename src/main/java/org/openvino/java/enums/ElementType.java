@@ -7,73 +7,96 @@ public enum ElementType {
     /// <summary>
     /// Undefined element type
     /// </summary>
-    undefined,
+    undefined(0),
     /// <summary>
     /// Dynamic element type
     /// </summary>
-    dynamic,
+    dynamic(0),
     /// <summary>
     ///  boolean element type
     /// </summary>
-    bool,
+    bool(8),
     /// <summary>
     ///  bf16 element type
     /// </summary>
-    bf16,
+    bf16(16),
     /// <summary>
     /// f16 element type
     /// </summary>
-    f16,
+    f16(16),
     /// <summary>
     /// f32 element type
     /// </summary>
-    f32,
+    f32(32),
     /// <summary>
     /// f64 element type
     /// </summary>
-    f64,
+    f64(64),
     /// <summary>
     /// i4 element type
     /// </summary>
-    i4,
+    i4(4),
     /// <summary>
     /// i8 element type
     /// </summary>
-    i8,
+    i8(8),
     /// <summary>
     /// i16 element type
     /// </summary>
-    i16,
+    i16(16),
     /// <summary>
     /// i32 element type
     /// </summary>
-    i32,
+    i32(32),
     /// <summary>
     ///  i64 element type
     /// </summary>
-    i64,
+    i64(64),
     /// <summary>
     ///  binary element type
     /// </summary>
-    u1,
+    u1(1),
     /// <summary>
     /// u4 element type
     /// </summary>
-    u4,
+    u4(4),
     /// <summary>
     ///  u8 element type
     /// </summary>
-    u8,
+    u8(8),
     /// <summary>
     /// u16 element type
     /// </summary>
-    u16,
+    u16(16),
     /// <summary>
     /// u32 element type
     /// </summary>
-    u32,
+    u32(32),
     /// <summary>
     /// u64 element type
     /// </summary>
-    u64
+    u64(64);
+
+    /**
+     * Number of bits of one element, 0 for undefined and dynamic.
+     */
+    private final int bitWidth;
+
+    ElementType(int bitWidth) {
+        this.bitWidth = bitWidth;
+    }
+
+    public int getBitWidth() {
+        return bitWidth;
+    }
+
+    /**
+     * Get the number of bytes needed to store a number of elements, rounded up for sub-byte types.
+     *
+     * @param elements Number of elements.
+     * @return The byte size.
+     */
+    public long byteSize(long elements) {
+        return (elements * bitWidth + 7) / 8;
+    }
 }
@@ -26,6 +26,20 @@ public enum ExceptionStatus {
     ,PTR_NULL(-100,"ptr is null!")
     ;
 
+    /**
+     * Statuses by negated code, for the contiguous codes 0 to -17.
+     */
+    private static final ExceptionStatus[] BY_CODE;
+
+    static {
+        BY_CODE = new ExceptionStatus[18];
+        for (ExceptionStatus status : values()) {
+            if (status.code <= 0 && -status.code < BY_CODE.length) {
+                BY_CODE[-status.code] = status;
+            }
+        }
+    }
+
     private int code;
 
     private String msg;
@@ -38,6 +52,19 @@ public enum ExceptionStatus {
         return msg;
     }
 
+    /**
+     * Get the status of a code returned by the C API.
+     *
+     * @param code The status code.
+     * @return The status, or UNKNOW_EXCEPTION for an unknown code.
+     */
+    public static ExceptionStatus fromCode(int code) {
+        if (code <= 0 && code > -BY_CODE.length) {
+            return BY_CODE[-code];
+        }
+        return code == PTR_NULL.code ? PTR_NULL : UNKNOW_EXCEPTION;
+    }
+
     ExceptionStatus(int code, String msg) {
         this.code = code;
         this.msg = msg;
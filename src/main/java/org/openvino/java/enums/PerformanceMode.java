@@ -0,0 +1,19 @@
+package org.openvino.java.enums;
+
+/**
+ * This enum contains the high-level performance hints a device uses to pick its streams, threads and batching.
+ */
+public enum PerformanceMode {
+    /**
+     * Optimize for the lowest latency of a single request
+     */
+    LATENCY,
+    /**
+     * Optimize for the highest throughput of a single compiled model
+     */
+    THROUGHPUT,
+    /**
+     * Optimize for the highest throughput summed over all devices of a multi-device target
+     */
+    CUMULATIVE_THROUGHPUT
+}
@@ -0,0 +1,31 @@
+package org.openvino.java.enums;
+
+/**
+ * This enum contains the keys of commonly used runtime properties.
+ */
+public enum PropertyKey {
+
+    PERFORMANCE_HINT("PERFORMANCE_HINT")
+    ,PERFORMANCE_HINT_NUM_REQUESTS("PERFORMANCE_HINT_NUM_REQUESTS")
+    ,NUM_STREAMS("NUM_STREAMS")
+    ,INFERENCE_NUM_THREADS("INFERENCE_NUM_THREADS")
+    ,INFERENCE_PRECISION_HINT("INFERENCE_PRECISION_HINT")
+    ,ENABLE_CPU_PINNING("ENABLE_CPU_PINNING")
+    ,ENABLE_HYPER_THREADING("ENABLE_HYPER_THREADING")
+    ,SCHEDULING_CORE_TYPE("SCHEDULING_CORE_TYPE")
+    ,CACHE_DIR("CACHE_DIR")
+    ,ENABLE_PROFILING("PERF_COUNT")
+    ,OPTIMAL_NUMBER_OF_INFER_REQUESTS("OPTIMAL_NUMBER_OF_INFER_REQUESTS")
+    ,SUPPORTED_PROPERTIES("SUPPORTED_PROPERTIES")
+    ;
+
+    private String key;
+
+    public String getKey() {
+        return key;
+    }
+
+    PropertyKey(String key) {
+        this.key = key;
+    }
+}
@@ -0,0 +1,19 @@
+package org.openvino.java.enums;
+
+/**
+ * This enum contains the CPU core types inference threads may be scheduled on, on hybrid processors.
+ */
+public enum SchedulingCoreType {
+    /**
+     * Any core type can be used
+     */
+    ANY_CORE,
+    /**
+     * Only performance cores are used
+     */
+    PCORE_ONLY,
+    /**
+     * Only efficient cores are used
+     */
+    ECORE_ONLY
+}
@@ -0,0 +1,16 @@
+package org.openvino.java.exception;
+
+import org.openvino.java.enums.ExceptionStatus;
+
+/**
+ * Thrown when a request is still running a previous inference (REQUEST_BUSY).
+ * Carries no stack trace so it can be used to poll a request cheaply.
+ */
+public class OvBusyException extends OvException {
+
+    private static final long serialVersionUID = 1L;
+
+    public OvBusyException(String source) {
+        super(ExceptionStatus.REQUEST_BUSY, source, true);
+    }
+}
@@ -0,0 +1,77 @@
+package org.openvino.java.exception;
+
+import org.openvino.java.enums.ExceptionStatus;
+
+/**
+ * Thrown when an OpenVINO C API call returns an error status.
+ * The message is built on first access from the status and the type of the object that made the call.
+ */
+public class OvException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final ExceptionStatus status;
+
+    private final String source;
+
+    public OvException(ExceptionStatus status, String source) {
+        this.status = status;
+        this.source = source;
+    }
+
+    /**
+     * Constructs an exception without a stack trace, for statuses that are part of normal control flow.
+     *
+     * @param status The status returned by the call.
+     * @param source Type of the object that made the call.
+     * @param light  true to skip filling in the stack trace.
+     */
+    protected OvException(ExceptionStatus status, String source, boolean light) {
+        super(null, null, !light, !light);
+        this.status = status;
+        this.source = source;
+    }
+
+    /**
+     * Create the exception type matching a status.
+     *
+     * @param status The status returned by the call.
+     * @param source Type of the object that made the call.
+     * @return The exception.
+     */
+    public static OvException of(ExceptionStatus status, String source) {
+        switch (status) {
+            case REQUEST_BUSY:
+                return new OvBusyException(source);
+            case RESULT_NOT_READY:
+                return new OvResultNotReadyException(source);
+            case NOT_FOUND:
+                return new OvNotFoundException(source);
+            case OUT_OF_BOUNDS:
+                return new OvOutOfBoundsException(source);
+            case PARAMETER_MISMATCH:
+            case INVALID_C_PARAM:
+                return new OvParameterMismatchException(status, source);
+            case NOT_IMPLEMENTED:
+            case NOT_IMPLEMENT_C_METHOD:
+                return new OvNotImplementedException(status, source);
+            case INFER_CANCELLED:
+                return new OvInferCancelledException(source);
+            default:
+                return new OvException(status, source);
+        }
+    }
+
+    @Override
+    public String getMessage() {
+        return source + ":" + status.getMsg();
+    }
+
+    public ExceptionStatus getStatus() {
+        return status;
+    }
+
+    public String getSource() {
+        return source;
+    }
+}
@@ -0,0 +1,15 @@
+package org.openvino.java.exception;
+
+import org.openvino.java.enums.ExceptionStatus;
+
+/**
+ * Thrown when an inference was cancelled (INFER_CANCELLED).
+ */
+public class OvInferCancelledException extends OvException {
+
+    private static final long serialVersionUID = 1L;
+
+    public OvInferCancelledException(String source) {
+        super(ExceptionStatus.INFER_CANCELLED, source);
+    }
+}
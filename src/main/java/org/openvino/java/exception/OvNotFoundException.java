@@ -0,0 +1,15 @@
+package org.openvino.java.exception;
+
+import org.openvino.java.enums.ExceptionStatus;
+
+/**
+ * Thrown when a tensor, port or device is not found (NOT_FOUND).
+ */
+public class OvNotFoundException extends OvException {
+
+    private static final long serialVersionUID = 1L;
+
+    public OvNotFoundException(String source) {
+        super(ExceptionStatus.NOT_FOUND, source);
+    }
+}
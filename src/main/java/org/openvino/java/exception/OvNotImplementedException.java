@@ -0,0 +1,15 @@
+package org.openvino.java.exception;
+
+import org.openvino.java.enums.ExceptionStatus;
+
+/**
+ * Thrown when the plugin or the C API does not implement a call (NOT_IMPLEMENTED, NOT_IMPLEMENT_C_METHOD).
+ */
+public class OvNotImplementedException extends OvException {
+
+    private static final long serialVersionUID = 1L;
+
+    public OvNotImplementedException(ExceptionStatus status, String source) {
+        super(status, source);
+    }
+}
@@ -0,0 +1,15 @@
+package org.openvino.java.exception;
+
+import org.openvino.java.enums.ExceptionStatus;
+
+/**
+ * Thrown when an index is out of bounds (OUT_OF_BOUNDS).
+ */
+public class OvOutOfBoundsException extends OvException {
+
+    private static final long serialVersionUID = 1L;
+
+    public OvOutOfBoundsException(String source) {
+        super(ExceptionStatus.OUT_OF_BOUNDS, source);
+    }
+}
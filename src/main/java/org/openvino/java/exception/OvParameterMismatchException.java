@@ -0,0 +1,15 @@
+package org.openvino.java.exception;
+
+import org.openvino.java.enums.ExceptionStatus;
+
+/**
+ * Thrown when an argument does not match what the call expects (PARAMETER_MISMATCH, INVALID_C_PARAM).
+ */
+public class OvParameterMismatchException extends OvException {
+
+    private static final long serialVersionUID = 1L;
+
+    public OvParameterMismatchException(ExceptionStatus status, String source) {
+        super(status, source);
+    }
+}
@@ -0,0 +1,16 @@
+package org.openvino.java.exception;
+
+import org.openvino.java.enums.ExceptionStatus;
+
+/**
+ * Thrown when the results of an inference are not available yet (RESULT_NOT_READY).
+ * Carries no stack trace so it can be used to poll a request cheaply.
+ */
+public class OvResultNotReadyException extends OvException {
+
+    private static final long serialVersionUID = 1L;
+
+    public OvResultNotReadyException(String source) {
+        super(ExceptionStatus.RESULT_NOT_READY, source, true);
+    }
+}
@@ -2,6 +2,7 @@ package org.openvino.java.preprocess;
 
 import com.sun.jna.ptr.PointerByReference;
 import org.openvino.java.base.OpenVINOCls;
+import org.openvino.java.core.VINO;
 
 /**
  * Class holding preprocessing information for one input
@@ -19,6 +20,7 @@ public class InputInfo extends OpenVINOCls {
      */
     public InputInfo(PointerByReference ptr) {
         super("InputInfo", ptr);
+        registerCleaner(VINO::ov_preprocess_input_info_free);
     }
 
     @Override
@@ -2,6 +2,7 @@ package org.openvino.java.preprocess;
 
 import com.sun.jna.ptr.PointerByReference;
 import org.openvino.java.base.OpenVINOCls;
+import org.openvino.java.core.VINO;
 import org.openvino.java.core.Layout;
 
 /**
@@ -20,6 +21,7 @@ public class InputModelInfo extends OpenVINOCls {
      */
     public InputModelInfo(PointerByReference ptr) {
         super("InputModelInfo", ptr);
+        registerCleaner(VINO::ov_preprocess_input_model_info_free);
     }
 
     @Override
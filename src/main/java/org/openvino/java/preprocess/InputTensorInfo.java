@@ -2,6 +2,7 @@ package org.openvino.java.preprocess;
 
 import com.sun.jna.ptr.PointerByReference;
 import org.openvino.java.base.OpenVINOCls;
+import org.openvino.java.core.VINO;
 import org.openvino.java.core.Layout;
 import org.openvino.java.core.Tensor;
 import org.openvino.java.enums.ColorFormat;
@@ -21,6 +22,7 @@ public class InputTensorInfo extends OpenVINOCls {
      */
     public InputTensorInfo(PointerByReference ptr) {
         super("InputTensorInfo", ptr);
+        registerCleaner(VINO::ov_preprocess_input_tensor_info_free);
     }
 
     @Override
@@ -2,6 +2,7 @@ package org.openvino.java.preprocess;
 
 import com.sun.jna.ptr.PointerByReference;
 import org.openvino.java.base.OpenVINOCls;
+import org.openvino.java.core.VINO;
 
 /**
  * Class holding postprocessing information for one output
@@ -19,6 +20,7 @@ public class OutputInfo extends OpenVINOCls {
      */
     public OutputInfo(PointerByReference ptr) {
         super("OutputInfo", ptr);
+        registerCleaner(VINO::ov_preprocess_output_info_free);
     }
 
     @Override
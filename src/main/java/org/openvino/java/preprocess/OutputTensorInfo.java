@@ -2,6 +2,7 @@ package org.openvino.java.preprocess;
 
 import com.sun.jna.ptr.PointerByReference;
 import org.openvino.java.base.OpenVINOCls;
+import org.openvino.java.core.VINO;
 import org.openvino.java.enums.ElementType;
 
 /**
@@ -18,6 +19,7 @@ public class OutputTensorInfo extends OpenVINOCls {
      */
     public OutputTensorInfo(PointerByReference ptr) {
         super("OutputTensorInfo", ptr);
+        registerCleaner(VINO::ov_preprocess_output_tensor_info_free);
     }
 
     @Override
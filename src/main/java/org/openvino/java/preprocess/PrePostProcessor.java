@@ -3,6 +3,7 @@ package org.openvino.java.preprocess;
 import com.sun.jna.ptr.PointerByReference;
 import org.openvino.java.base.OpenVINOCls;
 import org.openvino.java.core.Model;
+import org.openvino.java.core.VINO;
 
 /**
  * Main class for adding pre- and post- processing steps to existing ov::Model
@@ -21,6 +22,7 @@ public class PrePostProcessor extends OpenVINOCls {
     public PrePostProcessor(Model model) {
         super("PrePostProcessor");
         getVino().ov_preprocess_prepostprocessor_create(model.getValue(), getVinoObj());
+        registerCleaner(VINO::ov_preprocess_prepostprocessor_free);
     }
 
     @Override
@@ -5,6 +5,7 @@ import com.sun.jna.Pointer;
 import com.sun.jna.ptr.IntByReference;
 import com.sun.jna.ptr.PointerByReference;
 import org.openvino.java.base.OpenVINOCls;
+import org.openvino.java.core.VINO;
 import org.openvino.java.core.Layout;
 import org.openvino.java.enums.ColorFormat;
 import org.openvino.java.enums.ElementType;
@@ -27,6 +28,7 @@ public class PreProcessSteps extends OpenVINOCls {
      */
     public PreProcessSteps(PointerByReference ptr) {
         super("PreProcessSteps", ptr);
+        registerCleaner(VINO::ov_preprocess_preprocess_steps_free);
     }
 
     @Override
@@ -0,0 +1,95 @@
+package org.openvino.java.base;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+public class NativeCleanerTest {
+
+    private boolean leakTracking;
+
+    @Before
+    public void setUp() {
+        leakTracking = NativeCleaner.isLeakTracking();
+        NativeCleaner.setLeakTracking(true);
+    }
+
+    @After
+    public void tearDown() {
+        NativeCleaner.setLeakTracking(leakTracking);
+    }
+
+    @Test
+    public void releasesUnreachableObjects() throws InterruptedException {
+        CountDownLatch released = new CountDownLatch(1);
+        register(released, false);
+
+        assertTrue(collect(released, 50));
+    }
+
+    @Test
+    public void discardedRegistrationIsNotReleased() throws InterruptedException {
+        CountDownLatch released = new CountDownLatch(1);
+        Object owner = new Object();
+        NativeCleaner.Cleanable cleanable = NativeCleaner.register(owner, "test", released::countDown);
+
+        cleanable.discard();
+        owner = null;
+
+        assertFalse(collect(released, 5));
+    }
+
+    @Test
+    public void expectedReleaseIsNotAnUnreleasedLeak() {
+        Object owner = new Object();
+        List<Throwable> before = NativeCleaner.getUnreleased();
+        NativeCleaner.Cleanable cleanable = NativeCleaner.register(owner, "test", () -> {
+        });
+        List<Throwable> sites = NativeCleaner.getUnreleased();
+        sites.removeAll(before);
+        assertEquals(1, sites.size());
+
+        cleanable.expect();
+
+        assertFalse(NativeCleaner.getUnreleased().contains(sites.get(0)));
+        cleanable.discard();
+        assertNotNull(owner);
+    }
+
+    @Test
+    public void expectedReleaseStillRuns() throws InterruptedException {
+        CountDownLatch released = new CountDownLatch(1);
+        register(released, true);
+
+        assertTrue(collect(released, 50));
+    }
+
+    /**
+     * Register an object that becomes unreachable when this method returns.
+     */
+    private static void register(CountDownLatch released, boolean expected) {
+        NativeCleaner.Cleanable cleanable = NativeCleaner.register(new Object(), "test", released::countDown);
+        if (expected) {
+            cleanable.expect();
+        }
+    }
+
+    private static boolean collect(CountDownLatch released, int attempts) throws InterruptedException {
+        for (int i = 0; i < attempts; i++) {
+            System.gc();
+            if (released.await(100, TimeUnit.MILLISECONDS)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
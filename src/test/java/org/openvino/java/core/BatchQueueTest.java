@@ -0,0 +1,160 @@
+package org.openvino.java.core;
+
+import org.junit.Test;
+import org.openvino.java.core.BatchQueue.Job;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class BatchQueueTest {
+
+    private static Job job(long... dims) {
+        return new Job(new Tensor[1], new long[][]{dims});
+    }
+
+    private static BatchQueue queue(int maxBatchSize, Job... jobs) {
+        BatchQueue queue = new BatchQueue(maxBatchSize, 0);
+        for (Job job : jobs) {
+            assertTrue(queue.add(job));
+        }
+        return queue;
+    }
+
+    @Test
+    public void batchesAreBoundedByMaxBatchSize() throws InterruptedException {
+        Job a = job(1, 3), b = job(1, 3), c = job(1, 3), d = job(1, 3), e = job(1, 3);
+        BatchQueue queue = queue(2, a, b, c, d, e);
+
+        assertEquals(Arrays.asList(a, b), queue.collect());
+        assertEquals(Arrays.asList(c, d), queue.collect());
+        assertEquals(Arrays.asList(e), queue.collect());
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    public void sampleOfAnotherShapeStartsTheNextBatch() throws InterruptedException {
+        Job a = job(1, 3), b = job(1, 3), c = job(1, 4), d = job(1, 3), e = job(1, 3);
+        BatchQueue queue = queue(8, a, b, c, d, e);
+
+        assertEquals(Arrays.asList(a, b), queue.collect());
+        assertEquals(Arrays.asList(c), queue.collect());
+        assertEquals(Arrays.asList(d, e), queue.collect());
+    }
+
+    @Test
+    public void samplesBatchOnlyWhenEveryInputHasTheSameShape() {
+        Job a = new Job(new Tensor[2], new long[][]{{1, 3}, {1, 2}});
+
+        assertTrue(a.batchesWith(new Job(new Tensor[2], new long[][]{{1, 3}, {1, 2}})));
+        assertFalse(a.batchesWith(new Job(new Tensor[2], new long[][]{{1, 3}, {1, 5}})));
+        assertFalse(a.batchesWith(new Job(new Tensor[2], new long[][]{{1, 3}, {1, 2, 1}})));
+    }
+
+    @Test
+    public void completedSamplesAreSkipped() throws InterruptedException {
+        Job a = job(1), b = job(1), c = job(1), d = job(2);
+        BatchQueue queue = queue(8, a, b, c, d);
+        a.future.cancel(false);
+        c.future.cancel(false);
+        d.future.cancel(false);
+
+        assertEquals(Arrays.asList(b), queue.collect());
+        // the carried sample is skipped as well
+        queue.close();
+        assertNull(queue.collect());
+    }
+
+    @Test
+    public void waitsForMoreSamplesUntilTheBatchIsFull() throws Exception {
+        BatchQueue queue = new BatchQueue(2, TimeUnit.SECONDS.toNanos(10));
+        Job a = job(1), b = job(1);
+        queue.add(a);
+        CompletableFuture<List<Job>> batch = collectAsync(queue);
+
+        Thread.sleep(20);
+        assertFalse(batch.isDone());
+        queue.add(b);
+
+        assertEquals(Arrays.asList(a, b), batch.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void oldestSampleWaitsAtMostMaxDelay() throws InterruptedException {
+        BatchQueue queue = new BatchQueue(8, TimeUnit.MILLISECONDS.toNanos(50));
+        Job a = job(1);
+        queue.add(a);
+
+        assertEquals(Arrays.asList(a), queue.collect());
+        assertTrue(System.nanoTime() - a.enqueued >= TimeUnit.MILLISECONDS.toNanos(50));
+    }
+
+    @Test
+    public void closedQueueIsDrainedBeforeCollectReturnsNull() throws InterruptedException {
+        Job a = job(1), b = job(2);
+        BatchQueue queue = queue(8, a, b);
+
+        assertTrue(queue.close());
+        assertFalse(queue.close());
+        assertFalse(queue.add(job(1)));
+        assertEquals(Arrays.asList(a), queue.collect());
+        assertEquals(Arrays.asList(b), queue.collect());
+        assertNull(queue.collect());
+    }
+
+    @Test
+    public void closeWakesAnIdleCollect() throws Exception {
+        BatchQueue queue = new BatchQueue(8, 0);
+        CompletableFuture<List<Job>> batch = collectAsync(queue);
+
+        queue.close();
+
+        assertNull(batch.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void failCompletesTheCarriedAndQueuedSamples() throws InterruptedException {
+        Job a = job(1), b = job(2), c = job(1);
+        BatchQueue queue = queue(8, a, b, c);
+        assertEquals(Arrays.asList(a), queue.collect());
+
+        RuntimeException cause = new RuntimeException("stop");
+        queue.fail(cause);
+
+        assertFalse(a.future.isDone());
+        assertFailedWith(cause, b.future);
+        assertFailedWith(cause, c.future);
+        assertEquals(0, queue.size());
+    }
+
+    private static CompletableFuture<List<Job>> collectAsync(BatchQueue queue) {
+        CompletableFuture<List<Job>> batch = new CompletableFuture<>();
+        Thread thread = new Thread(() -> {
+            try {
+                batch.complete(queue.collect());
+            } catch (Throwable e) {
+                batch.completeExceptionally(e);
+            }
+        });
+        thread.setDaemon(true);
+        thread.start();
+        return batch;
+    }
+
+    private static void assertFailedWith(Throwable cause, CompletableFuture<Tensor[]> future) throws InterruptedException {
+        try {
+            future.get();
+            fail("the future completed normally");
+        } catch (ExecutionException e) {
+            assertEquals(cause, e.getCause());
+        }
+    }
+}
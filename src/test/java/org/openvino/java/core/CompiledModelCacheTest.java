@@ -0,0 +1,208 @@
+package org.openvino.java.core;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class CompiledModelCacheTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private FakeModelLoader loader;
+
+    private Path models;
+
+    private Path cacheDir;
+
+    @Before
+    public void setUp() throws IOException {
+        loader = new FakeModelLoader();
+        models = folder.newFolder("models").toPath();
+        cacheDir = folder.getRoot().toPath().resolve("cache");
+    }
+
+    private CompiledModelCache cache(String version, long maxBytes) {
+        return new CompiledModelCache(loader, version, cacheDir, maxBytes);
+    }
+
+    @Test
+    public void missCompilesAndHitImports() throws IOException {
+        String model = FakeModelLoader.modelFile(models, "a.onnx", "a");
+        CompiledModelCache cache = cache("1", 1 << 20);
+
+        cache.compiledModel(model, "CPU");
+        cache.compiledModel(model, "CPU");
+
+        assertEquals(1, loader.compiled.size());
+        assertEquals(1, loader.imported.size());
+        assertEquals(1, cache.getMisses());
+        assertEquals(1, cache.getHits());
+    }
+
+    @Test
+    public void keyCoversModelDevicePropertiesAndVersion() throws IOException {
+        String model = FakeModelLoader.modelFile(models, "a.onnx", "a");
+        CompiledModelCache cache = cache("1", 1 << 20);
+
+        cache.compiledModel(model, "CPU");
+        cache.compiledModel(model, "GPU");
+        cache.compiledModel(model, "CPU", new Properties().numStreams(2));
+        cache("2", 1 << 20).compiledModel(model, "CPU");
+        rewrite(model, "b");
+        cache.compiledModel(model, "CPU");
+
+        assertEquals(5, loader.compiled.size());
+        assertEquals(0, loader.imported.size());
+    }
+
+    @Test
+    public void keyCoversTheWeightsOfAnIr() throws IOException {
+        String model = FakeModelLoader.modelFile(models, "a.xml", "<net/>");
+        FakeModelLoader.modelFile(models, "a.bin", "1");
+        CompiledModelCache cache = cache("1", 1 << 20);
+
+        cache.compiledModel(model, "CPU");
+        rewrite(models.resolve("a.bin").toString(), "2");
+        cache.compiledModel(model, "CPU");
+
+        assertEquals(2, loader.compiled.size());
+    }
+
+    @Test
+    public void fileHashIsRememberedWhileTheFileIsUnchanged() throws IOException {
+        String model = FakeModelLoader.modelFile(models, "a.onnx", "a");
+        Path path = Paths.get(model);
+        FileTime lastModified = Files.getLastModifiedTime(path);
+        CompiledModelCache cache = cache("1", 1 << 20);
+        cache.compiledModel(model, "CPU");
+
+        // same size and time: the remembered hash is used and the file is not read
+        Files.write(path, "b".getBytes(StandardCharsets.UTF_8));
+        Files.setLastModifiedTime(path, lastModified);
+        cache.compiledModel(model, "CPU");
+        assertEquals(1, loader.compiled.size());
+
+        Files.setLastModifiedTime(path, FileTime.fromMillis(lastModified.toMillis() + 2_000));
+        cache.compiledModel(model, "CPU");
+        assertEquals(2, loader.compiled.size());
+    }
+
+    @Test
+    public void keyIgnoresThePropertyOrder() throws IOException {
+        String model = FakeModelLoader.modelFile(models, "a.onnx", "a");
+        CompiledModelCache cache = cache("1", 1 << 20);
+
+        cache.compiledModel(model, "CPU", new Properties().numStreams(2).set("INFERENCE_NUM_THREADS", "4"));
+        cache.compiledModel(model, "CPU", new Properties().set("INFERENCE_NUM_THREADS", "4").numStreams(2));
+
+        assertEquals(1, loader.compiled.size());
+        assertEquals(1, loader.imported.size());
+    }
+
+    @Test
+    public void truncatedBlobIsRecompiled() throws IOException {
+        String model = FakeModelLoader.modelFile(models, "a.onnx", "a");
+        CompiledModelCache cache = cache("1", 1 << 20);
+        cache.compiledModel(model, "CPU");
+
+        Path blob = blobs().values().iterator().next();
+        Files.write(blob, new byte[10]);
+        cache.compiledModel(model, "CPU");
+
+        assertEquals(2, loader.compiled.size());
+        assertEquals(0, loader.imported.size());
+        assertEquals(100, Files.size(blobs().values().iterator().next()));
+    }
+
+    @Test
+    public void evictsTheLeastRecentlyUsedBlob() throws IOException {
+        String a = FakeModelLoader.modelFile(models, "a.onnx", "a");
+        String b = FakeModelLoader.modelFile(models, "b.onnx", "b");
+        String c = FakeModelLoader.modelFile(models, "c.onnx", "c");
+        CompiledModelCache cache = cache("1", 250);
+        cache.compiledModel(a, "CPU");
+        cache.compiledModel(b, "CPU");
+        Map<String, Path> blobs = blobs();
+        Files.setLastModifiedTime(blobs.get(a), FileTime.fromMillis(1_000));
+        Files.setLastModifiedTime(blobs.get(b), FileTime.fromMillis(2_000));
+
+        // the hit makes a the most recently used
+        cache.compiledModel(a, "CPU");
+        cache.compiledModel(c, "CPU");
+
+        blobs = blobs();
+        assertTrue(blobs.containsKey(a));
+        assertFalse(blobs.containsKey(b));
+        assertTrue(blobs.containsKey(c));
+        assertEquals(2, blobs.size());
+    }
+
+    @Test
+    public void keepsTheNewBlobAlsoWhenItExceedsTheBudget() throws IOException {
+        String a = FakeModelLoader.modelFile(models, "a.onnx", "a");
+        CompiledModelCache cache = cache("1", 50);
+
+        cache.compiledModel(a, "CPU");
+
+        assertTrue(blobs().containsKey(a));
+    }
+
+    @Test
+    public void clearRemovesEveryEntry() throws IOException {
+        String a = FakeModelLoader.modelFile(models, "a.onnx", "a");
+        CompiledModelCache cache = cache("1", 1 << 20);
+        cache.compiledModel(a, "CPU");
+
+        cache.clear();
+
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(cacheDir)) {
+            assertFalse(stream.iterator().hasNext());
+        }
+    }
+
+    /**
+     * Replace the content of a file and move its modification time forward.
+     */
+    private static void rewrite(String file, String content) throws IOException {
+        Path path = Paths.get(file);
+        FileTime lastModified = Files.getLastModifiedTime(path);
+        Files.write(path, content.getBytes(StandardCharsets.UTF_8));
+        Files.setLastModifiedTime(path, FileTime.fromMillis(lastModified.toMillis() + 2_000));
+    }
+
+    /**
+     * The cached blobs by model path.
+     */
+    private Map<String, Path> blobs() throws IOException {
+        Map<String, Path> blobs = new HashMap<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(cacheDir, "*.blob")) {
+            for (Path blob : stream) {
+                String name = blob.getFileName().toString();
+                Path meta = blob.resolveSibling(name.substring(0, name.length() - ".blob".length()) + ".meta");
+                java.util.Properties entry = new java.util.Properties();
+                try (InputStream in = Files.newInputStream(meta)) {
+                    entry.load(in);
+                }
+                blobs.put(entry.getProperty("model"), blob);
+            }
+        }
+        return blobs;
+    }
+}
@@ -0,0 +1,99 @@
+package org.openvino.java.core;
+
+import com.sun.jna.Pointer;
+import com.sun.jna.ptr.IntByReference;
+import com.sun.jna.ptr.PointerByReference;
+import org.junit.Test;
+import org.openvino.java.domain.OvShape;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Compares the cost per call of the interface-mapped binding and DirectVINO on calls made for every inference.
+ * Both bindings call the same native objects, so the difference is the JNA dispatch.
+ * Not part of the default test run, run it with
+ * mvn test -Dtest=DirectVINOBenchmark -Dopenvino.library=... -Dopenvino.test.model=...
+ */
+public class DirectVINOBenchmark {
+
+    private static final int ROUNDS = 5;
+
+    private static final int DATA_CALLS = 1_000_000;
+
+    private static final int INFERENCES = 200;
+
+    @Test
+    public void compareBindings() {
+        String library = NativeRuntime.library();
+        String model = NativeRuntime.model();
+        VINO proxy = VINO.load(library, false);
+        VINO direct = VINO.load(library, true);
+
+        PointerByReference out = new PointerByReference();
+        assertEquals(0, proxy.ov_core_create(out));
+        Pointer core = out.getValue();
+        assertEquals(0, proxy.ov_core_compile_model_from_file(core, model, NativeRuntime.device(), 0, out));
+        Pointer compiledModel = out.getValue();
+        assertEquals(0, proxy.ov_compiled_model_create_infer_request(compiledModel, out));
+        Pointer request = out.getValue();
+        assertEquals(0, proxy.ov_infer_request_get_input_tensor_by_index(request, 0, out));
+        Pointer tensor = out.getValue();
+        assertEquals(0, proxy.ov_compiled_model_input_by_index(compiledModel, 0, out));
+        Pointer port = out.getValue();
+        assertEquals(0, proxy.ov_port_get_any_name(port, out));
+        String name = out.getValue().getString(0);
+        proxy.ov_free(out.getValue());
+        proxy.ov_output_const_port_free(port);
+        try {
+            PointerByReference data = new PointerByReference();
+            IntByReference type = new IntByReference();
+            OvShape shape = new OvShape();
+            compare("ov_tensor_data", DATA_CALLS, proxy, direct, vino -> vino.ov_tensor_data(tensor, data));
+            compare("ov_tensor_get_element_type", DATA_CALLS, proxy, direct,
+                    vino -> vino.ov_tensor_get_element_type(tensor, type));
+            compare("ov_tensor_get_shape", DATA_CALLS, proxy, direct, vino -> {
+                int status = vino.ov_tensor_get_shape(tensor, shape);
+                vino.ov_shape_free(shape.getPointer());
+                return status;
+            });
+            compare("ov_infer_request_get_tensor", DATA_CALLS, proxy, direct, vino -> {
+                int status = vino.ov_infer_request_get_tensor(request, name, out);
+                vino.ov_tensor_free(out.getValue());
+                return status;
+            });
+            compare("ov_infer_request_infer", INFERENCES, proxy, direct, vino -> vino.ov_infer_request_infer(request));
+        } finally {
+            proxy.ov_tensor_free(tensor);
+            proxy.ov_infer_request_free(request);
+            proxy.ov_compiled_model_free(compiledModel);
+            proxy.ov_core_free(core);
+        }
+    }
+
+    private static void compare(String name, int calls, VINO proxy, VINO direct, Call call) {
+        // the first rounds warm up both bindings, the best round is reported
+        long proxyNanos = Long.MAX_VALUE;
+        long directNanos = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            proxyNanos = Math.min(proxyNanos, nanosPerCall(proxy, calls, call));
+            directNanos = Math.min(directNanos, nanosPerCall(direct, calls, call));
+        }
+        System.out.printf("%s: proxy %d ns, direct %d ns, saved %d ns per call%n",
+                name, proxyNanos, directNanos, proxyNanos - directNanos);
+    }
+
+    private static long nanosPerCall(VINO vino, int calls, Call call) {
+        long start = System.nanoTime();
+        for (int i = 0; i < calls; i++) {
+            if (call.run(vino) != 0) {
+                throw new IllegalStateException("call failed");
+            }
+        }
+        return (System.nanoTime() - start) / calls;
+    }
+
+    @FunctionalInterface
+    private interface Call {
+        int run(VINO vino);
+    }
+}
@@ -0,0 +1,80 @@
+package org.openvino.java.core;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A ModelLoader returning compiled models without a native handle, recording what was compiled and imported.
+ * The models export a blob of blobSize bytes.
+ */
+class FakeModelLoader implements ModelLoader {
+
+    final List<String> compiled = Collections.synchronizedList(new ArrayList<>());
+
+    final List<Path> imported = Collections.synchronizedList(new ArrayList<>());
+
+    final List<FakeModel> models = Collections.synchronizedList(new ArrayList<>());
+
+    volatile int blobSize = 100;
+
+    @Override
+    public CompiledModel compiledModel(String modelPath, String deviceName, Properties properties) {
+        compiled.add(modelPath);
+        FakeModel model = new FakeModel(modelPath, blobSize);
+        models.add(model);
+        return model;
+    }
+
+    @Override
+    public CompiledModel importModel(Path blobPath, String deviceName) {
+        imported.add(blobPath);
+        FakeModel model = new FakeModel(blobPath.toString(), blobSize);
+        models.add(model);
+        return model;
+    }
+
+    /**
+     * Write a model file with the given content.
+     */
+    static String modelFile(Path dir, String name, String content) throws IOException {
+        Path file = dir.resolve(name);
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        return file.toString();
+    }
+
+    /**
+     * A compiled model without a native handle. Closing it only records the close.
+     */
+    static final class FakeModel extends CompiledModel {
+
+        final String source;
+
+        private final int blobSize;
+
+        FakeModel(String source, int blobSize) {
+            super(null);
+            this.source = source;
+            this.blobSize = blobSize;
+        }
+
+        @Override
+        public void exportModel(String modelPath) {
+            try {
+                Files.write(Paths.get(modelPath), new byte[blobSize]);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        protected void dispose() {
+        }
+    }
+}
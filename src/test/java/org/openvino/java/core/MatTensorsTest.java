@@ -0,0 +1,78 @@
+package org.openvino.java.core;
+
+import com.sun.jna.Memory;
+import org.junit.Test;
+import org.opencv.core.CvType;
+import org.openvino.java.enums.ElementType;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class MatTensorsTest {
+
+    private static final int[] DEPTHS = {
+            CvType.CV_8U, CvType.CV_8S, CvType.CV_16U, CvType.CV_16S,
+            CvType.CV_32S, CvType.CV_32F, CvType.CV_64F, CvType.CV_16F
+    };
+
+    private static Memory rows(byte[] bytes) {
+        Memory memory = new Memory(bytes.length);
+        memory.write(0, bytes, 0, bytes.length);
+        return memory;
+    }
+
+    @Test
+    public void depthsMapToTheElementTypeOfTheSameLayout() {
+        assertEquals(ElementType.u8, MatTensors.elementType(CvType.CV_8U));
+        assertEquals(ElementType.i8, MatTensors.elementType(CvType.CV_8S));
+        assertEquals(ElementType.u16, MatTensors.elementType(CvType.CV_16U));
+        assertEquals(ElementType.i16, MatTensors.elementType(CvType.CV_16S));
+        assertEquals(ElementType.i32, MatTensors.elementType(CvType.CV_32S));
+        assertEquals(ElementType.f32, MatTensors.elementType(CvType.CV_32F));
+        assertEquals(ElementType.f64, MatTensors.elementType(CvType.CV_64F));
+        assertEquals(ElementType.f16, MatTensors.elementType(CvType.CV_16F));
+    }
+
+    @Test
+    public void elementSizesMatchTheMatElementSizes() {
+        for (int depth : DEPTHS) {
+            assertEquals("depth " + depth, CvType.ELEM_SIZE(CvType.makeType(depth, 1)),
+                    MatTensors.elementType(depth).byteSize(1));
+        }
+    }
+
+    @Test
+    public void theDepthOfAMultiChannelTypeMaps() {
+        assertEquals(ElementType.u8, MatTensors.elementType(CvType.depth(CvType.CV_8UC3)));
+        assertEquals(ElementType.f32, MatTensors.elementType(CvType.depth(CvType.CV_32FC4)));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void aMultiChannelTypeIsNotADepth() {
+        MatTensors.elementType(CvType.CV_8UC3);
+    }
+
+    @Test
+    public void packedRowsAreCopiedAsTheyAre() {
+        byte[] pixels = {1, 2, 3, 4, 5, 6};
+        ByteBuffer dst = ByteBuffer.allocate(6);
+
+        MatTensors.copyRows(rows(pixels), 3, 3, 2, dst);
+
+        assertArrayEquals(pixels, dst.array());
+        assertEquals(6, dst.position());
+    }
+
+    @Test
+    public void paddedRowsAreCopiedWithoutTheirPadding() {
+        // 3 rows of 2 pixels in a region of a 4 pixel wide frame
+        byte[] frame = {1, 2, 0, 0, 3, 4, 0, 0, 5, 6};
+        ByteBuffer dst = ByteBuffer.allocate(6);
+
+        MatTensors.copyRows(rows(frame), 4, 2, 3, dst);
+
+        assertArrayEquals(new byte[]{1, 2, 3, 4, 5, 6}, dst.array());
+    }
+}
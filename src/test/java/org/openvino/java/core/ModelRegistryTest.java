@@ -0,0 +1,245 @@
+package org.openvino.java.core;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class ModelRegistryTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final FakeModelLoader loader = new FakeModelLoader();
+
+    /**
+     * A registry of the models a, b and c of 100 bytes each.
+     */
+    private ModelRegistry registry(long maxBytes) {
+        ModelRegistry registry = new ModelRegistry(loader, null, maxBytes);
+        for (String name : Arrays.asList("a", "b", "c")) {
+            registry.register(name, name + ".onnx", "CPU", null, 100);
+        }
+        return registry;
+    }
+
+    private static LinkedHashSet<String> names(String... names) {
+        return new LinkedHashSet<>(Arrays.asList(names));
+    }
+
+    @Test
+    public void residentModelIsLoadedOnce() {
+        ModelRegistry registry = registry(1000);
+
+        CompiledModel first;
+        try (ModelRegistry.Lease lease = registry.acquire("a")) {
+            first = lease.getCompiledModel();
+            assertEquals("a", lease.getName());
+        }
+        try (ModelRegistry.Lease lease = registry.acquire("a")) {
+            assertSame(first, lease.getCompiledModel());
+        }
+
+        assertEquals(Arrays.asList("a.onnx"), loader.compiled);
+        assertEquals(1, registry.getLoads());
+        assertEquals(1, registry.getHits());
+        assertEquals(100, registry.getResidentBytes());
+        assertTrue(registry.isResident("a"));
+        assertFalse(registry.isResident("b"));
+    }
+
+    @Test
+    public void registrationIsChecked() {
+        ModelRegistry registry = registry(1000);
+        try {
+            registry.register("a", "other.onnx", "CPU", null, 100);
+            fail();
+        } catch (IllegalArgumentException expected) {
+        }
+        try {
+            registry.acquire("d");
+            fail();
+        } catch (IllegalArgumentException expected) {
+        }
+        assertEquals(names("a", "b", "c"), registry.getNames());
+    }
+
+    @Test
+    public void estimatesTheMemoryByTheModelFiles() throws IOException {
+        String model = FakeModelLoader.modelFile(folder.getRoot().toPath(), "m.xml", "12345");
+        FakeModelLoader.modelFile(folder.getRoot().toPath(), "m.bin", "1234567890");
+        ModelRegistry registry = new ModelRegistry(loader, null, 1000);
+        registry.register("m", model, "CPU", null);
+
+        registry.acquire("m").close();
+
+        assertEquals(15, registry.getResidentBytes());
+    }
+
+    @Test
+    public void evictsTheLeastRecentlyUsedModel() {
+        ModelRegistry registry = registry(250);
+        registry.acquire("a").close();
+        registry.acquire("b").close();
+        // the hit makes a the most recently used
+        registry.acquire("a").close();
+        assertEquals(names("b", "a"), registry.getResidentNames());
+
+        registry.acquire("c").close();
+
+        assertEquals(names("a", "c"), registry.getResidentNames());
+        assertEquals(1, registry.getEvictions());
+        assertEquals(200, registry.getResidentBytes());
+        assertTrue(loader.models.get(1).isClosed());
+        assertFalse(loader.models.get(0).isClosed());
+    }
+
+    @Test
+    public void leasedModelsAreNotEvicted() {
+        ModelRegistry registry = registry(250);
+        ModelRegistry.Lease a = registry.acquire("a");
+        registry.acquire("b").close();
+
+        registry.acquire("c").close();
+
+        assertEquals(names("a", "c"), registry.getResidentNames());
+        assertFalse(a.getCompiledModel().isClosed());
+        a.close();
+    }
+
+    @Test
+    public void budgetIsSoftWhileModelsAreLeased() {
+        ModelRegistry registry = registry(150);
+        ModelRegistry.Lease a = registry.acquire("a");
+        ModelRegistry.Lease b = registry.acquire("b");
+        ModelRegistry.Lease c = registry.acquire("c");
+        assertEquals(300, registry.getResidentBytes());
+
+        // the models over budget go as soon as their last lease is closed
+        a.close();
+        assertEquals(names("b", "c"), registry.getResidentNames());
+        ModelRegistry.Lease c2 = registry.acquire("c");
+        c.close();
+        assertEquals(names("b", "c"), registry.getResidentNames());
+        b.close();
+        assertEquals(names("c"), registry.getResidentNames());
+        assertEquals(100, registry.getResidentBytes());
+        assertEquals(2, registry.getEvictions());
+        c2.close();
+    }
+
+    @Test
+    public void closingALeaseTwiceCountsOnce() {
+        ModelRegistry registry = registry(150);
+        ModelRegistry.Lease a = registry.acquire("a");
+        ModelRegistry.Lease a2 = registry.acquire("a");
+        a.close();
+        a.close();
+
+        // a is still leased by a2, so b cannot stay
+        registry.acquire("b").close();
+
+        assertEquals(names("a"), registry.getResidentNames());
+        a2.close();
+        try {
+            a.getCompiledModel();
+            fail();
+        } catch (IllegalStateException expected) {
+        }
+    }
+
+    @Test
+    public void closeReleasesLeasedModelsWhenTheirLeasesAreClosed() {
+        ModelRegistry registry = registry(1000);
+        ModelRegistry.Lease a = registry.acquire("a");
+        registry.acquire("b").close();
+
+        registry.close();
+
+        CompiledModel modelA = loader.models.get(0);
+        CompiledModel modelB = loader.models.get(1);
+        assertFalse(modelA.isClosed());
+        assertTrue(modelB.isClosed());
+        assertEquals(0, registry.getResidentBytes());
+        a.close();
+        assertTrue(modelA.isClosed());
+        try {
+            registry.acquire("a");
+            fail();
+        } catch (IllegalStateException expected) {
+        }
+    }
+
+    @Test
+    public void releasedModelsAreImportedFromTheCache() throws IOException {
+        CompiledModelCache cache = new CompiledModelCache(loader, "1", folder.newFolder("cache").toPath(), 1 << 20);
+        ModelRegistry registry = new ModelRegistry(loader, cache, 150);
+        registry.register("a", FakeModelLoader.modelFile(folder.getRoot().toPath(), "a.onnx", "a"), "CPU", null, 100);
+        registry.register("b", FakeModelLoader.modelFile(folder.getRoot().toPath(), "b.onnx", "b"), "CPU", null, 100);
+
+        registry.acquire("a").close();
+        registry.acquire("b").close();
+        registry.acquire("a").close();
+
+        assertEquals(2, loader.compiled.size());
+        assertEquals(1, loader.imported.size());
+        assertEquals(3, registry.getLoads());
+        assertEquals(2, registry.getEvictions());
+    }
+
+    @Test
+    public void concurrentFirstUsesWaitForOneLoad() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        FakeModelLoader slow = new FakeModelLoader() {
+            @Override
+            public CompiledModel compiledModel(String modelPath, String deviceName, Properties properties) {
+                loading.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+                return super.compiledModel(modelPath, deviceName, properties);
+            }
+        };
+        ModelRegistry registry = new ModelRegistry(slow, null, 1000);
+        registry.register("a", "a.onnx", "CPU", null, 100);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<CompiledModel> first = executor.submit(() -> {
+                try (ModelRegistry.Lease lease = registry.acquire("a")) {
+                    return lease.getCompiledModel();
+                }
+            });
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+            Future<CompiledModel> second = executor.submit(() -> {
+                try (ModelRegistry.Lease lease = registry.acquire("a")) {
+                    return lease.getCompiledModel();
+                }
+            });
+            release.countDown();
+
+            assertSame(first.get(5, TimeUnit.SECONDS), second.get(5, TimeUnit.SECONDS));
+            assertEquals(1, slow.compiled.size());
+            assertEquals(1, registry.getLoads());
+            assertEquals(1, registry.getHits());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
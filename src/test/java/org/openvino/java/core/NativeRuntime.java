@@ -0,0 +1,41 @@
+package org.openvino.java.core;
+
+import org.junit.Assume;
+
+/**
+ * Location of the OpenVINO C library and of a test model, given as system properties.
+ * Tests needing the native runtime are skipped when they are not set, e.g.
+ * mvn test -Dopenvino.library=/opt/intel/openvino/runtime/lib/intel64/libopenvino_c.so -Dopenvino.test.model=model.xml
+ */
+final class NativeRuntime {
+
+    private NativeRuntime() {
+    }
+
+    /**
+     * @return The path of the OpenVINO C library, or skips the test.
+     */
+    static String library() {
+        return property("openvino.library");
+    }
+
+    /**
+     * @return The path of a model with static input shapes, or skips the test.
+     */
+    static String model() {
+        return property("openvino.test.model");
+    }
+
+    /**
+     * @return The device to compile the test model for, CPU by default.
+     */
+    static String device() {
+        return System.getProperty("openvino.test.device", "CPU");
+    }
+
+    private static String property(String key) {
+        String value = System.getProperty(key);
+        Assume.assumeTrue(key + " is not set", value != null && !value.isEmpty());
+        return value;
+    }
+}
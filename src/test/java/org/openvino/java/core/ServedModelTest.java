@@ -0,0 +1,181 @@
+package org.openvino.java.core;
+
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class ServedModelTest {
+
+    private final FakeModelLoader loader = new FakeModelLoader() {
+        @Override
+        public CompiledModel compiledModel(String modelPath, String deviceName, Properties properties) {
+            if (modelPath.startsWith("bad")) {
+                throw new IllegalStateException("cannot compile " + modelPath);
+            }
+            return super.compiledModel(modelPath, deviceName, properties);
+        }
+    };
+
+    /**
+     * A served model without warm up, reloading on the calling thread.
+     */
+    private ServedModel served(String modelPath) {
+        return new ServedModel(loader, modelPath, "CPU", null, 0, 0, InputGenerator.zeros(), Runnable::run);
+    }
+
+    @Test
+    public void servesTheFirstVersion() {
+        ServedModel served = served("v1.onnx");
+
+        assertEquals(1, served.getVersion());
+        assertEquals("v1.onnx", served.getModelPath());
+        assertTrue(served.isReady());
+        try (ServedModel.Lease lease = served.acquire()) {
+            assertEquals(1, lease.getVersion());
+            assertSame(loader.models.get(0), lease.getCompiledModel());
+        }
+    }
+
+    @Test
+    public void reloadWithoutLeasesReleasesTheOldVersion() {
+        ServedModel served = served("v1.onnx");
+
+        served.reload("v2.onnx").join();
+
+        assertEquals(2, served.getVersion());
+        assertEquals("v2.onnx", served.getModelPath());
+        assertTrue(loader.models.get(0).isClosed());
+        assertFalse(loader.models.get(1).isClosed());
+        assertEquals(0, served.getDrainingCount());
+    }
+
+    @Test
+    public void leasedVersionDrainsAfterAReload() {
+        ServedModel served = served("v1.onnx");
+        ServedModel.Lease old = served.acquire();
+        ServedModel.Lease old2 = served.acquire();
+
+        served.reload("v2.onnx").join();
+
+        assertEquals(1, served.getDrainingCount());
+        assertEquals(1, old.getVersion());
+        try (ServedModel.Lease lease = served.acquire()) {
+            assertEquals(2, lease.getVersion());
+        }
+        old.close();
+        old.close();
+        assertFalse(loader.models.get(0).isClosed());
+        assertEquals(1, served.getDrainingCount());
+        old2.close();
+        assertTrue(loader.models.get(0).isClosed());
+        assertEquals(0, served.getDrainingCount());
+        try {
+            old.getCompiledModel();
+            fail();
+        } catch (IllegalStateException expected) {
+        }
+    }
+
+    @Test
+    public void reloadWithoutPathRecompilesTheServedFile() {
+        ServedModel served = served("v1.onnx");
+
+        served.reload().join();
+
+        assertEquals(2, served.getVersion());
+        assertEquals("v1.onnx", served.getModelPath());
+        assertEquals(2, loader.compiled.size());
+    }
+
+    @Test
+    public void failedReloadKeepsTheServingVersion() throws InterruptedException {
+        ServedModel served = served("v1.onnx");
+
+        CompletableFuture<Void> reload = served.reload("bad.onnx");
+
+        try {
+            reload.get();
+            fail();
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+        assertEquals(1, served.getVersion());
+        assertTrue(served.isReady());
+        assertFalse(loader.models.get(0).isClosed());
+    }
+
+    @Test
+    public void closeWaitsForTheLeases() {
+        ServedModel served = served("v1.onnx");
+        ServedModel.Lease lease = served.acquire();
+
+        served.close();
+
+        assertFalse(served.isReady());
+        assertEquals(1, served.getDrainingCount());
+        assertFalse(loader.models.get(0).isClosed());
+        lease.close();
+        assertTrue(loader.models.get(0).isClosed());
+        assertEquals(0, served.getDrainingCount());
+        try {
+            served.acquire();
+            fail();
+        } catch (IllegalStateException expected) {
+        }
+        assertTrue(served.reload("v2.onnx").isCompletedExceptionally());
+        assertEquals(1, loader.compiled.size());
+    }
+
+    @Test
+    public void reloadsRunOneAtATime() throws Exception {
+        CountDownLatch compiling = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        FakeModelLoader slow = new FakeModelLoader() {
+            @Override
+            public CompiledModel compiledModel(String modelPath, String deviceName, Properties properties) {
+                if (modelPath.equals("v2.onnx")) {
+                    compiling.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        throw new RuntimeException(e);
+                    }
+                }
+                return super.compiledModel(modelPath, deviceName, properties);
+            }
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            ServedModel served = new ServedModel(slow, "v1.onnx", "CPU", null, 0, 0, InputGenerator.zeros(), executor);
+            CompletableFuture<Void> second = served.reload("v2.onnx");
+            assertTrue(compiling.await(5, TimeUnit.SECONDS));
+            CompletableFuture<Void> third = served.reload("v3.onnx");
+            Thread.sleep(20);
+            // v3 waits for the reload to v2
+            assertEquals(Collections.singletonList("v1.onnx"), slow.compiled);
+            release.countDown();
+
+            CompletableFuture.allOf(second, third).get(5, TimeUnit.SECONDS);
+
+            assertEquals(3, served.getVersion());
+            assertEquals("v3.onnx", served.getModelPath());
+            assertTrue(slow.models.get(0).isClosed());
+            assertTrue(slow.models.get(1).isClosed());
+            assertFalse(slow.models.get(2).isClosed());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
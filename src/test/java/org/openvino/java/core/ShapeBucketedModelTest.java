@@ -0,0 +1,137 @@
+package org.openvino.java.core;
+
+import org.junit.Test;
+import org.openvino.java.domain.Dimension;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+public class ShapeBucketedModelTest {
+
+    /**
+     * Token ids and a mask of a dynamic batch and sequence length, up to 512 tokens.
+     */
+    private static Map<String, PartialShape> inputs() {
+        Map<String, PartialShape> inputs = new LinkedHashMap<>();
+        inputs.put("ids", new PartialShape(new Dimension[]{Dimension.dynamic(), Dimension.dynamic()}));
+        inputs.put("mask", new PartialShape(new Dimension[]{new Dimension(1, 8), new Dimension(1, 512)}));
+        return inputs;
+    }
+
+    private static Map<String, Shape> bucket(long[] ids, long[] mask) {
+        Map<String, Shape> bucket = new LinkedHashMap<>();
+        bucket.put("ids", new Shape(ids));
+        bucket.put("mask", new Shape(mask));
+        return bucket;
+    }
+
+    private static Map<String, long[]> dims(long[] ids, long[] mask) {
+        Map<String, long[]> dims = new LinkedHashMap<>();
+        dims.put("ids", ids);
+        dims.put("mask", mask);
+        return dims;
+    }
+
+    @Test
+    public void bucketsAlongAxisKeepTheSizeOrder() {
+        List<Map<String, Shape>> buckets = ShapeBucketedModel.bucketsAlongAxis(inputs(), 1, 128, 32, 64);
+
+        assertEquals(Arrays.asList(
+                bucket(new long[]{1, 128}, new long[]{1, 128}),
+                bucket(new long[]{1, 32}, new long[]{1, 32}),
+                bucket(new long[]{1, 64}, new long[]{1, 64})), buckets);
+    }
+
+    @Test
+    public void bucketsAlongAxisFixOtherDimensionsToTheirLowerBound() {
+        Map<String, PartialShape> inputs = new LinkedHashMap<>();
+        inputs.put("image", new PartialShape(new Dimension[]{Dimension.dynamic(), new Dimension(3), new Dimension(224, 448), new Dimension(0, 448)}));
+
+        List<Map<String, Shape>> buckets = ShapeBucketedModel.bucketsAlongAxis(inputs, 0, 4);
+
+        assertEquals(new Shape(4, 3, 224, 1), buckets.get(0).get("image"));
+    }
+
+    @Test
+    public void bucketsAlongAxisRejectAMissingAxis() {
+        Map<String, PartialShape> inputs = inputs();
+        inputs.put("scale", new PartialShape(new Dimension[]{new Dimension(1)}));
+        try {
+            ShapeBucketedModel.bucketsAlongAxis(inputs, 1, 32);
+            fail();
+        } catch (IllegalArgumentException expected) {
+        }
+        inputs.put("scale", new PartialShape(Dimension.dynamic(), new Dimension[0]));
+        try {
+            ShapeBucketedModel.bucketsAlongAxis(inputs, 0, 32);
+            fail();
+        } catch (IllegalArgumentException expected) {
+        }
+    }
+
+    @Test
+    public void bucketsAreSortedByTheirElements() {
+        Map<String, Shape> large = bucket(new long[]{1, 128}, new long[]{1, 128});
+        Map<String, Shape> small = bucket(new long[]{1, 32}, new long[]{1, 32});
+        // as many elements as wide, kept after it
+        Map<String, Shape> tall = bucket(new long[]{2, 32}, new long[]{1, 32});
+        Map<String, Shape> wide = bucket(new long[]{1, 64}, new long[]{1, 32});
+
+        List<Map<String, Shape>> buckets = ShapeBucketedModel.sortBuckets(
+                Arrays.asList(large, wide, small, tall), inputs().keySet());
+
+        assertEquals(Arrays.asList(small, wide, tall, large), buckets);
+    }
+
+    @Test
+    public void bucketsMustCoverTheInputs() {
+        Map<String, Shape> bucket = Collections.singletonMap("ids", new Shape(1, 32));
+        try {
+            ShapeBucketedModel.sortBuckets(Collections.singletonList(bucket), inputs().keySet());
+            fail();
+        } catch (IllegalArgumentException expected) {
+        }
+    }
+
+    @Test
+    public void selectsTheSmallestBucketTheInputsFitInto() {
+        List<Map<String, Shape>> buckets = ShapeBucketedModel.sortBuckets(
+                ShapeBucketedModel.bucketsAlongAxis(inputs(), 1, 128, 32, 64), inputs().keySet());
+
+        assertSame(buckets.get(0), ShapeBucketedModel.selectBucket(buckets, dims(new long[]{1, 32}, new long[]{1, 32})));
+        assertSame(buckets.get(1), ShapeBucketedModel.selectBucket(buckets, dims(new long[]{1, 33}, new long[]{1, 33})));
+        assertSame(buckets.get(2), ShapeBucketedModel.selectBucket(buckets, dims(new long[]{1, 128}, new long[]{1, 1})));
+    }
+
+    @Test
+    public void selectBucketSkipsBucketsOfAnotherRank() {
+        Map<String, Shape> flat = bucket(new long[]{64}, new long[]{64});
+        Map<String, Shape> matrix = bucket(new long[]{1, 64}, new long[]{1, 64});
+        List<Map<String, Shape>> buckets = Arrays.asList(flat, matrix);
+
+        assertSame(matrix, ShapeBucketedModel.selectBucket(buckets, dims(new long[]{1, 10}, new long[]{1, 10})));
+        assertSame(flat, ShapeBucketedModel.selectBucket(buckets, dims(new long[]{10}, new long[]{10})));
+    }
+
+    @Test
+    public void selectBucketRejectsInputsThatFitNoBucket() {
+        List<Map<String, Shape>> buckets = ShapeBucketedModel.bucketsAlongAxis(inputs(), 1, 32, 64);
+        try {
+            ShapeBucketedModel.selectBucket(buckets, dims(new long[]{1, 65}, new long[]{1, 65}));
+            fail();
+        } catch (IllegalArgumentException expected) {
+        }
+        try {
+            ShapeBucketedModel.selectBucket(buckets, Collections.singletonMap("ids", new long[]{1, 8}));
+            fail();
+        } catch (IllegalArgumentException expected) {
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package org.openvino.java.core;
+
+import org.junit.Assume;
+import org.junit.Test;
+import org.openvino.java.OpenVINO;
+import org.openvino.java.enums.ElementType;
+
+import java.lang.management.ManagementFactory;
+import java.nio.FloatBuffer;
+
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks that the steady-state inference loop of the direct binding does not allocate on the Java heap:
+ * filling an input, running the request and reading an output through a kept view reuse the cached handles and tensors.
+ * Needs the native runtime and a model with one f32 input and a f32 output, see NativeRuntime.
+ */
+public class SteadyStateAllocationTest {
+
+    private static final int WARM_UP = 2_000;
+
+    private static final int ITERATIONS = 1_000;
+
+    /**
+     * Bytes the measurement itself may allocate, less than one object per hundred iterations.
+     */
+    private static final long SLACK = 256;
+
+    @Test
+    public void inferenceLoopDoesNotAllocate() {
+        String library = NativeRuntime.library();
+        String model = NativeRuntime.model();
+        Assume.assumeTrue("thread allocation counters are not available",
+                ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue("thread allocation counters are not enabled", threads.isThreadAllocatedMemoryEnabled());
+
+        OpenVINO.load(library, true);
+        try (Core core = new Core();
+             CompiledModel compiledModel = core.compiledModel(model, NativeRuntime.device());
+             InferRequest request = compiledModel.createInferRequest()) {
+            Tensor input = request.getInputTensor(0);
+            Tensor output = request.getOutputTensor(0);
+            Assume.assumeTrue("the model needs a f32 input and output",
+                    input.getElementType() == ElementType.f32 && output.getElementType() == ElementType.f32);
+            float[] data = new float[(int) input.getSize()];
+            FloatBuffer result = output.asFloatBuffer();
+
+            float sink = 0;
+            for (int i = 0; i < WARM_UP; i++) {
+                sink += run(request, input, result, data);
+            }
+            long thread = Thread.currentThread().getId();
+            long before = threads.getThreadAllocatedBytes(thread);
+            for (int i = 0; i < ITERATIONS; i++) {
+                sink += run(request, input, result, data);
+            }
+            long allocated = threads.getThreadAllocatedBytes(thread) - before;
+
+            assertTrue("allocated " + allocated + " bytes in " + ITERATIONS + " iterations (" + sink + ")",
+                    allocated <= SLACK);
+        }
+    }
+
+    private static float run(InferRequest request, Tensor input, FloatBuffer result, float[] data) {
+        input.setData(data);
+        request.infer();
+        return result.get(0);
+    }
+}
@@ -0,0 +1,88 @@
+package org.openvino.java.core;
+
+import com.sun.jna.Pointer;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Runs on JNA memory only, the OpenVINO runtime is not needed.
+ */
+public class TensorArenaTest {
+
+    private static long address(Pointer pointer) {
+        return Pointer.nativeValue(pointer);
+    }
+
+    @Test
+    public void sizesAreRoundedUpToTheAlignment() {
+        assertEquals(0, TensorArena.align(0));
+        assertEquals(64, TensorArena.align(1));
+        assertEquals(64, TensorArena.align(64));
+        assertEquals(128, TensorArena.align(65));
+        assertEquals(64, TensorArena.allocationSize(0));
+        assertEquals(64, TensorArena.allocationSize(63));
+        assertEquals(192, TensorArena.allocationSize(129));
+    }
+
+    @Test
+    public void allocationsAreAlignedAndPacked() {
+        try (TensorArena arena = new TensorArena(1024)) {
+            Pointer a = arena.allocate(10);
+            Pointer b = arena.allocate(100);
+            Pointer c = arena.allocate(0);
+
+            assertEquals(0, address(a) % TensorArena.ALIGNMENT);
+            assertEquals(address(a) + 64, address(b));
+            assertEquals(address(b) + 128, address(c));
+            assertEquals(256, arena.getUsed());
+            assertEquals(1, arena.getSlabCount());
+        }
+    }
+
+    @Test
+    public void aFullSlabStartsANewOne() {
+        try (TensorArena arena = new TensorArena(100)) {
+            // the slab size is aligned up to 128
+            Pointer a = arena.allocate(64);
+            Pointer b = arena.allocate(64);
+            Pointer c = arena.allocate(1);
+
+            assertEquals(address(a) + 64, address(b));
+            assertEquals(0, address(c) % TensorArena.ALIGNMENT);
+            assertEquals(2, arena.getSlabCount());
+            assertEquals(256, arena.getCapacity());
+        }
+    }
+
+    @Test
+    public void largeAllocationsGetADedicatedSlab() {
+        try (TensorArena arena = new TensorArena(128)) {
+            arena.allocate(1000);
+
+            assertEquals(1, arena.getSlabCount());
+            assertEquals(1024, arena.getCapacity());
+            assertEquals(1024, arena.getUsed());
+        }
+    }
+
+    @Test
+    public void resetReusesTheSlabs() {
+        try (TensorArena arena = new TensorArena(256)) {
+            Pointer first = arena.allocate(200);
+            arena.allocate(200);
+            arena.reset();
+
+            assertEquals(0, arena.getUsed());
+            assertEquals(first, arena.allocate(200));
+            assertEquals(2, arena.getSlabCount());
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void aClosedArenaRejectsAllocations() {
+        TensorArena arena = new TensorArena(256);
+        arena.close();
+        arena.allocate(1);
+    }
+}
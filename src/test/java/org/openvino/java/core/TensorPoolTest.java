@@ -0,0 +1,119 @@
+package org.openvino.java.core;
+
+import org.junit.Test;
+import org.openvino.java.enums.ElementType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class TensorPoolTest {
+
+    private final List<String> released = new ArrayList<>();
+
+    @Test
+    public void returnedValuesAreTakenBackByTheirKey() {
+        IdleSet<String, String> idle = new IdleSet<>(4, 100);
+
+        assertTrue(idle.offer("a", "a1", 10, released));
+        assertTrue(idle.offer("b", "b1", 20, released));
+
+        assertNull(idle.poll("c"));
+        assertEquals("b1", idle.poll("b"));
+        assertNull(idle.poll("b"));
+        assertEquals(1, idle.size());
+        assertEquals(10, idle.bytes());
+    }
+
+    @Test
+    public void theMostRecentlyReturnedValueOfAKeyIsTakenFirst() {
+        IdleSet<String, String> idle = new IdleSet<>(4, 100);
+        idle.offer("a", "a1", 10, released);
+        idle.offer("a", "a2", 10, released);
+
+        assertEquals("a2", idle.poll("a"));
+        assertEquals("a1", idle.poll("a"));
+        assertEquals(0, idle.bytes());
+    }
+
+    @Test
+    public void valuesPastMaxPerKeyAreNotKept() {
+        IdleSet<String, String> idle = new IdleSet<>(2, 100);
+
+        assertTrue(idle.offer("a", "a1", 10, released));
+        assertTrue(idle.offer("a", "a2", 10, released));
+        assertFalse(idle.offer("a", "a3", 10, released));
+        assertTrue(idle.offer("b", "b1", 10, released));
+
+        assertEquals(3, idle.size());
+        assertEquals(Collections.emptyList(), released);
+        assertEquals(0, idle.evictions());
+    }
+
+    @Test
+    public void leastRecentlyReturnedValuesAreEvictedToStayWithinTheBudget() {
+        IdleSet<String, String> idle = new IdleSet<>(4, 100);
+        idle.offer("a", "a1", 40, released);
+        idle.offer("b", "b1", 40, released);
+        idle.offer("a", "a2", 10, released);
+
+        assertTrue(idle.offer("c", "c1", 70, released));
+
+        assertEquals(Arrays.asList("a1", "b1"), released);
+        assertEquals(2, idle.evictions());
+        assertEquals(80, idle.bytes());
+        assertEquals("a2", idle.poll("a"));
+        assertNull(idle.poll("b"));
+    }
+
+    @Test
+    public void aValueLargerThanTheBudgetEvictsNothing() {
+        IdleSet<String, String> idle = new IdleSet<>(4, 100);
+        idle.offer("a", "a1", 40, released);
+
+        assertFalse(idle.offer("b", "b1", 101, released));
+
+        assertEquals(Collections.emptyList(), released);
+        assertEquals(40, idle.bytes());
+    }
+
+    @Test
+    public void clearReleasesEveryValueInReturnOrder() {
+        IdleSet<String, String> idle = new IdleSet<>(4, 100);
+        idle.offer("b", "b1", 10, released);
+        idle.offer("a", "a1", 10, released);
+        idle.offer("b", "b2", 10, released);
+
+        idle.clear(released);
+
+        assertEquals(Arrays.asList("b1", "a1", "b2"), released);
+        assertEquals(0, idle.size());
+        assertEquals(0, idle.bytes());
+        assertNull(idle.poll("b"));
+    }
+
+    @Test
+    public void tensorsArePooledByElementTypeAndShape() {
+        TensorPool.Key key = new TensorPool.Key(ElementType.f32, new Shape(1, 3, 2));
+
+        assertEquals(key, new TensorPool.Key(ElementType.f32, new Shape(1, 3, 2)));
+        assertEquals(key.hashCode(), new TensorPool.Key(ElementType.f32, new Shape(1, 3, 2)).hashCode());
+        assertNotEquals(key, new TensorPool.Key(ElementType.i32, new Shape(1, 3, 2)));
+        assertNotEquals(key, new TensorPool.Key(ElementType.f32, new Shape(1, 6)));
+    }
+
+    @Test
+    public void pooledTensorsAreCountedByTheirByteSize() {
+        assertEquals(24, new TensorPool.Key(ElementType.f32, new Shape(1, 3, 2)).byteSize());
+        assertEquals(6, new TensorPool.Key(ElementType.u8, new Shape(1, 3, 2)).byteSize());
+        // sub-byte types round up to whole bytes
+        assertEquals(3, new TensorPool.Key(ElementType.u4, new Shape(1, 5)).byteSize());
+    }
+}
@@ -0,0 +1,101 @@
+package org.openvino.java.core;
+
+import com.sun.jna.Memory;
+import org.junit.Test;
+import org.openvino.java.enums.ElementType;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class TensorTest {
+
+    @Test
+    public void aBatchItemIsAContiguousView() {
+        SliceLayout layout = SliceLayout.of(ElementType.f32, new long[]{4, 3, 2}, 0, 2, 3);
+
+        assertTrue(layout.contiguous);
+        assertArrayEquals(new long[]{1, 3, 2}, layout.dims);
+        assertEquals(2 * 3 * 2 * 4, layout.offset);
+        assertEquals(3 * 2 * 4, layout.rangeBytes);
+    }
+
+    @Test
+    public void aRangeAfterUnitAxesIsAContiguousView() {
+        SliceLayout layout = SliceLayout.of(ElementType.u8, new long[]{1, 1, 10, 3}, 2, 4, 7);
+
+        assertTrue(layout.contiguous);
+        assertArrayEquals(new long[]{1, 1, 3, 3}, layout.dims);
+        assertEquals(12, layout.offset);
+        assertEquals(9, layout.rangeBytes);
+    }
+
+    @Test
+    public void aWholeAxisIsAContiguousView() {
+        SliceLayout layout = SliceLayout.of(ElementType.i64, new long[]{2, 5}, 1, 0, 5);
+
+        assertTrue(layout.contiguous);
+        assertEquals(0, layout.offset);
+        assertEquals(80, layout.rangeBytes);
+    }
+
+    @Test
+    public void aRangeOfAnInnerAxisIsCopiedBlockByBlock() {
+        SliceLayout layout = SliceLayout.of(ElementType.f32, new long[]{2, 4, 3}, 1, 1, 3);
+
+        assertFalse(layout.contiguous);
+        assertArrayEquals(new long[]{2, 2, 3}, layout.dims);
+        assertEquals(2, layout.blocks);
+        assertEquals(4 * 3 * 4, layout.blockBytes);
+        assertEquals(3 * 4, layout.offset);
+        assertEquals(2 * 3 * 4, layout.rangeBytes);
+    }
+
+    @Test
+    public void anEmptyRangeHasNoBytes() {
+        SliceLayout layout = SliceLayout.of(ElementType.f32, new long[]{3, 2}, 0, 3, 3);
+
+        assertArrayEquals(new long[]{0, 2}, layout.dims);
+        assertEquals(0, layout.rangeBytes);
+    }
+
+    @Test
+    public void subByteRangesMustStartOnAByte() {
+        assertEquals(1, SliceLayout.of(ElementType.u4, new long[]{4, 1}, 0, 2, 4).offset);
+        try {
+            SliceLayout.of(ElementType.u4, new long[]{4, 1}, 0, 1, 2);
+            fail("expected UnsupportedOperationException");
+        } catch (UnsupportedOperationException expected) {
+        }
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void subByteBlocksMustCoverWholeBytes() {
+        // the range starts on a byte but each block copy would end in the middle of one
+        SliceLayout.of(ElementType.u4, new long[]{2, 4}, 1, 0, 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void theAxisMustExist() {
+        SliceLayout.of(ElementType.f32, new long[]{2, 3}, 2, 0, 1);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void theRangeMustFitTheAxis() {
+        SliceLayout.of(ElementType.f32, new long[]{2, 3}, 1, 2, 4);
+    }
+
+    @Test
+    public void memoryIsCopiedBetweenOffsets() {
+        Memory src = new Memory(8);
+        Memory dst = new Memory(8);
+        src.write(0, new byte[]{1, 2, 3, 4, 5, 6, 7, 8}, 0, 8);
+        dst.clear();
+
+        Tensor.copyMemory(src, 2, dst, 4, 3);
+
+        assertArrayEquals(new byte[]{0, 0, 0, 0, 3, 4, 5, 0}, dst.getByteArray(0, 8));
+    }
+}
@@ -0,0 +1,70 @@
+package org.openvino.java.core;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class WarmUpReportTest {
+
+    @Test
+    public void latencyCurveIsTheMeanOfEachIteration() {
+        WarmUpReport report = new WarmUpReport(new long[][]{
+                {9_000, 11_000},
+                {4_000, 6_000},
+                {2_000, 2_000}});
+
+        assertEquals(3, report.getIterations());
+        assertEquals(2, report.getRequests());
+        assertEquals(6, report.getLatency(1, 1, TimeUnit.MICROSECONDS));
+        assertArrayEquals(new long[]{10, 5, 2}, report.getLatencyCurve(TimeUnit.MICROSECONDS));
+        assertEquals(10, report.getFirstLatency(TimeUnit.MICROSECONDS));
+    }
+
+    @Test
+    public void steadyLatencyIsTheMedianOfTheSecondHalf() {
+        WarmUpReport report = new WarmUpReport(new long[][]{
+                {100},
+                {50},
+                {7},
+                {3},
+                {5}});
+
+        // iterations 2 to 4: 7, 3 and 5
+        assertEquals(5, report.getSteadyLatency(TimeUnit.NANOSECONDS));
+    }
+
+    @Test
+    public void steadyLatencyOfAnEvenCountIsTheUpperMedian() {
+        WarmUpReport report = new WarmUpReport(new long[][]{
+                {1_000, 1_000},
+                {30, 10},
+                {20, 40}});
+
+        // iteration 1 and 2: 10, 20, 30 and 40
+        assertEquals(30, report.getSteadyLatency(TimeUnit.NANOSECONDS));
+    }
+
+    @Test
+    public void emptyReport() {
+        WarmUpReport report = new WarmUpReport(new long[0][]);
+
+        assertEquals(0, report.getIterations());
+        assertEquals(0, report.getRequests());
+        assertEquals(0, report.getLatencyCurve(TimeUnit.NANOSECONDS).length);
+        assertEquals(0, report.getFirstLatency(TimeUnit.NANOSECONDS));
+        assertEquals(0, report.getSteadyLatency(TimeUnit.NANOSECONDS));
+    }
+
+    @Test
+    public void reportWithoutRequests() {
+        WarmUpReport report = new WarmUpReport(new long[][]{{}, {}});
+
+        assertEquals(2, report.getIterations());
+        assertEquals(0, report.getRequests());
+        assertArrayEquals(new long[]{0, 0}, report.getLatencyCurve(TimeUnit.NANOSECONDS));
+        assertEquals(0, report.getSteadyLatency(TimeUnit.NANOSECONDS));
+    }
+}
@@ -0,0 +1,24 @@
+package org.openvino.java.enums;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertSame;
+
+public class ExceptionStatusTest {
+
+    @Test
+    public void fromCodeFindsEveryStatus() {
+        for (ExceptionStatus status : ExceptionStatus.values()) {
+            assertSame(status, ExceptionStatus.fromCode(status.getCode()));
+        }
+    }
+
+    @Test
+    public void fromCodeMapsUnknownCodes() {
+        assertSame(ExceptionStatus.UNKNOW_EXCEPTION, ExceptionStatus.fromCode(1));
+        assertSame(ExceptionStatus.UNKNOW_EXCEPTION, ExceptionStatus.fromCode(-18));
+        assertSame(ExceptionStatus.UNKNOW_EXCEPTION, ExceptionStatus.fromCode(-99));
+        assertSame(ExceptionStatus.UNKNOW_EXCEPTION, ExceptionStatus.fromCode(Integer.MIN_VALUE));
+        assertSame(ExceptionStatus.UNKNOW_EXCEPTION, ExceptionStatus.fromCode(Integer.MAX_VALUE));
+    }
+}